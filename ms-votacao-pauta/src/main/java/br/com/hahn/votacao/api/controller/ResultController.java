@@ -2,13 +2,26 @@ package br.com.hahn.votacao.api.controller;
 
 import br.com.hahn.votacao.api.controller.base.BaseController;
 import br.com.hahn.votacao.domain.dto.context.ServiceRequestContext;
+import br.com.hahn.votacao.domain.dto.request.BulkResultRequestDTO;
+import br.com.hahn.votacao.domain.dto.response.BulkResultResponseDTO;
 import br.com.hahn.votacao.domain.dto.response.ResultExistsResponseDTO;
-import br.com.hahn.votacao.domain.dto.response.ResultResponseDTO;
+import br.com.hahn.votacao.domain.dto.response.ResultStreamUpdateDTO;
 import br.com.hahn.votacao.domain.service.ResultService;
+import br.com.hahn.votacao.domain.service.ResultStreamService;
+import br.com.hahn.votacao.infrastructure.cache.ResultResponseCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 /**
  * Controller responsavel por gerencia as operações relacionadas ao resultado das votações,
  * inclui consulta de resultado e verificação de disponibilidade
@@ -21,16 +34,58 @@ import reactor.core.publisher.Mono;
 @RequestMapping("/result")
 public class ResultController extends BaseController {
 
+    private static final String EVENT_PARTIAL = "partial";
+    private static final String EVENT_RESULT = "result";
+
     private final ResultService resultService;
+    private final ResultStreamService resultStreamService;
+    private final ResultResponseCache resultResponseCache;
+    private final CacheControl finalizedResultCacheControl;
 
-    public ResultController(ResultService resultService) {
+    public ResultController(ResultService resultService, ResultStreamService resultStreamService,
+                            ResultResponseCache resultResponseCache,
+                            @Value("${result.http-cache.max-age:1d}") Duration maxAge) {
         this.resultService = resultService;
+        this.resultStreamService = resultStreamService;
+        this.resultResponseCache = resultResponseCache;
+        this.finalizedResultCacheControl = CacheControl.maxAge(maxAge).cachePublic().immutable();
     }
 
-    @GetMapping("/{version}/{votingId}")
-    public Mono<ResultResponseDTO> getResult(@PathVariable String version, @PathVariable String votingId) {
+    /**
+     * Consulta o resultado final da votação.
+     * <p>
+     * Resultados finalizados são imutáveis: a resposta traz ETag forte e
+     * Cache-Control público e immutable. Requisições com If-None-Match
+     * correspondente recebem 304 a partir do cache em processo, sem consulta
+     * ao banco.
+     *
+     * @param version versão da API a ser utilizada, current ou legacy
+     * @param votingId identificador da votação recebido após criar uma votação
+     * @param ifNoneMatch ETag já conhecido pelo cliente (opcional)
+     * @return resultado em JSON ou 304 se o cliente já possui a representação atual
+     */
+    @GetMapping(value = "/{version}/{votingId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<byte[]>> getResult(@PathVariable String version, @PathVariable String votingId,
+                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         ServiceRequestContext context = ServiceRequestContext.of(votingId, version);
-        return resultService.getResult(context);
+        return resultResponseCache.getOrLoad(votingId, () -> resultService.getResult(context))
+                .map(cachedResult -> toResponse(cachedResult, ifNoneMatch));
+    }
+
+    /**
+     * Consulta resultados de várias votações em uma única requisição.
+     * <p>
+     * Substitui as chamadas individuais de resultado e /exists feitas por
+     * dashboards: cada votação retorna o resultado ou sua situação atual.
+     *
+     * @param version versão da API a ser utilizada, current ou legacy
+     * @param request lista de ids das votações
+     * @return Mono contendo mapa de votingId para resultado ou situação
+     */
+    @PostMapping("/{version}/bulk")
+    public Mono<ResponseEntity<BulkResultResponseDTO>> getResults(@PathVariable String version,
+                                                                  @RequestBody BulkResultRequestDTO request) {
+        return resultService.getResults(request.votingIds()).map(ResponseEntity::ok);
     }
 
     /**
@@ -46,5 +101,40 @@ public class ResultController extends BaseController {
         return resultService.isResultAvailable(context).map(ResponseEntity::ok);
     }
 
+    /**
+     * Acompanha o resultado da votação via Server-Sent Events.
+     * <p>
+     * Envia eventos "partial" com a contagem parcial enquanto a votação está
+     * aberta e um evento "result" com o resultado final, encerrando o stream.
+     *
+     * @param version versão da API a ser utilizada, current ou legacy
+     * @param votingId identificador da votação recebido após criar uma votação
+     * @return stream de eventos com contagens parciais e resultado final
+     */
+    @GetMapping(value = "/{version}/{votingId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamResult(@PathVariable String version, @PathVariable String votingId) {
+        return resultStreamService.watch(votingId)
+                .map(this::toServerSentEvent);
+    }
 
+    private ResponseEntity<byte[]> toResponse(ResultResponseCache.CachedResult cachedResult, String ifNoneMatch) {
+        if (cachedResult.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cachedResult.eTag())
+                    .cacheControl(finalizedResultCacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(cachedResult.eTag())
+                .cacheControl(finalizedResultCacheControl)
+                .body(cachedResult.body());
+    }
+
+    private ServerSentEvent<Object> toServerSentEvent(ResultStreamUpdateDTO update) {
+        if (update.isFinal()) {
+            return ServerSentEvent.builder((Object) update.result()).event(EVENT_RESULT).build();
+        }
+        return ServerSentEvent.builder((Object) update.partial()).event(EVENT_PARTIAL).build();
+    }
 }
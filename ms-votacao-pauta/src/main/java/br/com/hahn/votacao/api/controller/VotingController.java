@@ -2,7 +2,9 @@ package br.com.hahn.votacao.api.controller;
 
 import br.com.hahn.votacao.api.controller.base.BaseController;
 import br.com.hahn.votacao.domain.dto.request.VotingRequestDTO;
+import br.com.hahn.votacao.domain.dto.response.TurnoutResponseDTO;
 import br.com.hahn.votacao.domain.dto.response.VotingResponseDTO;
+import br.com.hahn.votacao.domain.service.TurnoutService;
 import br.com.hahn.votacao.domain.service.VotingService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,9 +22,11 @@ import reactor.core.publisher.Mono;
 public class VotingController extends BaseController {
 
     private final VotingService votingService;
+    private final TurnoutService turnoutService;
 
-    public VotingController(VotingService votingService) {
+    public VotingController(VotingService votingService, TurnoutService turnoutService) {
         this.votingService = votingService;
+        this.turnoutService = turnoutService;
     }
 
     /**
@@ -42,6 +46,23 @@ public class VotingController extends BaseController {
         ).map(votingResponseDTO -> ResponseEntity.status(HttpStatus.CREATED).body(votingResponseDTO));
     }
 
+    /**
+     * Consulta quantas pessoas já votaram, de forma aproximada
+     *
+     * Estimativa HyperLogLog com erro padrão de 0,81%; custa um único PFCOUNT no Redis
+     *
+     * @param version versão da API a ser utilizada, current ou legacy
+     * @param votingId id da votação
+     * @return turnoutResponseDTO com a quantidade aproximada de eleitores distintos
+     */
+    @GetMapping("/{version}/{votingId}/turnout")
+    public Mono<ResponseEntity<TurnoutResponseDTO>> getTurnout(
+            @PathVariable String version,
+            @PathVariable String votingId) {
+
+        return turnoutService.getTurnout(votingId).map(ResponseEntity::ok);
+    }
+
 }
 
 
@@ -59,6 +59,30 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error));
     }
 
+    /**
+     * Trata exceções de requisição em lote inválida.
+     *
+     * @param ex exceção contendo o motivo da rejeição
+     * @return Mono com ResponseEntity contendo erro HTTP 400 (Bad Request)
+     */
+    @ExceptionHandler(InvalidBulkRequestException.class)
+    public Mono<ResponseEntity<ErrorResponseDTO>> handleInvalidBulkRequestException(InvalidBulkRequestException ex){
+        ErrorResponseDTO error = new ErrorResponseDTO(ex.getMessage(), Instant.now());
+        return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error));
+    }
+
+    /**
+     * Trata exceções de indisponibilidade do serviço de validação de CPF.
+     *
+     * @param ex exceção contendo o motivo da indisponibilidade
+     * @return Mono com ResponseEntity contendo erro HTTP 503 (Service Unavailable)
+     */
+    @ExceptionHandler(CpfValidationUnavailableException.class)
+    public Mono<ResponseEntity<ErrorResponseDTO>> handleCpfValidationUnavailableException(CpfValidationUnavailableException ex){
+        ErrorResponseDTO error = new ErrorResponseDTO(ex.getMessage(), Instant.now());
+        return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error));
+    }
+
     /**
      * Trata exceções quando uma votação não é encontrada.
      *
@@ -1,5 +1,7 @@
 package br.com.hahn.votacao.domain;
 
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
+
 import java.time.Instant;
 
 /**
@@ -13,9 +15,18 @@ import java.time.Instant;
  * @param votingSubject assunto/título da votação
  * @param closedAt timestamp exato do encerramento
  * @param totalVotes total de votos computados na votação
+ * @param tally contagem de votos por opção no encerramento (null quando desconhecida)
  *
  * @author HahnGuil
  * @since 1.0
  */
-public record VotingClosedEvent(String votingId, String votingSubject, Instant closedAt, Integer totalVotes) {
+public record VotingClosedEvent(String votingId, String votingSubject, Instant closedAt, Integer totalVotes,
+                                VoteTallyDTO tally) {
+
+    /**
+     * Cria evento sem contagem de votos; o consumidor apura os votos.
+     */
+    public VotingClosedEvent(String votingId, String votingSubject, Instant closedAt, Integer totalVotes) {
+        this(votingId, votingSubject, closedAt, totalVotes, null);
+    }
 }
@@ -0,0 +1,30 @@
+package br.com.hahn.votacao.domain.dto;
+
+import br.com.hahn.votacao.domain.dto.response.ResultResponseDTO;
+
+/**
+ * Desfecho da criação de resultado de uma votação dentro de um lote.
+ * <p>
+ * Permite isolar falhas por votação: o lote sempre emite um desfecho para
+ * cada votação, com o resultado persistido ou o erro ocorrido.
+ *
+ * @param votingId ID da votação
+ * @param result resultado persistido (ou existente); null em caso de falha
+ * @param error erro ocorrido; null em caso de sucesso
+ * @author HahnGuil
+ * @since 1.0
+ */
+public record ResultBatchOutcomeDTO(String votingId, ResultResponseDTO result, Throwable error) {
+
+    public static ResultBatchOutcomeDTO success(ResultResponseDTO result) {
+        return new ResultBatchOutcomeDTO(result.votingId(), result, null);
+    }
+
+    public static ResultBatchOutcomeDTO failure(String votingId, Throwable error) {
+        return new ResultBatchOutcomeDTO(votingId, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
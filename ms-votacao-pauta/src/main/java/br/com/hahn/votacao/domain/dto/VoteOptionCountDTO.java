@@ -0,0 +1,15 @@
+package br.com.hahn.votacao.domain.dto;
+
+import br.com.hahn.votacao.domain.enums.VoteOption;
+import org.springframework.data.annotation.Id;
+
+/**
+ * DTO com a contagem de uma opção de voto, resultado do $group por voteOption.
+ *
+ * @param voteOption opção de voto (chave _id do agrupamento)
+ * @param count quantidade de votos da opção
+ * @author HahnGuil
+ * @since 1.0
+ */
+public record VoteOptionCountDTO(@Id VoteOption voteOption, long count) {
+}
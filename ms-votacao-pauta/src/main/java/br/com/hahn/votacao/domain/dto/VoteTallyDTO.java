@@ -0,0 +1,24 @@
+package br.com.hahn.votacao.domain.dto;
+
+/**
+ * DTO com a contagem de votos por opção de uma votação.
+ *
+ * Calculado no servidor (contagem sobre o índice votingId + voteOption),
+ * sem leitura dos documentos de voto.
+ *
+ * @param simVotes quantidade de votos SIM
+ * @param naoVotes quantidade de votos NAO
+ * @author HahnGuil
+ * @since 1.0
+ */
+public record VoteTallyDTO(long simVotes, long naoVotes) {
+
+    /**
+     * Total de votos computados.
+     *
+     * @return soma dos votos SIM e NAO
+     */
+    public long totalVotes() {
+        return simVotes + naoVotes;
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.hahn.votacao.domain.dto;
+
+import br.com.hahn.votacao.domain.enums.VoteOption;
+
+/**
+ * DTO com a contagem de uma opção de voto em uma votação, resultado do
+ * $group por votingId + voteOption usado na apuração em lote.
+ *
+ * @param votingId ID da votação
+ * @param voteOption opção de voto
+ * @param count quantidade de votos da opção na votação
+ * @author HahnGuil
+ * @since 1.0
+ */
+public record VotingOptionCountDTO(String votingId, VoteOption voteOption, long count) {
+}
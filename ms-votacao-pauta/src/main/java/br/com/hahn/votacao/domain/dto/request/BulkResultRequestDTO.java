@@ -0,0 +1,11 @@
+package br.com.hahn.votacao.domain.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Dados de entrada para consulta de resultados em lote")
+public record BulkResultRequestDTO(
+        @Schema(description = "Ids das votações consultadas", example = "[\"689a7b088d19273ee6070d52\", \"689a7b088d19273ee6070d53\"]")
+        List<String> votingIds) {
+}
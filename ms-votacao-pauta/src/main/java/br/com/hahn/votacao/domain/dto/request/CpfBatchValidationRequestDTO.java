@@ -0,0 +1,13 @@
+package br.com.hahn.votacao.domain.dto.request;
+
+import java.util.List;
+
+/**
+ * Requisição de validação em lote enviada ao serviço de CPF.
+ *
+ * @param cpfs CPFs a validar; a resposta preserva esta ordem
+ * @author HahnGuil
+ * @since 1.0
+ */
+public record CpfBatchValidationRequestDTO(List<String> cpfs) {
+}
@@ -14,6 +14,21 @@ public record VoteRequestDTO(
         String voteOption,
 
         @Schema(description = "Versão da API utilizada", example = "1.0")
-        String apiVersion
+        String apiVersion,
+
+        @Schema(description = "Voto admitido com o validador de CPF indisponível; o CPF é reverificado antes da persistência",
+                example = "false", accessMode = Schema.AccessMode.READ_ONLY)
+        boolean pendingVerification
 ) {
+
+    public VoteRequestDTO(String votingId, String userId, String voteOption, String apiVersion) {
+        this(votingId, userId, voteOption, apiVersion, false);
+    }
+
+    /**
+     * Cópia do voto marcada como pendente de verificação do CPF.
+     */
+    public VoteRequestDTO withPendingVerification() {
+        return new VoteRequestDTO(votingId, userId, voteOption, apiVersion, true);
+    }
 }
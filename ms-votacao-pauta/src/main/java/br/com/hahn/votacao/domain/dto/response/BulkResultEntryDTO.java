@@ -0,0 +1,26 @@
+package br.com.hahn.votacao.domain.dto.response;
+
+import br.com.hahn.votacao.domain.enums.ResultStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Situação de uma votação na consulta de resultados em lote.
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Schema(description = "Resultado ou situação de uma votação")
+public record BulkResultEntryDTO(
+        @Schema(description = "Situação do resultado", example = "AVAILABLE")
+        ResultStatus status,
+        @Schema(description = "Resultado final, presente apenas quando status é AVAILABLE")
+        ResultResponseDTO result) {
+
+    public static BulkResultEntryDTO available(ResultResponseDTO result) {
+        return new BulkResultEntryDTO(ResultStatus.AVAILABLE, result);
+    }
+
+    public static BulkResultEntryDTO of(ResultStatus status) {
+        return new BulkResultEntryDTO(status, null);
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.hahn.votacao.domain.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+/**
+ * Resposta da consulta de resultados em lote.
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Schema(description = "Resultados de várias votações, indexados pelo id da votação")
+public record BulkResultResponseDTO(
+        @Schema(description = "Resultado ou situação de cada votação consultada")
+        Map<String, BulkResultEntryDTO> results) {
+}
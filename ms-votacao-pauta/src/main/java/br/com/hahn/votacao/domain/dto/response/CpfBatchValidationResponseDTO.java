@@ -0,0 +1,13 @@
+package br.com.hahn.votacao.domain.dto.response;
+
+import java.util.List;
+
+/**
+ * Resposta da validação em lote do serviço de CPF.
+ *
+ * @param results resultados na mesma ordem dos CPFs enviados
+ * @author HahnGuil
+ * @since 1.0
+ */
+public record CpfBatchValidationResponseDTO(List<CpfValidationOutcomeDTO> results) {
+}
@@ -0,0 +1,21 @@
+package br.com.hahn.votacao.domain.dto.response;
+
+import br.com.hahn.votacao.domain.enums.CpfStatus;
+
+/**
+ * Resultado individual de um CPF na validação em lote.
+ *
+ * CPF inválido não falha o lote: vem com error preenchido e cpfStatus nulo.
+ *
+ * @param cpf CPF validado
+ * @param cpfStatus elegibilidade do CPF (nulo se inválido)
+ * @param error motivo da invalidação (nulo se válido)
+ * @author HahnGuil
+ * @since 1.0
+ */
+public record CpfValidationOutcomeDTO(String cpf, CpfStatus cpfStatus, String error) {
+
+    public boolean isInvalid() {
+        return error != null || cpfStatus == null;
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.hahn.votacao.domain.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Resposta com a contagem parcial de uma votação ainda sem resultado final.
+ *
+ * Enviada periodicamente pelo stream de resultados enquanto a votação
+ * está aberta ou o resultado está sendo processado.
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Schema(description = "Contagem parcial de uma votação em andamento")
+public record PartialResultResponseDTO(
+        @Schema(description = "Id da votação acompanhada", example = "689a7b088d19273ee6070d52")
+        String votingId,
+        @Schema(description = "Pauta da votação", example = "Aumento no incentivo ao marketing esportivo")
+        String votingSubject,
+        @Schema(description = "Votos SIM computados até o momento", example = "120")
+        long simVotes,
+        @Schema(description = "Votos NAO computados até o momento", example = "80")
+        long naoVotes,
+        @Schema(description = "Total de votos computados até o momento", example = "200")
+        long totalVotes,
+        @Schema(description = "Se a votação ainda aceita votos", example = "true")
+        boolean votingOpen) {
+}
@@ -0,0 +1,27 @@
+package br.com.hahn.votacao.domain.dto.response;
+
+/**
+ * Atualização publicada no stream de resultados de uma votação.
+ *
+ * Contém a contagem parcial enquanto não há resultado, ou o resultado
+ * final, que encerra o stream.
+ *
+ * @param partial contagem parcial (null na atualização final)
+ * @param result resultado final (null nas atualizações parciais)
+ * @author HahnGuil
+ * @since 1.0
+ */
+public record ResultStreamUpdateDTO(PartialResultResponseDTO partial, ResultResponseDTO result) {
+
+    public static ResultStreamUpdateDTO partial(PartialResultResponseDTO partial) {
+        return new ResultStreamUpdateDTO(partial, null);
+    }
+
+    public static ResultStreamUpdateDTO result(ResultResponseDTO result) {
+        return new ResultStreamUpdateDTO(null, result);
+    }
+
+    public boolean isFinal() {
+        return result != null;
+    }
+}
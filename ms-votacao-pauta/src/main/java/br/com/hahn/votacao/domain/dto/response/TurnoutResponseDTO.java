@@ -0,0 +1,22 @@
+package br.com.hahn.votacao.domain.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Resposta com a quantidade aproximada de eleitores distintos de uma votação.
+ *
+ * Estimativa via HyperLogLog do Redis: o erro padrão é de 0,81%, ou seja,
+ * em ~95% das consultas o valor real está a até ~1,6% da estimativa.
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Schema(description = "Comparecimento aproximado de uma votação")
+public record TurnoutResponseDTO(
+        @Schema(description = "Id da votação consultada", example = "689a7b088d19273ee6070d52")
+        String votingId,
+        @Schema(description = "Quantidade aproximada de eleitores distintos que tiveram o voto admitido", example = "1520")
+        long approximateVoters,
+        @Schema(description = "Erro padrão relativo da estimativa", example = "0.0081")
+        double standardError) {
+}
@@ -0,0 +1,14 @@
+package br.com.hahn.votacao.domain.enums;
+
+/**
+ * Política aplicada aos votos quando o serviço de validação de CPF está indisponível.
+ *
+ * Indisponível significa circuit breaker aberto, bulkhead cheio, timeout
+ * ou erro de comunicação com o validador.
+ */
+public enum CpfDegradedPolicy {
+    /** Rejeita o voto com HTTP 503; o eleitor tenta novamente depois */
+    REJECT,
+    /** Admite o voto como PENDING_VERIFICATION; o CPF é reverificado antes da persistência */
+    ADMIT_PENDING
+}
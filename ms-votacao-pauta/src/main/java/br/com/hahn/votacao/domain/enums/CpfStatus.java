@@ -10,5 +10,7 @@ public enum CpfStatus {
     /** CPF válido e habilitado para votar */
     ABLE_TO_VOTE,
     /** CPF inválido ou impedido de votar */
-    UNABLE_TO_VOTE
+    UNABLE_TO_VOTE,
+    /** Validador indisponível; voto admitido e CPF reverificado antes da persistência */
+    PENDING_VERIFICATION
 }
@@ -0,0 +1,13 @@
+package br.com.hahn.votacao.domain.enums;
+
+/**
+ * Estado de processamento de uma entrada do outbox de votações encerradas.
+ */
+public enum OutboxStatus {
+    /** Aguardando cálculo do resultado (entrega inicial ou nova tentativa) */
+    PENDING,
+    /** Resultado calculado e persistido com sucesso */
+    DONE,
+    /** Número máximo de tentativas excedido, requer intervenção manual */
+    FAILED
+}
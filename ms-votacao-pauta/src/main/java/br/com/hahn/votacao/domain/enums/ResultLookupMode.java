@@ -0,0 +1,16 @@
+package br.com.hahn.votacao.domain.enums;
+
+/**
+ * Estratégia de consulta do resultado quando ele pode ainda não existir.
+ * <p>
+ * SEQUENTIAL: busca o resultado e, se ausente, busca a votação para
+ * informar a situação (duas leituras em sequência).
+ * PARALLEL: busca resultado e votação simultaneamente, exceto quando a
+ * situação da votação já está em cache; latência de uma leitura.
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+public enum ResultLookupMode {
+    SEQUENTIAL, PARALLEL
+}
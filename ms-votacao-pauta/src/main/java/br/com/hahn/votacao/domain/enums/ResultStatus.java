@@ -0,0 +1,18 @@
+package br.com.hahn.votacao.domain.enums;
+
+/**
+ * Situação do resultado de uma votação na consulta em lote.
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+public enum ResultStatus {
+    /** Resultado calculado e disponível */
+    AVAILABLE,
+    /** Votação ainda aberta */
+    VOTING_OPEN,
+    /** Votação encerrada, resultado em processamento */
+    PROCESSING,
+    /** Votação inexistente */
+    NOT_FOUND
+}
@@ -0,0 +1,17 @@
+package br.com.hahn.votacao.domain.enums;
+
+/**
+ * Estratégia de apuração dos votos de uma votação.
+ * <p>
+ * AGGREGATION: $match + $group no servidor, retorna apenas as contagens.
+ * STREAMING: leitura em cursor projetada apenas em voteOption, com contagem
+ * em passada única; para ambientes sem suporte a agregação.
+ * INCREMENTAL: leitura da contagem mantida pelo flush do batch (VotingTally),
+ * custo independente da quantidade de votos.
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+public enum TallyMode {
+    AGGREGATION, STREAMING, INCREMENTAL
+}
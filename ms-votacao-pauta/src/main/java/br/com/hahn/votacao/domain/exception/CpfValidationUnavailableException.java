@@ -0,0 +1,17 @@
+package br.com.hahn.votacao.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Indica que o serviço de validação de CPF está indisponível.
+ *
+ * Lançada quando o circuit breaker está aberto, o bulkhead está cheio ou
+ * a chamada excede o timeout, com a política degradada REJECT.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class CpfValidationUnavailableException extends RuntimeException {
+    public CpfValidationUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.hahn.votacao.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Indica requisição em lote inválida.
+ *
+ * Lançada quando a lista de ids está vazia, contém ids em branco
+ * ou excede o limite configurado por requisição.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidBulkRequestException extends RuntimeException {
+    public InvalidBulkRequestException(String message) {
+        super(message);
+    }
+}
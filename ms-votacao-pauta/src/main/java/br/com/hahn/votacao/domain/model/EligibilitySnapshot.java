@@ -0,0 +1,38 @@
+package br.com.hahn.votacao.domain.model;
+
+import br.com.hahn.votacao.domain.enums.CpfStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Elegibilidade do CPF verificada no serviço externo, embutida no usuário.
+ * <p>
+ * Preenchida no cadastro e renovada pelo EligibilityReverificationJob antes
+ * de validUntil. Enquanto válida, o voto usa o snapshot sem chamada remota.
+ * Guarda apenas respostas definitivas (ABLE_TO_VOTE/UNABLE_TO_VOTE).
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EligibilitySnapshot {
+
+    private CpfStatus status;
+    private Instant verifiedAt;
+    private Instant validUntil;
+
+    /**
+     * @param now instante de referência
+     * @return true se o snapshot ainda pode ser usado no lugar do validador
+     */
+    public boolean isValidAt(Instant now) {
+        return validUntil != null && now.isBefore(validUntil);
+    }
+}
@@ -5,9 +5,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document
+@CompoundIndex(name = "user_eligibility_valid_until", def = "{'eligibility.validUntil': 1}")
 @Getter
 @Setter
 @AllArgsConstructor
@@ -18,4 +20,5 @@ public class User {
     private String userId;
     private String userName;
     private String userCPF;
+    private EligibilitySnapshot eligibility;
 }
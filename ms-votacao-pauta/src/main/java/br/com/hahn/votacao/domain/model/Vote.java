@@ -7,14 +7,19 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 
 /**
  * Representa um voto individual em uma votação.
  * <p>
  * Índice único garante 1 voto por usuário/votação.
+ * Índice votingId + voteOption permite contagem por opção sem ler documentos.
  * Campos obrigatórios: votingId, userId, voteOption.
  */
-@CompoundIndex(name = "unique_vote_for_user", def = "{'votingId': 1, 'userId': 1}", unique = true)
+@CompoundIndexes({
+        @CompoundIndex(name = "unique_vote_for_user", def = "{'votingId': 1, 'userId': 1}", unique = true),
+        @CompoundIndex(name = "votes_by_option", def = "{'votingId': 1, 'voteOption': 1}")
+})
 @Setter
 @Getter
 @AllArgsConstructor
@@ -0,0 +1,43 @@
+package br.com.hahn.votacao.domain.model;
+
+import br.com.hahn.votacao.domain.enums.OutboxStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Entrada do outbox transacional de votações encerradas.
+ * <p>
+ * Gravada antes da atualização de status da votação, usando o votingId como
+ * chave para que reprocessamentos sejam idempotentes. O relay consulta
+ * entradas PENDING com nextAttemptAt vencido e as reentrega.
+ * A contagem de votos, gravada após o encerramento e a drenagem, acompanha a
+ * entrada para que a reentrega não precise reler os votos; sem contagem, o
+ * consumidor apura os votos.
+ */
+@Document
+@CompoundIndex(name = "outbox_due_entries", def = "{'status': 1, 'nextAttemptAt': 1}")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class VotingOutboxEntry {
+
+    @Id
+    private String votingId;
+    private String votingSubject;
+    private Instant closedAt;
+    private Long simVotes;
+    private Long naoVotes;
+    private OutboxStatus status;
+    private int attempts;
+    private Instant nextAttemptAt;
+    private Instant processedAt;
+    private String lastError;
+}
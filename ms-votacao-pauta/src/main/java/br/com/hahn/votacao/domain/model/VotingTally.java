@@ -0,0 +1,41 @@
+package br.com.hahn.votacao.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Contagem de votos mantida incrementalmente por votação.
+ * <p>
+ * Atualizada com $inc a cada flush do batch de votos, considerando apenas
+ * votos efetivamente inseridos (duplicados ignorados). Permite montar o
+ * Result lendo um único documento, independentemente da quantidade de votos.
+ * <p>
+ * reconciledAt é removido a cada incremento; documentos sem reconciledAt
+ * são candidatos à reconciliação com os votos persistidos.
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Document
+@CompoundIndex(name = "tally_pending_reconciliation", def = "{'reconciledAt': 1, 'updatedAt': 1}")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class VotingTally {
+
+    @Id
+    private String votingId;
+    private long simVotes;
+    private long naoVotes;
+    private long totalVotes;
+    private Instant updatedAt;
+    private Instant reconciledAt;
+}
@@ -0,0 +1,78 @@
+package br.com.hahn.votacao.domain.repository;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Desfecho de uma inserção em lote não ordenada, por documento.
+ * <p>
+ * Em um bulk write não ordenado o Mongo insere todos os documentos válidos
+ * e reporta as falhas por índice. Este record separa os documentos
+ * inseridos, os rejeitados por chave duplicada e os que falharam por outro
+ * motivo, permitindo isolar erros por documento.
+ *
+ * @param inserted documentos inseridos
+ * @param duplicates documentos rejeitados por chave duplicada
+ * @param failed documentos rejeitados por outros erros de escrita
+ * @author HahnGuil
+ * @since 1.0
+ */
+public record BulkInsertResult<T>(List<T> inserted, List<T> duplicates, List<T> failed) {
+
+    /**
+     * Todos os documentos inseridos.
+     */
+    public static <T> BulkInsertResult<T> allInserted(List<T> documents) {
+        return new BulkInsertResult<>(documents, List.of(), List.of());
+    }
+
+    /**
+     * Classifica os documentos a partir do erro do bulk write.
+     * <p>
+     * Erros que não são MongoBulkWriteException (ex.: conexão) significam
+     * que nada pode ser afirmado sobre o lote e são propagados.
+     *
+     * @param documents documentos enviados, na ordem do bulk write
+     * @param error erro retornado pela escrita (possivelmente traduzido pelo Spring)
+     * @return desfecho por documento, ou o próprio erro
+     */
+    public static <T> Mono<BulkInsertResult<T>> fromError(List<T> documents, Throwable error) {
+        MongoBulkWriteException bulkWriteException = findBulkWriteException(error);
+        if (bulkWriteException == null) {
+            return Mono.error(error);
+        }
+
+        ErrorCategory[] rejections = new ErrorCategory[documents.size()];
+        for (BulkWriteError writeError : bulkWriteException.getWriteErrors()) {
+            rejections[writeError.getIndex()] = ErrorCategory.fromErrorCode(writeError.getCode());
+        }
+
+        List<T> inserted = new ArrayList<>();
+        List<T> duplicates = new ArrayList<>();
+        List<T> failed = new ArrayList<>();
+        for (int index = 0; index < documents.size(); index++) {
+            if (rejections[index] == null) {
+                inserted.add(documents.get(index));
+            } else if (rejections[index] == ErrorCategory.DUPLICATE_KEY) {
+                duplicates.add(documents.get(index));
+            } else {
+                failed.add(documents.get(index));
+            }
+        }
+        return Mono.just(new BulkInsertResult<>(inserted, duplicates, failed));
+    }
+
+    private static MongoBulkWriteException findBulkWriteException(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof MongoBulkWriteException bulkWriteException) {
+                return bulkWriteException;
+            }
+        }
+        return null;
+    }
+}
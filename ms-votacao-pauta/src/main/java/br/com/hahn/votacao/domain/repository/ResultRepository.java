@@ -5,6 +5,6 @@ import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ResultRepository extends ReactiveMongoRepository<Result, String> {
+public interface ResultRepository extends ReactiveMongoRepository<Result, String>, ResultRepositoryCustom {
 
 }
@@ -0,0 +1,23 @@
+package br.com.hahn.votacao.domain.repository;
+
+import br.com.hahn.votacao.domain.model.Result;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Operações em lote sobre resultados, fora do alcance de métodos derivados do Spring Data.
+ */
+public interface ResultRepositoryCustom {
+
+    /**
+     * Insere resultados em um único bulk write não ordenado.
+     * <p>
+     * A falha de um resultado não impede a inserção dos demais; resultados
+     * já existentes (votingId duplicado) são reportados separadamente.
+     *
+     * @param results resultados a inserir
+     * @return desfecho por resultado
+     */
+    Mono<BulkInsertResult<Result>> insertAll(List<Result> results);
+}
@@ -0,0 +1,33 @@
+package br.com.hahn.votacao.domain.repository;
+
+import br.com.hahn.votacao.domain.model.Result;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Implementação da inserção em lote de resultados via ReactiveBulkOperations.
+ */
+public class ResultRepositoryCustomImpl implements ResultRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    public ResultRepositoryCustomImpl(ReactiveMongoTemplate reactiveMongoTemplate) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+    }
+
+    @Override
+    public Mono<BulkInsertResult<Result>> insertAll(List<Result> results) {
+        if (results.isEmpty()) {
+            return Mono.just(BulkInsertResult.allInserted(List.of()));
+        }
+
+        return reactiveMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Result.class)
+                .insert(results)
+                .execute()
+                .thenReturn(BulkInsertResult.allInserted(results))
+                .onErrorResume(error -> BulkInsertResult.fromError(results, error));
+    }
+}
@@ -1,10 +1,17 @@
 package br.com.hahn.votacao.domain.repository;
 
+import br.com.hahn.votacao.domain.model.EligibilitySnapshot;
 import br.com.hahn.votacao.domain.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+
 /**
  * Repository para operações de persistência de usuários.
  *
@@ -21,4 +28,26 @@ public interface UserRepository extends ReactiveMongoRepository<User, String> {
      * @return true se CPF já está cadastrado, false caso contrário
      */
     Mono<Boolean> existsUserByuserCPF(String userCPF);
+
+    /**
+     * Busca usuários sem snapshot de elegibilidade ou com snapshot vencendo até o limite.
+     *
+     * @param threshold instante limite de validade
+     * @param pageable limite do lote
+     * @return fluxo de usuários a reverificar, mais antigos primeiro
+     */
+    @Query(value = "{ '$or': [ { 'eligibility': null }, { 'eligibility.validUntil': { '$lte': ?0 } } ] }",
+            sort = "{ 'eligibility.validUntil': 1 }")
+    Flux<User> findEligibilityDueBefore(Instant threshold, Pageable pageable);
+
+    /**
+     * Substitui o snapshot de elegibilidade sem regravar o documento inteiro.
+     *
+     * @param userId ID do usuário
+     * @param eligibility novo snapshot
+     * @return quantidade de documentos alterados
+     */
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$set': { 'eligibility': ?1 } }")
+    Mono<Long> updateEligibility(String userId, EligibilitySnapshot eligibility);
 }
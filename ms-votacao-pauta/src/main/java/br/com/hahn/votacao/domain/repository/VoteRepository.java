@@ -1,11 +1,18 @@
 package br.com.hahn.votacao.domain.repository;
 
+import br.com.hahn.votacao.domain.dto.VoteOptionCountDTO;
+import br.com.hahn.votacao.domain.dto.VotingOptionCountDTO;
 import br.com.hahn.votacao.domain.model.Vote;
+import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.Meta;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 /**
  * Repository para operações de persistência de votos.
  *
@@ -13,7 +20,7 @@ import reactor.core.publisher.Mono;
  * e apuração de resultados por votação.
  */
 @Repository
-public interface VoteRepository extends ReactiveMongoRepository<Vote, String> {
+public interface VoteRepository extends ReactiveMongoRepository<Vote, String>, VoteRepositoryCustom {
 
     /**
      * Busca voto específico de um usuário em uma votação.
@@ -35,4 +42,51 @@ public interface VoteRepository extends ReactiveMongoRepository<Vote, String> {
      * @return fluxo com todos os votos da votação
      */
     Flux<Vote> findByVotingId(String votingId);
+
+    /**
+     * Conta os votos de uma votação agrupados por opção.
+     *
+     * Agregação $match + $group executada no servidor. O índice
+     * votingId + voteOption cobre a consulta, então nenhum documento de
+     * voto é lido nem trafegado: apenas uma linha por opção votada.
+     *
+     * @param votingId ID da votação
+     * @return fluxo com a contagem de cada opção que recebeu votos
+     */
+    @Aggregation(pipeline = {
+            "{ '$match': { 'votingId': ?0 } }",
+            "{ '$group': { '_id': '$voteOption', 'count': { '$sum': 1 } } }"
+    })
+    Flux<VoteOptionCountDTO> countVotesGroupedByOption(String votingId);
+
+    /**
+     * Conta os votos de várias votações agrupados por votação e opção.
+     *
+     * Uma única agregação $match ($in) + $group para todas as votações
+     * encerradas em uma mesma varredura, também coberta pelo índice
+     * votingId + voteOption. Votações sem votos não aparecem no resultado.
+     *
+     * @param votingIds IDs das votações
+     * @return fluxo com a contagem de cada par votação/opção que recebeu votos
+     */
+    @Aggregation(pipeline = {
+            "{ '$match': { 'votingId': { '$in': ?0 } } }",
+            "{ '$group': { '_id': { 'votingId': '$votingId', 'voteOption': '$voteOption' }, 'count': { '$sum': 1 } } }",
+            "{ '$project': { '_id': 0, 'votingId': '$_id.votingId', 'voteOption': '$_id.voteOption', 'count': 1 } }"
+    })
+    Flux<VotingOptionCountDTO> countVotesGroupedByVotingAndOption(Collection<String> votingIds);
+
+    /**
+     * Lê apenas a opção de cada voto de uma votação, em cursor.
+     *
+     * Projeção restrita a voteOption (sem _id), coberta pelo índice
+     * votingId + voteOption. O batch do cursor limita quantos documentos
+     * ficam em memória por round-trip.
+     *
+     * @param votingId ID da votação
+     * @return fluxo de votos contendo somente voteOption
+     */
+    @Query(value = "{ 'votingId': ?0 }", fields = "{ 'voteOption': 1, '_id': 0 }")
+    @Meta(cursorBatchSize = 1000)
+    Flux<Vote> findVoteOptionsByVotingId(String votingId);
 }
@@ -0,0 +1,23 @@
+package br.com.hahn.votacao.domain.repository;
+
+import br.com.hahn.votacao.domain.model.Vote;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Operações em lote sobre votos, fora do alcance de métodos derivados do Spring Data.
+ */
+public interface VoteRepositoryCustom {
+
+    /**
+     * Insere votos em um único bulk write não ordenado, ignorando duplicados.
+     * <p>
+     * Votos que violam o índice único votingId + userId são descartados sem
+     * interromper a inserção dos demais. Qualquer outro erro de escrita é propagado.
+     *
+     * @param votes votos a inserir
+     * @return fluxo somente com os votos efetivamente inseridos
+     */
+    Flux<Vote> insertIgnoringDuplicates(List<Vote> votes);
+}
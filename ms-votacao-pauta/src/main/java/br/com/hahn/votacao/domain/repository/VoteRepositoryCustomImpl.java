@@ -0,0 +1,45 @@
+package br.com.hahn.votacao.domain.repository;
+
+import br.com.hahn.votacao.domain.model.Vote;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Implementação da inserção em lote de votos via ReactiveBulkOperations.
+ */
+public class VoteRepositoryCustomImpl implements VoteRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    public VoteRepositoryCustomImpl(ReactiveMongoTemplate reactiveMongoTemplate) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+    }
+
+    @Override
+    public Flux<Vote> insertIgnoringDuplicates(List<Vote> votes) {
+        if (votes.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return reactiveMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Vote.class)
+                .insert(votes)
+                .execute()
+                .thenReturn(votes)
+                .onErrorResume(error -> insertedDespiteDuplicates(votes, error))
+                .flatMapMany(Flux::fromIterable);
+    }
+
+    /**
+     * Separa os votos inseridos quando o bulk write falhou apenas por duplicidade.
+     */
+    static Mono<List<Vote>> insertedDespiteDuplicates(List<Vote> votes, Throwable error) {
+        return BulkInsertResult.fromError(votes, error)
+                .flatMap(result -> result.failed().isEmpty()
+                        ? Mono.just(result.inserted())
+                        : Mono.error(error));
+    }
+}
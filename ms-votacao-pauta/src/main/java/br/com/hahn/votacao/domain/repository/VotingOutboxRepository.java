@@ -0,0 +1,103 @@
+package br.com.hahn.votacao.domain.repository;
+
+import br.com.hahn.votacao.domain.enums.OutboxStatus;
+import br.com.hahn.votacao.domain.model.VotingOutboxEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.mongodb.repository.Update;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Repository do outbox de votações encerradas.
+ *
+ * As operações de atualização são condicionais e atômicas por documento,
+ * permitindo que múltiplas instâncias do relay disputem as mesmas entradas
+ * sem processamento duplicado.
+ */
+@Repository
+public interface VotingOutboxRepository extends ReactiveMongoRepository<VotingOutboxEntry, String> {
+
+    /**
+     * Busca entradas com entrega vencida, ordenadas pelo vencimento.
+     *
+     * @param status status das entradas
+     * @param now instante de referência
+     * @param pageable limite do lote
+     * @return fluxo de entradas candidatas
+     */
+    Flux<VotingOutboxEntry> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+            OutboxStatus status, Instant now, Pageable pageable);
+
+    /**
+     * Reivindica uma entrada para entrega, incrementando tentativas e adiando o próximo vencimento.
+     *
+     * @param votingId ID da votação
+     * @param expectedAttempts tentativas observadas na leitura (controle otimista)
+     * @param nextAttemptAt novo vencimento (lease da tentativa)
+     * @return 1 se a entrada foi reivindicada, 0 se outra instância chegou antes
+     */
+    @Query("{ '_id': ?0, 'status': 'PENDING', 'attempts': ?1 }")
+    @Update("{ '$set': { 'nextAttemptAt': ?2 }, '$inc': { 'attempts': 1 } }")
+    Mono<Long> claim(String votingId, int expectedAttempts, Instant nextAttemptAt);
+
+    /**
+     * Marca entrada como processada.
+     *
+     * @param votingId ID da votação
+     * @param processedAt instante da conclusão
+     * @return quantidade de documentos alterados
+     */
+    @Query("{ '_id': ?0, 'status': 'PENDING' }")
+    @Update("{ '$set': { 'status': 'DONE', 'processedAt': ?1 } }")
+    Mono<Long> markDone(String votingId, Instant processedAt);
+
+    /**
+     * Marca várias entradas como processadas em um único update.
+     *
+     * @param votingIds IDs das votações
+     * @param processedAt instante da conclusão
+     * @return quantidade de documentos alterados
+     */
+    @Query("{ '_id': { '$in': ?0 }, 'status': 'PENDING' }")
+    @Update("{ '$set': { 'status': 'DONE', 'processedAt': ?1 } }")
+    Mono<Long> markAllDone(Collection<String> votingIds, Instant processedAt);
+
+    /**
+     * Grava a contagem apurada após o encerramento.
+     *
+     * @param votingId ID da votação
+     * @param simVotes votos SIM
+     * @param naoVotes votos NAO
+     * @return quantidade de documentos alterados
+     */
+    @Query("{ '_id': ?0, 'status': 'PENDING' }")
+    @Update("{ '$set': { 'simVotes': ?1, 'naoVotes': ?2 } }")
+    Mono<Long> recordTally(String votingId, long simVotes, long naoVotes);
+
+    /**
+     * Registra a última falha de processamento de uma entrada.
+     *
+     * @param votingId ID da votação
+     * @param lastError mensagem do erro
+     * @return quantidade de documentos alterados
+     */
+    @Query("{ '_id': ?0, 'status': 'PENDING' }")
+    @Update("{ '$set': { 'lastError': ?1 } }")
+    Mono<Long> recordFailure(String votingId, String lastError);
+
+    /**
+     * Marca entrada como falha definitiva após exceder o limite de tentativas.
+     *
+     * @param votingId ID da votação
+     * @return quantidade de documentos alterados
+     */
+    @Query("{ '_id': ?0, 'status': 'PENDING' }")
+    @Update("{ '$set': { 'status': 'FAILED' } }")
+    Mono<Long> markFailed(String votingId);
+}
@@ -1,9 +1,22 @@
 package br.com.hahn.votacao.domain.repository;
 
 import br.com.hahn.votacao.domain.model.Voting;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
 
 @Repository
 public interface VotingRepository extends ReactiveMongoRepository<Voting, String> {
+
+    /**
+     * Encerra a votação apenas se ainda estiver ativa.
+     *
+     * @param votingId ID da votação
+     * @return 1 se a votação foi encerrada, 0 se já estava encerrada
+     */
+    @Query("{ '_id': ?0, 'votingSatus': true }")
+    @Update("{ '$set': { 'votingSatus': false } }")
+    Mono<Long> closeIfOpen(String votingId);
 }
\ No newline at end of file
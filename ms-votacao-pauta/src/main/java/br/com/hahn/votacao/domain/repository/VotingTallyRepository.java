@@ -0,0 +1,60 @@
+package br.com.hahn.votacao.domain.repository;
+
+import br.com.hahn.votacao.domain.model.VotingTally;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.mongodb.repository.Update;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Repository das contagens incrementais de votos.
+ *
+ * Incrementos em lote ficam em VotingTallyRepositoryCustom; as correções
+ * da reconciliação são condicionais ao updatedAt lido, para não sobrescrever
+ * incrementos concorrentes.
+ */
+@Repository
+public interface VotingTallyRepository extends ReactiveMongoRepository<VotingTally, String>, VotingTallyRepositoryCustom {
+
+    /**
+     * Busca contagens alteradas desde a última reconciliação e sem incrementos recentes.
+     *
+     * @param updatedBefore limite do último incremento
+     * @param pageable limite do lote
+     * @return fluxo de contagens a reconciliar
+     */
+    Flux<VotingTally> findByReconciledAtIsNullAndUpdatedAtLessThanEqual(Instant updatedBefore, Pageable pageable);
+
+    /**
+     * Marca contagens existentes como pendentes de reconciliação.
+     *
+     * @param votingIds IDs das votações
+     * @param updatedAt novo updatedAt (invalida reconciliações em andamento)
+     * @return quantidade de documentos alterados
+     */
+    @Query("{ '_id': { '$in': ?0 } }")
+    @Update("{ '$set': { 'updatedAt': ?1 }, '$unset': { 'reconciledAt': '' } }")
+    Mono<Long> markPendingReconciliation(Collection<String> votingIds, Instant updatedAt);
+
+    /**
+     * Grava a contagem verificada se não houve incremento desde a leitura.
+     *
+     * @param votingId ID da votação
+     * @param expectedUpdatedAt updatedAt observado na leitura (controle otimista)
+     * @param simVotes votos SIM apurados
+     * @param naoVotes votos NAO apurados
+     * @param totalVotes total de votos apurados
+     * @param reconciledAt instante da reconciliação
+     * @return 1 se a contagem foi gravada, 0 se houve incremento concorrente
+     */
+    @Query("{ '_id': ?0, 'updatedAt': ?1 }")
+    @Update("{ '$set': { 'simVotes': ?2, 'naoVotes': ?3, 'totalVotes': ?4, 'reconciledAt': ?5 } }")
+    Mono<Long> reconcile(String votingId, Instant expectedUpdatedAt, long simVotes, long naoVotes,
+                         long totalVotes, Instant reconciledAt);
+}
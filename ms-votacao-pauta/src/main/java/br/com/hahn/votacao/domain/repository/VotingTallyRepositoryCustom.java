@@ -0,0 +1,23 @@
+package br.com.hahn.votacao.domain.repository;
+
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Operações em lote sobre contagens incrementais, fora do alcance de
+ * métodos derivados do Spring Data.
+ */
+public interface VotingTallyRepositoryCustom {
+
+    /**
+     * Aplica incrementos em várias contagens em um único bulk write não ordenado.
+     * <p>
+     * Contagens inexistentes são criadas (upsert).
+     *
+     * @param deltas incremento de votos por votingId
+     * @return completado após a escrita
+     */
+    Mono<Void> incrementAll(Map<String, VoteTallyDTO> deltas);
+}
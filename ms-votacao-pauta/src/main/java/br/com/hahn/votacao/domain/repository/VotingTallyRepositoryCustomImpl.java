@@ -0,0 +1,48 @@
+package br.com.hahn.votacao.domain.repository;
+
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
+import br.com.hahn.votacao.domain.model.VotingTally;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Implementação dos incrementos em lote via ReactiveBulkOperations.
+ */
+public class VotingTallyRepositoryCustomImpl implements VotingTallyRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    public VotingTallyRepositoryCustomImpl(ReactiveMongoTemplate reactiveMongoTemplate) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+    }
+
+    @Override
+    public Mono<Void> incrementAll(Map<String, VoteTallyDTO> deltas) {
+        if (deltas.isEmpty()) {
+            return Mono.empty();
+        }
+
+        Instant now = Instant.now();
+        ReactiveBulkOperations bulkOperations =
+                reactiveMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, VotingTally.class);
+
+        deltas.forEach((votingId, delta) -> bulkOperations.upsert(
+                Query.query(Criteria.where("_id").is(votingId)),
+                new Update()
+                        .inc("simVotes", delta.simVotes())
+                        .inc("naoVotes", delta.naoVotes())
+                        .inc("totalVotes", delta.totalVotes())
+                        .set("updatedAt", now)
+                        .unset("reconciledAt")));
+
+        return bulkOperations.execute().then();
+    }
+}
@@ -1,31 +1,59 @@
 package br.com.hahn.votacao.domain.service;
 
+import br.com.hahn.votacao.domain.VotingClosedEvent;
+import br.com.hahn.votacao.domain.dto.ResultBatchOutcomeDTO;
 import br.com.hahn.votacao.domain.dto.ResultCreateDTO;
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
 import br.com.hahn.votacao.domain.dto.context.ServiceRequestContext;
+import br.com.hahn.votacao.domain.dto.response.BulkResultEntryDTO;
+import br.com.hahn.votacao.domain.dto.response.BulkResultResponseDTO;
 import br.com.hahn.votacao.domain.dto.response.ResultExistsResponseDTO;
 import br.com.hahn.votacao.domain.dto.response.ResultResponseDTO;
+import br.com.hahn.votacao.domain.enums.ResultLookupMode;
+import br.com.hahn.votacao.domain.enums.ResultStatus;
+import br.com.hahn.votacao.domain.enums.TallyMode;
 import br.com.hahn.votacao.domain.enums.VoteOption;
 import br.com.hahn.votacao.domain.enums.VotingResult;
+import br.com.hahn.votacao.domain.exception.InvalidBulkRequestException;
 import br.com.hahn.votacao.domain.exception.ResultNotReadyException;
 import br.com.hahn.votacao.domain.exception.VotingNotFoundException;
 import br.com.hahn.votacao.domain.model.Result;
-import br.com.hahn.votacao.domain.model.Vote;
 import br.com.hahn.votacao.domain.model.Voting;
+import br.com.hahn.votacao.domain.repository.BulkInsertResult;
 import br.com.hahn.votacao.domain.repository.ResultRepository;
+import br.com.hahn.votacao.infrastructure.cache.ResultCache;
+import br.com.hahn.votacao.infrastructure.cache.VotingStatusCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service para processamento e consulta de resultados de votações.
  * <p>
  * Calcula resultados baseado em maioria simples (SIM > NÃO = APROVADO)
  * e gerencia ciclo de vida desde validação até persistência.
+ * <p>
+ * A apuração dos votos segue result.tally.mode (ver TallyMode); em nenhum
+ * modo os votos são acumulados em memória.
+ * <p>
+ * Leituras de resultado passam pelo ResultCache (near-cache com cache
+ * negativo de "não pronto"); a criação de resultado popula o cache.
  *
  * @author HahnGuil
  * @since 1.0
@@ -41,15 +69,34 @@ public class ResultService {
     private final ResultRepository resultRepository;
     private final VoteService voteService;
     private final VotingService votingService;
+    private final VotingTallyService votingTallyService;
+    private final TallyMode tallyMode;
+    private final int bulkMaxIds;
+    private final ResultLookupMode lookupMode;
+    private final VotingStatusCache votingStatusCache;
+    private final ResultCache resultCache;
 
-    public ResultService(ResultRepository resultRepository, VoteService voteService, VotingService votingService) {
+    public ResultService(ResultRepository resultRepository, VoteService voteService, VotingService votingService,
+                         VotingTallyService votingTallyService, VotingStatusCache votingStatusCache,
+                         ResultCache resultCache,
+                         @Value("${result.tally.mode:AGGREGATION}") TallyMode tallyMode,
+                         @Value("${result.bulk.max-ids:500}") int bulkMaxIds,
+                         @Value("${result.lookup.mode:PARALLEL}") ResultLookupMode lookupMode) {
         this.resultRepository = resultRepository;
         this.voteService = voteService;
         this.votingService = votingService;
+        this.votingTallyService = votingTallyService;
+        this.tallyMode = tallyMode;
+        this.bulkMaxIds = bulkMaxIds;
+        this.lookupMode = lookupMode;
+        this.votingStatusCache = votingStatusCache;
+        this.resultCache = resultCache;
     }
 
     /**
      * Recupera resultado consolidado de uma votação.
+     * <p>
+     * A estratégia de consulta segue result.lookup.mode (ver ResultLookupMode).
      *
      * @param requestContext contexto contendo ID da votação
      * @return dados do resultado
@@ -59,23 +106,56 @@ public class ResultService {
     public Mono<ResultResponseDTO> getResult(ServiceRequestContext requestContext) {
         resultServiceLogger.info("Buscando resultado para votingId: {}", requestContext.resourceId());
 
-        return resultRepository.findById(requestContext.resourceId())
+        Mono<ResultResponseDTO> lookup = lookupMode == ResultLookupMode.PARALLEL
+                ? lookupInParallel(requestContext.resourceId())
+                : lookupSequentially(requestContext.resourceId());
+
+        return lookup
+                .doOnSuccess(result -> resultServiceLogger.info("Resultado encontrado para votingId: {}", requestContext.resourceId()))
+                .doOnError(error -> resultServiceLogger.debug("Problema ao buscar resultado para votingId: {}", requestContext.resourceId()));
+    }
+
+    /**
+     * Busca resultado persistido sem validar o status da votação.
+     *
+     * @param votingId ID da votação
+     * @return resultado ou vazio se ainda não calculado
+     */
+    public Mono<ResultResponseDTO> findResult(String votingId) {
+        return findResultDocument(votingId)
                 .map(result -> new ResultResponseDTO(
                         result.getVotingId(),
                         result.getVotingSubject(),
                         result.getTotalVotes(),
                         result.getVotingResult().toString()
-                ))
-                .switchIfEmpty(checkVotingStatusAndThrowAppropriateException(requestContext.resourceId()))
-                .doOnSuccess(result -> resultServiceLogger.info("Resultado encontrado para votingId: {}", requestContext.resourceId()))
-                .doOnError(error -> resultServiceLogger.debug("Problema ao buscar resultado para votingId: {}", requestContext.resourceId()));
+                ));
+    }
+
+    /**
+     * Consulta resultados de várias votações de uma vez.
+     * <p>
+     * Duas consultas no máximo, independentemente da quantidade de ids:
+     * resultados via $in e, apenas para os ids sem resultado, votações via $in
+     * para informar a situação (aberta, em processamento ou inexistente).
+     * Ids repetidos são consultados uma única vez.
+     *
+     * @param votingIds IDs das votações
+     * @return resultado ou situação de cada votação
+     * @throws InvalidBulkRequestException se a lista for vazia, tiver ids em branco ou exceder result.bulk.max-ids
+     */
+    public Mono<BulkResultResponseDTO> getResults(List<String> votingIds) {
+        return Mono.fromCallable(() -> validateBulkIds(votingIds))
+                .flatMap(ids -> resultRepository.findAllById(ids)
+                        .collectMap(Result::getVotingId, this::toResultResponseDTO)
+                        .flatMap(results -> resolvePendingStatuses(ids, results)))
+                .map(BulkResultResponseDTO::new);
     }
 
     /**
      * Verifica se resultado está disponível para consulta.
      */
     public Mono<ResultExistsResponseDTO> isResultAvailable(ServiceRequestContext requestContext) {
-        return resultRepository.findById(requestContext.resourceId())
+        return findResultDocument(requestContext.resourceId())
                 .map(result -> new ResultExistsResponseDTO(true))
                 .defaultIfEmpty(new ResultExistsResponseDTO(false))
                 .doOnNext(dto -> resultServiceLogger.debug("Resultado disponível para votingId {}: {}", requestContext.resourceId(), dto.exists()));
@@ -111,31 +191,183 @@ public class ResultService {
                                         existingResult.getVotingResult().toString()
                                 ));
                             })
-                            .switchIfEmpty(calculateAndSaveResult(votingId, voting));
+                            .switchIfEmpty(Mono.defer(() -> calculateAndSaveResult(votingId, voting)));
                 });
     }
 
     /**
-     * Calcula resultado final e persiste na base.
+     * Persiste resultado a partir da contagem transportada no evento de encerramento.
+     * <p>
+     * O evento é emitido após o encerramento da votação, então não há nova
+     * leitura da votação nem da coleção de votos. Eventos sem contagem
+     * (ex.: reentregas antigas do outbox) seguem o cálculo completo de createResult.
+     *
+     * @param event evento de votação encerrada
+     * @return resultado persistido (ou existente)
      */
-    private Mono<ResultResponseDTO> calculateAndSaveResult(String votingId, Voting voting) {
-        Mono<List<Vote>> votesMono = voteService.findByVotingId(votingId).collectList();
+    public Mono<ResultResponseDTO> createResultFromEvent(VotingClosedEvent event) {
+        if (event.tally() == null) {
+            return createResult(event.votingId());
+        }
 
-        return votesMono.flatMap(votesList -> {
-                    String votingSubject = voting.getSubject();
-                    Integer totalVotes = votesList.size();
-                    VotingResult resultVoting = calculateVotingResult(votesList);
+        String votingId = event.votingId();
+        resultServiceLogger.info("Persistindo resultado a partir do evento para votingId: {}", votingId);
 
-                    resultServiceLogger.info("Resultado calculado - Votação: {}, Total: {}, Resultado: {}",
-                            votingId, totalVotes, resultVoting);
+        return resultRepository.findById(votingId)
+                .doOnNext(existingResult -> resultServiceLogger.info("Resultado já existe para votingId: {}", votingId))
+                .switchIfEmpty(Mono.defer(() -> resultRepository.save(
+                        convertToResult(toResultCreateDTO(votingId, event.votingSubject(), event.tally())))))
+                .doOnNext(resultCache::put)
+                .map(savedResult -> new ResultResponseDTO(
+                        savedResult.getVotingId(),
+                        savedResult.getVotingSubject(),
+                        savedResult.getTotalVotes(),
+                        savedResult.getVotingResult().toString()
+                ))
+                .doOnError(error -> resultServiceLogger.error("Erro ao persistir resultado para votingId: {}", votingId, error));
+    }
 
-                    ResultCreateDTO resultCreateDTO = new ResultCreateDTO(
-                            votingId, votingSubject, totalVotes, resultVoting
-                    );
+    /**
+     * Persiste os resultados de várias votações encerradas na mesma varredura.
+     * <p>
+     * Número constante de consultas por lote: uma leitura $in dos resultados
+     * já existentes e um único insertMany não ordenado para os demais. Falhas
+     * são isoladas por votação: cada votação recebe um desfecho próprio, e a
+     * falha de uma inserção não impede as outras. Resultado já inserido por
+     * outra instância (chave duplicada) é relido e tratado como sucesso.
+     * <p>
+     * Eventos sem contagem seguem o cálculo individual de createResult.
+     *
+     * @param events eventos de votação encerrada
+     * @return um desfecho por votação
+     */
+    public Flux<ResultBatchOutcomeDTO> createResultsFromEvents(List<VotingClosedEvent> events) {
+        Map<String, VotingClosedEvent> talliedEvents = new LinkedHashMap<>();
+        List<String> untalliedIds = new ArrayList<>();
+        for (VotingClosedEvent event : events) {
+            if (event.tally() == null) {
+                untalliedIds.add(event.votingId());
+            } else {
+                talliedEvents.putIfAbsent(event.votingId(), event);
+            }
+        }
+
+        Flux<ResultBatchOutcomeDTO> untallied = Flux.fromIterable(untalliedIds)
+                .concatMap(votingId -> createResult(votingId)
+                        .map(ResultBatchOutcomeDTO::success)
+                        .onErrorResume(error -> Mono.just(ResultBatchOutcomeDTO.failure(votingId, error))));
+
+        return persistResultsInBatch(talliedEvents).concatWith(untallied);
+    }
+
+    private Flux<ResultBatchOutcomeDTO> persistResultsInBatch(Map<String, VotingClosedEvent> events) {
+        if (events.isEmpty()) {
+            return Flux.empty();
+        }
+        resultServiceLogger.info("Persistindo em lote resultados de {} votações", events.size());
+
+        return resultRepository.findAllById(events.keySet())
+                .collectList()
+                .flatMapMany(existing -> {
+                    Set<String> existingIds = new HashSet<>();
+                    existing.forEach(result -> existingIds.add(result.getVotingId()));
 
-                    Result result = convertToResult(resultCreateDTO);
-                    return resultRepository.save(result);
+                    List<Result> toInsert = events.values().stream()
+                            .filter(event -> !existingIds.contains(event.votingId()))
+                            .map(event -> convertToResult(toResultCreateDTO(event.votingId(), event.votingSubject(), event.tally())))
+                            .toList();
+
+                    return resultRepository.insertAll(toInsert)
+                            .flatMapMany(inserted -> Flux.fromIterable(existing)
+                                    .concatWith(Flux.fromIterable(inserted.inserted()))
+                                    .concatWith(rereadDuplicates(inserted))
+                                    .doOnNext(resultCache::put)
+                                    .map(result -> ResultBatchOutcomeDTO.success(toResultResponseDTO(result)))
+                                    .concatWith(Flux.fromIterable(inserted.failed())
+                                            .map(result -> ResultBatchOutcomeDTO.failure(result.getVotingId(),
+                                                    new IllegalStateException("Failed to persist result for votingId: " + result.getVotingId())))));
                 })
+                .onErrorResume(error -> {
+                    resultServiceLogger.error("Erro ao persistir lote de resultados", error);
+                    return Flux.fromIterable(events.keySet())
+                            .map(votingId -> ResultBatchOutcomeDTO.failure(votingId, error));
+                });
+    }
+
+    /**
+     * Relê resultados inseridos concorrentemente por outra instância.
+     */
+    private Flux<Result> rereadDuplicates(BulkInsertResult<Result> inserted) {
+        if (inserted.duplicates().isEmpty()) {
+            return Flux.empty();
+        }
+        return resultRepository.findAllById(inserted.duplicates().stream().map(Result::getVotingId).toList());
+    }
+
+    private Set<String> validateBulkIds(List<String> votingIds) {
+        if (votingIds == null || votingIds.isEmpty()) {
+            throw new InvalidBulkRequestException("At least one votingId is required");
+        }
+        if (votingIds.stream().anyMatch(id -> id == null || id.isBlank())) {
+            throw new InvalidBulkRequestException("votingIds must not contain blank values");
+        }
+
+        Set<String> ids = new LinkedHashSet<>(votingIds);
+        if (ids.size() > bulkMaxIds) {
+            throw new InvalidBulkRequestException("A maximum of " + bulkMaxIds + " votingIds is allowed per request");
+        }
+        return ids;
+    }
+
+    /**
+     * Completa a resposta em lote com a situação das votações sem resultado.
+     */
+    private Mono<Map<String, BulkResultEntryDTO>> resolvePendingStatuses(Set<String> ids, Map<String, ResultResponseDTO> results) {
+        List<String> pendingIds = ids.stream()
+                .filter(id -> !results.containsKey(id))
+                .toList();
+
+        Mono<Map<String, Voting>> pendingVotings = pendingIds.isEmpty()
+                ? Mono.just(Map.of())
+                : votingService.findAllById(pendingIds).collectMap(Voting::getVotingId);
+
+        return pendingVotings.map(votings -> {
+            Map<String, BulkResultEntryDTO> entries = new LinkedHashMap<>();
+            for (String id : ids) {
+                ResultResponseDTO result = results.get(id);
+                entries.put(id, result != null ? BulkResultEntryDTO.available(result) : pendingEntry(votings.get(id)));
+            }
+            return entries;
+        });
+    }
+
+    private BulkResultEntryDTO pendingEntry(Voting voting) {
+        if (voting == null) {
+            return BulkResultEntryDTO.of(ResultStatus.NOT_FOUND);
+        }
+        return BulkResultEntryDTO.of(voting.isVotingSatus() ? ResultStatus.VOTING_OPEN : ResultStatus.PROCESSING);
+    }
+
+    private ResultResponseDTO toResultResponseDTO(Result result) {
+        return new ResultResponseDTO(
+                result.getVotingId(),
+                result.getVotingSubject(),
+                result.getTotalVotes(),
+                result.getVotingResult().toString()
+        );
+    }
+
+    /**
+     * Calcula resultado final e persiste na base.
+     * <p>
+     * A contagem por opção vem de agregação no servidor; nenhum voto é
+     * carregado em memória.
+     */
+    private Mono<ResultResponseDTO> calculateAndSaveResult(String votingId, Voting voting) {
+        return tallyVotes(votingId)
+                .map(tally -> toResultCreateDTO(votingId, voting.getSubject(), tally))
+                .flatMap(resultCreateDTO -> resultRepository.save(convertToResult(resultCreateDTO)))
+                .doOnNext(resultCache::put)
                 .map(savedResult -> new ResultResponseDTO(
                         savedResult.getVotingId(),
                         savedResult.getVotingSubject(),
@@ -146,6 +378,85 @@ public class ResultService {
                 .doOnError(error -> resultServiceLogger.error("Erro ao calcular resultado para votingId: {}", votingId, error));
     }
 
+    /**
+     * Apura a contagem de votos por opção conforme o modo configurado.
+     * <p>
+     * AGGREGATION: contagem agrupada no servidor.
+     * STREAMING: cursor projetado em voteOption, reduzido em passada única
+     * para um long[] indexado pelo ordinal da opção; memória constante
+     * independentemente da quantidade de votos.
+     * INCREMENTAL: documento VotingTally mantido pelo flush do batch; sem
+     * documento (nenhum flush contabilizado), recorre à agregação.
+     *
+     * @param votingId ID da votação
+     * @return contagem de votos SIM e NAO
+     */
+    public Mono<VoteTallyDTO> tallyVotes(String votingId) {
+        if (tallyMode == TallyMode.INCREMENTAL) {
+            return votingTallyService.findTally(votingId)
+                    .switchIfEmpty(Mono.defer(() -> voteService.countVotesByOption(votingId)));
+        }
+        if (tallyMode == TallyMode.STREAMING) {
+            return voteService.streamVoteOptions(votingId)
+                    .reduceWith(() -> new long[VoteOption.values().length], ResultService::countOption)
+                    .map(counts -> new VoteTallyDTO(counts[VoteOption.SIM.ordinal()], counts[VoteOption.NAO.ordinal()]));
+        }
+        return voteService.countVotesByOption(votingId);
+    }
+
+    /**
+     * Apura a contagem de várias votações com número constante de consultas.
+     * <p>
+     * AGGREGATION: uma agregação $match ($in) + $group por votação e opção.
+     * INCREMENTAL: leitura $in dos documentos VotingTally; votações sem
+     * documento recorrem a uma única agregação.
+     * STREAMING: sem agregação disponível, cada votação é lida em cursor.
+     *
+     * @param votingIds IDs das votações
+     * @return contagem por votingId, com zero para votações sem votos
+     */
+    public Mono<Map<String, VoteTallyDTO>> tallyVotes(Collection<String> votingIds) {
+        if (votingIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        Mono<Map<String, VoteTallyDTO>> tallies;
+        if (tallyMode == TallyMode.INCREMENTAL) {
+            tallies = votingTallyService.findTallies(votingIds)
+                    .flatMap(found -> {
+                        List<String> missingIds = votingIds.stream().filter(id -> !found.containsKey(id)).toList();
+                        if (missingIds.isEmpty()) {
+                            return Mono.just(found);
+                        }
+                        return voteService.countVotesByOption(missingIds)
+                                .map(counted -> {
+                                    Map<String, VoteTallyDTO> merged = new HashMap<>(found);
+                                    merged.putAll(counted);
+                                    return merged;
+                                });
+                    });
+        } else if (tallyMode == TallyMode.STREAMING) {
+            tallies = Flux.fromIterable(votingIds)
+                    .concatMap(votingId -> tallyVotes(votingId).map(tally -> Map.entry(votingId, tally)))
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+        } else {
+            tallies = voteService.countVotesByOption(votingIds);
+        }
+
+        return tallies.map(found -> {
+            Map<String, VoteTallyDTO> complete = new LinkedHashMap<>();
+            for (String votingId : votingIds) {
+                complete.put(votingId, found.getOrDefault(votingId, new VoteTallyDTO(0, 0)));
+            }
+            return complete;
+        });
+    }
+
+    private static long[] countOption(long[] counts, VoteOption voteOption) {
+        counts[voteOption.ordinal()]++;
+        return counts;
+    }
+
     /**
      * Verifica status da votação e lança exceção apropriada quando resultado não existe.
      *
@@ -156,22 +467,75 @@ public class ResultService {
      */
     private Mono<ResultResponseDTO> checkVotingStatusAndThrowAppropriateException(String votingId) {
         return votingService.findById(votingId)
-                .<ResultResponseDTO>flatMap(voting -> {
-                    String formattedCloseDate = RESPONSE_DATE_FORMATTER.format(voting.getCloseVotingDate());
-                    if (voting.isVotingSatus()) {
-                        return Mono.error(new ResultNotReadyException(
-                                "Result not ready yet. Voting is still active and will close at: " + formattedCloseDate
-                        ));
-                    } else {
-                        return Mono.error(new ResultNotReadyException(
-                                "Result is being processed. Voting ended at: " + formattedCloseDate +
-                                        ". Please try again in a few moments."
-                        ));
-                    }
-                })
+                .map(VotingStatusCache.VotingStatus::of)
+                .<ResultResponseDTO>flatMap(this::resultNotReady)
                 .switchIfEmpty(Mono.error(new VotingNotFoundException("Voting not found with ID: " + votingId)));
     }
 
+    /**
+     * Lê o documento de resultado através do near-cache.
+     */
+    private Mono<Result> findResultDocument(String votingId) {
+        return resultCache.find(votingId, resultRepository::findById);
+    }
+
+    /**
+     * Resultado e, se ausente, situação da votação em duas leituras sequenciais.
+     */
+    private Mono<ResultResponseDTO> lookupSequentially(String votingId) {
+        return findResultDocument(votingId)
+                .map(this::toResultResponseDTO)
+                .switchIfEmpty(Mono.defer(() -> checkVotingStatusAndThrowAppropriateException(votingId)));
+    }
+
+    /**
+     * Resultado e situação da votação lidos simultaneamente.
+     * <p>
+     * Com a situação da votação em cache, apenas o resultado é lido.
+     */
+    private Mono<ResultResponseDTO> lookupInParallel(String votingId) {
+        VotingStatusCache.VotingStatus cachedStatus = votingStatusCache.getIfPresent(votingId);
+        if (cachedStatus != null) {
+            return findResultDocument(votingId)
+                    .map(this::toResultResponseDTO)
+                    .switchIfEmpty(Mono.defer(() -> resultNotReady(cachedStatus)));
+        }
+
+        Mono<Optional<Result>> result = findResultDocument(votingId)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+        Mono<Optional<Voting>> voting = votingService.findById(votingId)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+
+        return Mono.zip(result, voting)
+                .flatMap(resultAndVoting -> {
+                    if (resultAndVoting.getT1().isPresent()) {
+                        return Mono.just(toResultResponseDTO(resultAndVoting.getT1().get()));
+                    }
+                    return resultAndVoting.getT2()
+                            .map(found -> votingStatusCache.put(votingId, found))
+                            .map(this::<ResultResponseDTO>resultNotReady)
+                            .orElseGet(() -> Mono.error(new VotingNotFoundException("Voting not found with ID: " + votingId)));
+                });
+    }
+
+    /**
+     * Erro de resultado indisponível conforme a situação da votação.
+     */
+    private <T> Mono<T> resultNotReady(VotingStatusCache.VotingStatus status) {
+        String formattedCloseDate = RESPONSE_DATE_FORMATTER.format(status.closeVotingDate());
+        if (status.open()) {
+            return Mono.error(new ResultNotReadyException(
+                    "Result not ready yet. Voting is still active and will close at: " + formattedCloseDate
+            ));
+        }
+        return Mono.error(new ResultNotReadyException(
+                "Result is being processed. Voting ended at: " + formattedCloseDate +
+                        ". Please try again in a few moments."
+        ));
+    }
+
     /**
      * Converte DTO em entidade Result.
      */
@@ -185,22 +549,22 @@ public class ResultService {
     }
 
     /**
-     * Calcula resultado baseado em maioria simples.
-     * SIM > NÃO = APROVADO, caso contrário REPROVADO.
+     * Monta DTO de criação a partir da contagem por opção.
      */
-    VotingResult calculateVotingResult(List<Vote> votes) {
-        if (votes.isEmpty()) {
-            resultServiceLogger.info("Nenhum voto encontrado, resultado padrão: REPROVADO");
-            return VotingResult.REPROVADO;
-        }
+    private ResultCreateDTO toResultCreateDTO(String votingId, String votingSubject, VoteTallyDTO tally) {
+        VotingResult votingResult = calculateVotingResult(tally);
 
-        long simCount = votes.stream()
-                .filter(vote -> vote.getVoteOption() == VoteOption.SIM)
-                .count();
-        long naoCount = votes.stream()
-                .filter(vote -> vote.getVoteOption() == VoteOption.NAO)
-                .count();
+        resultServiceLogger.info("Resultado calculado - Votação: {}, Total: {}, Resultado: {}",
+                votingId, tally.totalVotes(), votingResult);
 
-        return simCount > naoCount ? VotingResult.APROVADO : VotingResult.REPROVADO;
+        return new ResultCreateDTO(votingId, votingSubject, Math.toIntExact(tally.totalVotes()), votingResult);
+    }
+
+    /**
+     * Calcula resultado pela contagem por opção, com maioria simples.
+     * SIM > NÃO = APROVADO, caso contrário REPROVADO (inclui empate e votação sem votos).
+     */
+    VotingResult calculateVotingResult(VoteTallyDTO tally) {
+        return tally.simVotes() > tally.naoVotes() ? VotingResult.APROVADO : VotingResult.REPROVADO;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,117 @@
+package br.com.hahn.votacao.domain.service;
+
+import br.com.hahn.votacao.domain.dto.response.PartialResultResponseDTO;
+import br.com.hahn.votacao.domain.dto.response.ResultStreamUpdateDTO;
+import br.com.hahn.votacao.domain.exception.VotingNotFoundException;
+import br.com.hahn.votacao.domain.model.Voting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Service de acompanhamento de resultados em tempo real.
+ * <p>
+ * Substitui o polling de GET /result pelos clientes. Cada votação
+ * acompanhada tem um único publisher compartilhado: as consultas ao banco
+ * acontecem uma vez por intervalo, independentemente da quantidade de
+ * clientes conectados.
+ * <p>
+ * CICLO DE VIDA DO PUBLISHER:
+ * - Criado no primeiro assinante da votação
+ * - A cada intervalo (result.stream.interval): resultado final se existir,
+ *   senão contagem parcial; atualizações repetidas não são reenviadas
+ * - Última atualização é reenviada a quem assinar depois (replay(1))
+ * - Encerrado ao publicar o resultado final ou quando o último assinante sai
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Service
+public class ResultStreamService {
+
+    private static final Logger resultStreamServiceLogger = LoggerFactory.getLogger(ResultStreamService.class);
+
+    private final ResultService resultService;
+    private final VotingService votingService;
+    private final Duration updateInterval;
+    private final Map<String, Flux<ResultStreamUpdateDTO>> publishers = new ConcurrentHashMap<>();
+
+    public ResultStreamService(ResultService resultService, VotingService votingService,
+                               @Value("${result.stream.interval:2s}") Duration updateInterval) {
+        this.resultService = resultService;
+        this.votingService = votingService;
+        this.updateInterval = updateInterval;
+    }
+
+    /**
+     * Acompanha o resultado de uma votação.
+     *
+     * @param votingId ID da votação
+     * @return atualizações parciais seguidas do resultado final
+     * @throws VotingNotFoundException se votação não existir
+     */
+    public Flux<ResultStreamUpdateDTO> watch(String votingId) {
+        return votingService.findById(votingId)
+                .switchIfEmpty(Mono.error(new VotingNotFoundException("Voting not found with ID: " + votingId)))
+                .thenMany(Flux.defer(() -> publishers.computeIfAbsent(votingId, this::createPublisher)));
+    }
+
+    /**
+     * Quantidade de votações com publisher ativo.
+     */
+    int activePublishers() {
+        return publishers.size();
+    }
+
+    private Flux<ResultStreamUpdateDTO> createPublisher(String votingId) {
+        resultStreamServiceLogger.info("Iniciando stream de resultado para votingId: {}", votingId);
+
+        AtomicReference<Flux<ResultStreamUpdateDTO>> self = new AtomicReference<>();
+        Flux<ResultStreamUpdateDTO> publisher = Flux.interval(Duration.ZERO, updateInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> snapshot(votingId), 1)
+                .distinctUntilChanged()
+                .takeUntil(ResultStreamUpdateDTO::isFinal)
+                .doFinally(signal -> {
+                    publishers.remove(votingId, self.get());
+                    resultStreamServiceLogger.info("Stream de resultado encerrado para votingId: {} ({})", votingId, signal);
+                })
+                .replay(1)
+                .refCount();
+        self.set(publisher);
+        return publisher;
+    }
+
+    /**
+     * Estado atual da votação: resultado final ou contagem parcial.
+     */
+    private Mono<ResultStreamUpdateDTO> snapshot(String votingId) {
+        return resultService.findResult(votingId)
+                .map(ResultStreamUpdateDTO::result)
+                .switchIfEmpty(Mono.defer(() -> partialSnapshot(votingId)));
+    }
+
+    private Mono<ResultStreamUpdateDTO> partialSnapshot(String votingId) {
+        return votingService.findById(votingId)
+                .zipWhen(voting -> resultService.tallyVotes(votingId))
+                .map(votingAndTally -> {
+                    Voting voting = votingAndTally.getT1();
+                    return ResultStreamUpdateDTO.partial(new PartialResultResponseDTO(
+                            votingId,
+                            voting.getSubject(),
+                            votingAndTally.getT2().simVotes(),
+                            votingAndTally.getT2().naoVotes(),
+                            votingAndTally.getT2().totalVotes(),
+                            voting.isVotingSatus()
+                    ));
+                });
+    }
+}
@@ -1,20 +1,40 @@
 package br.com.hahn.votacao.domain.service;
 
 import br.com.hahn.votacao.domain.dto.request.UserRequestDTO;
+import br.com.hahn.votacao.domain.dto.response.CpfValidationOutcomeDTO;
 import br.com.hahn.votacao.domain.dto.response.UserResponseDTO;
+import br.com.hahn.votacao.domain.enums.CpfStatus;
+import br.com.hahn.votacao.domain.exception.InvalidCpfException;
 import br.com.hahn.votacao.domain.exception.UserAlreadyExistsException;
+import br.com.hahn.votacao.domain.model.EligibilitySnapshot;
 import br.com.hahn.votacao.domain.model.User;
 import br.com.hahn.votacao.domain.repository.UserRepository;
+import br.com.hahn.votacao.domain.validation.CpfValidator;
+import br.com.hahn.votacao.infrastructure.client.CpfValidationClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 /**
  * Service responsável pelo gerenciamento de usuários do sistema de votação.
  * <p>
  * Controla criação e consulta de usuários, garantindo unicidade de CPF
  * e conversão adequada entre DTOs e entidades de domínio.
+ * <p>
+ * SNAPSHOT DE ELEGIBILIDADE:
+ * O CPF é verificado no cadastro e o resultado fica no próprio usuário
+ * por voting.eligibility.ttl (ver EligibilitySnapshot), tirando a chamada
+ * ao validador do caminho do voto. Validador indisponível no cadastro não
+ * impede a criação: o usuário fica sem snapshot até a reverificação.
  *
  * @author HahnGuil
  * @since 1.0
@@ -25,9 +45,14 @@ public class UserService {
     private static final Logger userServiceLogger = LoggerFactory.getLogger(UserService.class);
 
     private final UserRepository userRepository;
+    private final CpfValidationClient cpfValidationClient;
+    private final Duration eligibilityTtl;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, CpfValidationClient cpfValidationClient,
+                       @Value("${voting.eligibility.ttl:24h}") Duration eligibilityTtl) {
         this.userRepository = userRepository;
+        this.cpfValidationClient = cpfValidationClient;
+        this.eligibilityTtl = eligibilityTtl;
     }
 
     /**
@@ -39,11 +64,16 @@ public class UserService {
      * @param userRequestDTO dados do usuário a ser criado
      * @return dados do usuário criado com ID gerado
      * @throws UserAlreadyExistsException se CPF já estiver cadastrado
+     * @throws InvalidCpfException se CPF tiver formato ou dígitos verificadores inválidos
      */
     public Mono<UserResponseDTO> createUser(UserRequestDTO userRequestDTO) {
 
         userServiceLogger.info("Criando um novo usuário - API Version: {}", userRequestDTO.apiVersion());
 
+        if (!CpfValidator.isValid(userRequestDTO.userCPF())) {
+            return Mono.error(new InvalidCpfException("CPF inválido"));
+        }
+
         User user = convertToCollection(userRequestDTO);
         return userRepository.existsUserByuserCPF(userRequestDTO.userCPF())
                 .flatMap(exists -> {
@@ -52,7 +82,9 @@ public class UserService {
                         return Mono.error(new UserAlreadyExistsException("User already exists with CPF: " + userRequestDTO.userCPF()));
                     }
 
-                    return userRepository.save(user)
+                    return verifyEligibility(user.getUserCPF())
+                            .doOnNext(user::setEligibility)
+                            .then(Mono.defer(() -> userRepository.save(user)))
                             .map(savedUser -> new UserResponseDTO(
                                     savedUser.getUserId(), savedUser.getUserCPF()));
                 });
@@ -68,6 +100,130 @@ public class UserService {
         return userRepository.findById(userId);
     }
 
+    /**
+     * Busca usuários cujo snapshot de elegibilidade vence até o limite informado.
+     *
+     * @param threshold instante limite de validade
+     * @param batchSize tamanho máximo do lote
+     * @return usuários sem snapshot ou com snapshot vencendo
+     */
+    public Flux<User> findEligibilityDueBefore(Instant threshold, int batchSize) {
+        return userRepository.findEligibilityDueBefore(threshold, PageRequest.of(0, batchSize));
+    }
+
+    /**
+     * Verifica o CPF do usuário no validador e grava novo snapshot.
+     *
+     * @param user usuário a reverificar
+     * @return true se o snapshot foi renovado, false se o validador estava indisponível
+     */
+    public Mono<Boolean> refreshEligibility(User user) {
+        return verifyEligibility(user.getUserCPF())
+                .flatMap(snapshot -> userRepository.updateEligibility(user.getUserId(), snapshot))
+                .map(modified -> true)
+                .defaultIfEmpty(false);
+    }
+
+    /**
+     * Reverifica usuários por um único fluxo NDJSON ao validador.
+     * <p>
+     * O validador responde na ordem de envio: cada usuário entra na fila de
+     * pendentes antes de o CPF ser enviado e sai dela quando chega o resultado
+     * correspondente. A fila fica limitada pelo back-pressure do fluxo.
+     * CPF inválido vira snapshot UNABLE_TO_VOTE; erro do fluxo é propagado e
+     * os usuários ainda não respondidos continuam vencidos. Usuários legados
+     * sem CPF não são enviados nem entram na fila: recebem snapshot
+     * UNABLE_TO_VOTE diretamente, como no caminho sem fluxo, para não voltarem
+     * à frente de todo lote da reverificação.
+     *
+     * @param users usuários a reverificar
+     * @param writeConcurrency máximo de gravações de snapshot simultâneas
+     * @return true para cada snapshot renovado
+     */
+    public Flux<Boolean> refreshEligibilityStream(Flux<User> users, int writeConcurrency) {
+        return users.publish(shared -> Flux.merge(
+                shared.filter(user -> !hasCpf(user))
+                        .flatMap(this::markWithoutCpf, writeConcurrency),
+                streamEligibility(shared.filter(this::hasCpf), writeConcurrency)));
+    }
+
+    private Flux<Boolean> streamEligibility(Flux<User> users, int writeConcurrency) {
+        return Flux.defer(() -> {
+            Queue<User> pending = new ConcurrentLinkedQueue<>();
+            Flux<String> cpfs = users
+                    .doOnNext(pending::offer)
+                    .map(User::getUserCPF);
+
+            return cpfValidationClient.validateCpfStream(cpfs)
+                    .map(outcome -> matchPending(pending.poll(), outcome))
+                    .flatMap(user -> userRepository.updateEligibility(user.getUserId(), user.getEligibility())
+                            .map(modified -> modified > 0), writeConcurrency);
+        });
+    }
+
+    private Mono<Boolean> markWithoutCpf(User user) {
+        userServiceLogger.warn("Usuário {} sem CPF; elegibilidade gravada como UNABLE_TO_VOTE", user.getUserId());
+        return userRepository.updateEligibility(user.getUserId(), snapshotOf(CpfStatus.UNABLE_TO_VOTE))
+                .map(modified -> modified > 0);
+    }
+
+    /**
+     * Grava snapshot a partir de uma resposta do validador obtida no caminho do voto.
+     * <p>
+     * PENDING_VERIFICATION não é resposta definitiva e não gera snapshot.
+     * Falha na gravação é apenas logada: o snapshot é otimização.
+     *
+     * @param userId ID do usuário
+     * @param status status retornado pelo validador
+     * @return completado após a gravação
+     */
+    public Mono<Void> recordEligibility(String userId, CpfStatus status) {
+        if (status == CpfStatus.PENDING_VERIFICATION) {
+            return Mono.empty();
+        }
+
+        return userRepository.updateEligibility(userId, snapshotOf(status))
+                .onErrorResume(error -> {
+                    userServiceLogger.warn("Falha ao gravar snapshot de elegibilidade do usuário {}: {}", userId, error.toString());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Verifica o CPF sem política degradada.
+     * <p>
+     * CPF inválido vira snapshot UNABLE_TO_VOTE; validador indisponível
+     * resulta em vazio (sem snapshot).
+     */
+    private Mono<EligibilitySnapshot> verifyEligibility(String cpf) {
+        return cpfValidationClient.verifyCpf(cpf)
+                .map(response -> snapshotOf(response.status()))
+                .onErrorResume(InvalidCpfException.class, error -> Mono.just(snapshotOf(CpfStatus.UNABLE_TO_VOTE)))
+                .onErrorResume(error -> {
+                    userServiceLogger.warn("Validador de CPF indisponível; elegibilidade fica sem snapshot: {}", error.toString());
+                    return Mono.empty();
+                });
+    }
+
+    private boolean hasCpf(User user) {
+        return user.getUserCPF() != null && !user.getUserCPF().isBlank();
+    }
+
+    private User matchPending(User user, CpfValidationOutcomeDTO outcome) {
+        if (user == null || !user.getUserCPF().equals(outcome.cpf())) {
+            throw new IllegalStateException("Resultado do validador fora de ordem no fluxo de reverificação");
+        }
+
+        user.setEligibility(snapshotOf(outcome.isInvalid() ? CpfStatus.UNABLE_TO_VOTE : outcome.cpfStatus()));
+        return user;
+    }
+
+    private EligibilitySnapshot snapshotOf(CpfStatus status) {
+        Instant now = Instant.now();
+        return new EligibilitySnapshot(status, now, now.plus(eligibilityTtl));
+    }
+
     /**
      * Converte DTO de request para entidade de domínio.
      *
@@ -1,5 +1,8 @@
 package br.com.hahn.votacao.domain.service;
 
+import br.com.hahn.votacao.domain.dto.VoteOptionCountDTO;
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
+import br.com.hahn.votacao.domain.dto.VotingOptionCountDTO;
 import br.com.hahn.votacao.domain.dto.request.VoteRequestDTO;
 import br.com.hahn.votacao.domain.enums.CpfStatus;
 import br.com.hahn.votacao.domain.enums.VoteOption;
@@ -7,6 +10,8 @@ import br.com.hahn.votacao.domain.exception.InvalidCpfException;
 import br.com.hahn.votacao.domain.exception.UserAlreadyVoteException;
 import br.com.hahn.votacao.domain.exception.UserNotFoundException;
 import br.com.hahn.votacao.domain.exception.VotingExpiredException;
+import br.com.hahn.votacao.domain.model.EligibilitySnapshot;
+import br.com.hahn.votacao.domain.model.User;
 import br.com.hahn.votacao.domain.model.Vote;
 import br.com.hahn.votacao.domain.repository.VoteRepository;
 import br.com.hahn.votacao.infrastructure.client.CpfValidationClient;
@@ -19,6 +24,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Service responsável pelo processamento e validação de votos no sistema.
@@ -44,16 +53,21 @@ public class VoteService {
     private final ReactiveStringRedisTemplate redisTemplate;
     private final UserService userService;
     private final CpfValidationClient cpfValidationClient;
+    private final VotingTallyService votingTallyService;
+    private final TurnoutService turnoutService;
 
     public VoteService(KafkaTemplate<String, VoteRequestDTO> kafkaTemplate, VoteRepository voteRepository,
                        VotingService votingService, ReactiveStringRedisTemplate redisTemplate,
-                       UserService userService, CpfValidationClient cpfValidationClient) {
+                       UserService userService, CpfValidationClient cpfValidationClient,
+                       VotingTallyService votingTallyService, TurnoutService turnoutService) {
         this.kafkaTemplate = kafkaTemplate;
         this.voteRepository = voteRepository;
         this.votingService = votingService;
         this.redisTemplate = redisTemplate;
         this.userService = userService;
         this.cpfValidationClient = cpfValidationClient;
+        this.votingTallyService = votingTallyService;
+        this.turnoutService = turnoutService;
     }
 
     /**
@@ -79,7 +93,8 @@ public class VoteService {
      * 4. **Validação de CPF** (validateUserCpf)
      *    - ÚLTIMO: Integração externa mais custosa
      *    - Só executa após todas as validações baratas passarem
-     *    - Inclui busca de usuário + chamada para serviço externo
+     *    - Inclui busca de usuário; chamada ao serviço externo apenas
+     *      se o snapshot de elegibilidade estiver ausente ou vencido
      * <p>
      * Esta ordem **minimiza custos** ao falhar rapidamente em cenários
      * mais prováveis e deixar operações custosas por último.
@@ -119,16 +134,62 @@ public class VoteService {
      * Persiste lote de votos convertidos de DTOs.
      * <p>
      * Utilizado pelo consumer Kafka para persistência em massa
-     * dos votos já validados e processados.
+     * dos votos já validados e processados. A inserção é um bulk write
+     * não ordenado: duplicados (índice único votingId + userId) são
+     * ignorados sem descartar o restante do lote. Em seguida as contagens
+     * incrementais (VotingTally) recebem somente os votos inseridos. Antes do
+     * insert, as contagens das votações do lote são marcadas como pendentes
+     * de reconciliação: se o $inc se perder, a reconciliação as confere mesmo
+     * que já tivessem sido reconciliadas.
+     * <p>
+     * Votos admitidos como pendentes de verificação têm o CPF reverificado
+     * antes da inserção (ver reverifyIfPending).
      *
      * @param voteRequestDTOs fluxo de DTOs a serem persistidos
-     * @return fluxo de votos salvos
+     * @return fluxo de votos efetivamente inseridos
      */
     public Flux<Vote> saveAllFromDTO(Flux<VoteRequestDTO> voteRequestDTOs) {
         return voteRequestDTOs
+                .concatMap(this::reverifyIfPending)
                 .map(this::convertToCollection)
                 .collectList()
-                .flatMapMany(voteRepository::saveAll);
+                .flatMapMany(votes -> votingTallyService.markPendingReconciliation(votes)
+                        .thenMany(Flux.defer(() -> voteRepository.insertIgnoringDuplicates(votes))))
+                .collectList()
+                .flatMapMany(inserted -> votingTallyService.increment(inserted)
+                        .thenMany(Flux.fromIterable(inserted)));
+    }
+
+    /**
+     * Reverifica o CPF de voto admitido com o validador indisponível.
+     * <p>
+     * CPF não habilitado, inválido ou usuário inexistente: voto descartado.
+     * Validador ainda indisponível: o voto é mantido, preservando a decisão
+     * de admissão da política ADMIT_PENDING, e o fato é logado.
+     *
+     * @param voteRequestDTO voto recebido da fila
+     * @return voto a persistir, ou vazio se descartado
+     */
+    private Mono<VoteRequestDTO> reverifyIfPending(VoteRequestDTO voteRequestDTO) {
+        if (!voteRequestDTO.pendingVerification()) {
+            return Mono.just(voteRequestDTO);
+        }
+
+        return getUserCpf(voteRequestDTO.userId())
+                .flatMap(cpfValidationClient::verifyCpf)
+                .flatMap(cpfResponse -> cpfResponse.status() == CpfStatus.UNABLE_TO_VOTE
+                        ? Mono.<VoteRequestDTO>error(new InvalidCpfException("CPF não habilitado para votar"))
+                        : Mono.just(voteRequestDTO))
+                .onErrorResume(error -> {
+                    if (error instanceof InvalidCpfException || error instanceof UserNotFoundException) {
+                        voteServiceLogger.warn("Voto pendente descartado na reverificação. VotingId: {}, UserId: {}",
+                                voteRequestDTO.votingId(), voteRequestDTO.userId());
+                        return Mono.empty();
+                    }
+                    voteServiceLogger.warn("Validador de CPF ainda indisponível. Voto pendente mantido. VotingId: {}, UserId: {}",
+                            voteRequestDTO.votingId(), voteRequestDTO.userId());
+                    return Mono.just(voteRequestDTO);
+                });
     }
 
     /**
@@ -142,6 +203,68 @@ public class VoteService {
         return voteRepository.findByVotingId(votingId);
     }
 
+    /**
+     * Conta os votos de cada opção de uma votação no servidor.
+     * <p>
+     * Uma única agregação retorna no máximo uma linha por opção, então o
+     * consumo de memória independe da quantidade de votos.
+     *
+     * @param votingId ID da votação
+     * @return contagem de votos SIM e NAO
+     */
+    public Mono<VoteTallyDTO> countVotesByOption(String votingId) {
+        return voteRepository.countVotesGroupedByOption(votingId)
+                .reduce(new VoteTallyDTO(0, 0), this::addOptionCount);
+    }
+
+    /**
+     * Conta os votos de cada opção de várias votações em uma única agregação.
+     * <p>
+     * Votações sem votos não aparecem no mapa retornado.
+     *
+     * @param votingIds IDs das votações
+     * @return contagem de votos SIM e NAO por votingId
+     */
+    public Mono<Map<String, VoteTallyDTO>> countVotesByOption(Collection<String> votingIds) {
+        return voteRepository.countVotesGroupedByVotingAndOption(votingIds)
+                .collect(HashMap::new, this::addVotingOptionCount);
+    }
+
+    /**
+     * Lê em cursor somente a opção de cada voto de uma votação.
+     * <p>
+     * Usado pela apuração em modo streaming, onde agregação não está disponível.
+     *
+     * @param votingId ID da votação
+     * @return fluxo com a opção de cada voto
+     */
+    public Flux<VoteOption> streamVoteOptions(String votingId) {
+        return voteRepository.findVoteOptionsByVotingId(votingId)
+                .mapNotNull(Vote::getVoteOption);
+    }
+
+    /**
+     * Acumula a contagem de uma opção na contagem total.
+     */
+    private VoteTallyDTO addOptionCount(VoteTallyDTO tally, VoteOptionCountDTO optionCount) {
+        if (optionCount.voteOption() == VoteOption.SIM) {
+            return new VoteTallyDTO(tally.simVotes() + optionCount.count(), tally.naoVotes());
+        }
+        if (optionCount.voteOption() == VoteOption.NAO) {
+            return new VoteTallyDTO(tally.simVotes(), tally.naoVotes() + optionCount.count());
+        }
+        return tally;
+    }
+
+    /**
+     * Acumula a contagem de uma opção na contagem da votação correspondente.
+     */
+    private void addVotingOptionCount(Map<String, VoteTallyDTO> tallies, VotingOptionCountDTO optionCount) {
+        VoteTallyDTO current = tallies.getOrDefault(optionCount.votingId(), new VoteTallyDTO(0, 0));
+        tallies.put(optionCount.votingId(),
+                addOptionCount(current, new VoteOptionCountDTO(optionCount.voteOption(), optionCount.count())));
+    }
+
     /**
      * Valida se usuário já votou e retorna erro caso tenha votado.
      * <p>
@@ -193,7 +316,10 @@ public class VoteService {
      * <p>
      * Último passo do pipeline de validação: executa validação externa
      * custosa do CPF e, se bem-sucedida, envia o voto para processamento
-     * assíncrono via Kafka.
+     * assíncrono via Kafka e registra o eleitor no comparecimento
+     * aproximado da votação (TurnoutService). Com o validador indisponível
+     * e política ADMIT_PENDING, o voto segue marcado como pendente de
+     * verificação.
      *
      * @param voteRequestDTO dados do voto
      * @return completado quando voto for enviado para fila
@@ -202,8 +328,11 @@ public class VoteService {
      */
     private Mono<Void> validateCpfAndSendToQueue(VoteRequestDTO voteRequestDTO) {
         return validateUserCpf(voteRequestDTO.userId())
-                .doOnSuccess(ignored -> sendVoteToKafka(voteRequestDTO))
-                .then();
+                .map(cpfStatus -> cpfStatus == CpfStatus.PENDING_VERIFICATION
+                        ? voteRequestDTO.withPendingVerification()
+                        : voteRequestDTO)
+                .doOnNext(this::sendVoteToKafka)
+                .then(Mono.defer(() -> turnoutService.recordVoter(voteRequestDTO.votingId(), voteRequestDTO.userId())));
     }
 
     /**
@@ -237,20 +366,30 @@ public class VoteService {
     /**
      * Valida elegibilidade do CPF do usuário para votação.
      * <p>
-     * Pipeline interno: busca usuário → extrai CPF → valida externamente.
-     * Integração com serviço externo para verificar status de habilitação.
+     * Pipeline interno: busca usuário → snapshot de elegibilidade válido?
+     * Se sim, decide sem chamada remota. Se não (ausente ou vencido), extrai
+     * o CPF, valida externamente e renova o snapshot com a resposta.
      *
      * @param userId ID do usuário a ser validado
-     * @return completado se CPF válido e habilitado
+     * @return status do CPF se habilitado (ABLE_TO_VOTE ou PENDING_VERIFICATION)
      * @throws UserNotFoundException se usuário não existir
      * @throws InvalidCpfException se CPF inválido ou não habilitado
      */
-    private Mono<Void> validateUserCpf(String userId) {
+    private Mono<CpfStatus> validateUserCpf(String userId) {
         voteServiceLogger.info("Iniciando validação de CPF para usuário: {}", userId);
 
-        return getUserCpf(userId)
-                .flatMap(this::validateCpfWithExternalService)
-                .then();
+        return findUser(userId)
+                .flatMap(user -> {
+                    EligibilitySnapshot snapshot = user.getEligibility();
+                    if (snapshot != null && snapshot.isValidAt(Instant.now())) {
+                        voteServiceLogger.info("Elegibilidade do usuário {} obtida do snapshot: {}", userId, snapshot.getStatus());
+                        return requireAbleToVote(snapshot.getStatus());
+                    }
+                    return extractCpf(user)
+                            .flatMap(cpfValidationClient::validateCpf)
+                            .flatMap(cpfResponse -> userService.recordEligibility(userId, cpfResponse.status())
+                                    .then(requireAbleToVote(cpfResponse.status())));
+                });
     }
 
     /**
@@ -267,40 +406,36 @@ public class VoteService {
     private Mono<String> getUserCpf(String userId) {
         voteServiceLogger.info("Buscando CPF do usuário no banco: {}", userId);
 
+        return findUser(userId).flatMap(this::extractCpf);
+    }
+
+    private Mono<User> findUser(String userId) {
         return userService.findById(userId)
-                .switchIfEmpty(Mono.error(new UserNotFoundException("Usuário não encontrado: " + userId)))
-                .handle((user, sink) -> {
-                    if (user.getUserCPF() == null || user.getUserCPF().trim().isEmpty()) {
-                        sink.error(new InvalidCpfException("CPF não cadastrado para o usuário"));
-                        return;
-                    }
-                    voteServiceLogger.info("CPF encontrado para o usuário: {}", userId);
-                    sink.next(user.getUserCPF());
-                });
+                .switchIfEmpty(Mono.error(new UserNotFoundException("Usuário não encontrado: " + userId)));
+    }
+
+    private Mono<String> extractCpf(User user) {
+        if (user.getUserCPF() == null || user.getUserCPF().trim().isEmpty()) {
+            return Mono.error(new InvalidCpfException("CPF não cadastrado para o usuário"));
+        }
+        voteServiceLogger.info("CPF encontrado para o usuário: {}", user.getUserId());
+        return Mono.just(user.getUserCPF());
     }
 
     /**
-     * Valida CPF através de serviço externo.
-     * <p>
-     * Verifica se o CPF está habilitado para votação através de
-     * integração com sistema externo de validação.
+     * Converte status de elegibilidade em decisão do voto.
      *
-     * @param cpf CPF a ser validado
-     * @return completado se CPF habilitado
+     * @param status status do snapshot ou do serviço externo
+     * @return status do CPF se habilitado
      * @throws InvalidCpfException se CPF não habilitado para votar
      */
-    private Mono<Void> validateCpfWithExternalService(String cpf) {
-        voteServiceLogger.info("CPF encontrado para o usuário, validando no serviço externo");
-
-        return cpfValidationClient.validateCpf(cpf)
-                .flatMap(cpfResponse -> {
-                    if (cpfResponse.status() == CpfStatus.UNABLE_TO_VOTE) {
-                        voteServiceLogger.warn("CPF não habilitado para votar");
-                        return Mono.error(new InvalidCpfException("CPF não habilitado para votar"));
-                    }
-                    voteServiceLogger.info("CPF validado com sucesso - Status: {}", cpfResponse.status());
-                    return Mono.empty();
-                });
+    private Mono<CpfStatus> requireAbleToVote(CpfStatus status) {
+        if (status == CpfStatus.UNABLE_TO_VOTE) {
+            voteServiceLogger.warn("CPF não habilitado para votar");
+            return Mono.error(new InvalidCpfException("CPF não habilitado para votar"));
+        }
+        voteServiceLogger.info("CPF validado com sucesso - Status: {}", status);
+        return Mono.just(status);
     }
 
     /**
@@ -0,0 +1,193 @@
+package br.com.hahn.votacao.domain.service;
+
+import br.com.hahn.votacao.domain.VotingClosedEvent;
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
+import br.com.hahn.votacao.domain.enums.OutboxStatus;
+import br.com.hahn.votacao.domain.model.Voting;
+import br.com.hahn.votacao.domain.model.VotingOutboxEntry;
+import br.com.hahn.votacao.domain.repository.VotingOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Service do outbox transacional de votações encerradas.
+ * <p>
+ * Garante que todo encerramento de votação resulte em cálculo de resultado,
+ * mesmo com falhas de processo ou rejeição de eventos em memória.
+ * <p>
+ * CONSISTÊNCIA SEM TRANSAÇÕES:
+ * O MongoDB do docker-compose é standalone (sem replica set), portanto não há
+ * transação multi-documento. A entrada do outbox é gravada ANTES do update de
+ * status da votação, com votingId como chave e sem contagem; a contagem só é
+ * gravada depois do encerramento e da drenagem, para incluir todo voto aceito
+ * até o encerramento. Se o processo cair entre as escritas, o próximo ciclo do
+ * scheduler encerra a votação novamente e o registro é sobrescrito de forma
+ * idempotente; entrada sem contagem é reentregue sem tally e o consumidor
+ * apura os votos. Se o encerramento falhar depois do registro, a votação
+ * continua ativa com entrada PENDING: o relay só reentrega entradas de
+ * votações encerradas, e o próximo ciclo do scheduler tenta de novo.
+ * <p>
+ * CICLO DE VIDA:
+ * register → PENDING sem contagem (vencimento após período de carência do fast-path)
+ * recordTally → contagem apurada após o encerramento
+ * claim    → tentativa++, vencimento adiado (lease com backoff exponencial)
+ * markDone → DONE após resultado persistido
+ * tentativas esgotadas → FAILED
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Service
+public class VotingOutboxService {
+
+    private static final Logger votingOutboxServiceLogger = LoggerFactory.getLogger(VotingOutboxService.class);
+    private static final int MAX_BACKOFF_EXPONENT = 10;
+
+    private final VotingOutboxRepository votingOutboxRepository;
+    private final Duration gracePeriod;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    private final int maxAttempts;
+
+    public VotingOutboxService(VotingOutboxRepository votingOutboxRepository,
+                               @Value("${voting.outbox.grace-period:30s}") Duration gracePeriod,
+                               @Value("${voting.outbox.retry-delay:30s}") Duration retryDelay,
+                               @Value("${voting.outbox.max-retry-delay:30m}") Duration maxRetryDelay,
+                               @Value("${voting.outbox.max-attempts:10}") int maxAttempts) {
+        this.votingOutboxRepository = votingOutboxRepository;
+        this.gracePeriod = gracePeriod;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Registra encerramento da votação no outbox, ainda sem contagem.
+     *
+     * @param voting votação que será encerrada
+     * @return entrada persistida
+     */
+    public Mono<VotingOutboxEntry> register(Voting voting) {
+        Instant now = Instant.now();
+
+        VotingOutboxEntry entry = new VotingOutboxEntry();
+        entry.setVotingId(voting.getVotingId());
+        entry.setVotingSubject(voting.getSubject());
+        entry.setClosedAt(now);
+        entry.setStatus(OutboxStatus.PENDING);
+        entry.setAttempts(0);
+        entry.setNextAttemptAt(now.plus(gracePeriod));
+
+        return votingOutboxRepository.save(entry);
+    }
+
+    /**
+     * Grava a contagem apurada após encerramento e drenagem da votação.
+     *
+     * @param votingId ID da votação
+     * @param tally contagem de votos por opção
+     * @return completado após atualização
+     */
+    public Mono<Void> recordTally(String votingId, VoteTallyDTO tally) {
+        return votingOutboxRepository.recordTally(votingId, tally.simVotes(), tally.naoVotes()).then();
+    }
+
+    /**
+     * Reivindica lote de entradas vencidas para reentrega.
+     * <p>
+     * Entradas que excederam o limite de tentativas são marcadas como FAILED
+     * e não são retornadas.
+     *
+     * @param batchSize tamanho máximo do lote
+     * @return fluxo de entradas reivindicadas por esta instância
+     */
+    public Flux<VotingOutboxEntry> claimDueEntries(int batchSize) {
+        Instant now = Instant.now();
+
+        return votingOutboxRepository
+                .findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                        OutboxStatus.PENDING, now, PageRequest.of(0, batchSize))
+                .concatMap(entry -> claim(entry, now));
+    }
+
+    /**
+     * Marca entrada como concluída após persistência do resultado.
+     *
+     * @param votingId ID da votação
+     * @return completado após atualização
+     */
+    public Mono<Void> markDone(String votingId) {
+        return votingOutboxRepository.markDone(votingId, Instant.now()).then();
+    }
+
+    /**
+     * Marca várias entradas como concluídas em um único update.
+     *
+     * @param votingIds IDs das votações
+     * @return completado após atualização
+     */
+    public Mono<Void> markAllDone(Collection<String> votingIds) {
+        if (votingIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return votingOutboxRepository.markAllDone(votingIds, Instant.now()).then();
+    }
+
+    /**
+     * Registra falha de processamento, mantendo a entrada para nova tentativa.
+     *
+     * @param votingId ID da votação
+     * @param error erro ocorrido
+     * @return completado após atualização
+     */
+    public Mono<Void> recordFailure(String votingId, Throwable error) {
+        return votingOutboxRepository.recordFailure(votingId, String.valueOf(error.getMessage())).then();
+    }
+
+    /**
+     * Converte entrada do outbox no evento de domínio correspondente.
+     *
+     * @param entry entrada do outbox
+     * @return evento de votação encerrada
+     */
+    public VotingClosedEvent toEvent(VotingOutboxEntry entry) {
+        if (entry.getSimVotes() == null || entry.getNaoVotes() == null) {
+            return new VotingClosedEvent(entry.getVotingId(), entry.getVotingSubject(), entry.getClosedAt(), 0);
+        }
+
+        VoteTallyDTO tally = new VoteTallyDTO(entry.getSimVotes(), entry.getNaoVotes());
+        return new VotingClosedEvent(entry.getVotingId(), entry.getVotingSubject(), entry.getClosedAt(),
+                Math.toIntExact(tally.totalVotes()), tally);
+    }
+
+    private Mono<VotingOutboxEntry> claim(VotingOutboxEntry entry, Instant now) {
+        if (entry.getAttempts() >= maxAttempts) {
+            votingOutboxServiceLogger.error("Outbox da votação {} excedeu {} tentativas. Marcando como FAILED. Último erro: {}",
+                    entry.getVotingId(), maxAttempts, entry.getLastError());
+            return votingOutboxRepository.markFailed(entry.getVotingId()).then(Mono.empty());
+        }
+
+        Instant leaseUntil = now.plus(retryDelayFor(entry.getAttempts()));
+
+        return votingOutboxRepository.claim(entry.getVotingId(), entry.getAttempts(), leaseUntil)
+                .filter(modified -> modified > 0)
+                .map(modified -> entry);
+    }
+
+    /**
+     * Calcula atraso da próxima tentativa com backoff exponencial limitado.
+     */
+    Duration retryDelayFor(int attempts) {
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(attempts, MAX_BACKOFF_EXPONENT));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+}
@@ -18,6 +18,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 
 /**
  * Service responsável pelo gerenciamento do ciclo de vida das votações.
@@ -93,6 +94,16 @@ public class VotingService {
         return votingRepository.findById(votingId);
     }
 
+    /**
+     * Busca várias votações em uma única consulta ($in).
+     *
+     * @param votingIds IDs das votações
+     * @return fluxo com as votações existentes
+     */
+    public Flux<Voting> findAllById(Collection<String> votingIds) {
+        return votingRepository.findAllById(votingIds);
+    }
+
     /**
      * Persiste votação no banco de dados.
      *
@@ -103,6 +114,20 @@ public class VotingService {
         return votingRepository.save(voting);
     }
 
+    /**
+     * Encerra votação com update condicional ao status ativo.
+     * <p>
+     * Atômico por documento: com várias instâncias do scheduler, apenas uma
+     * encerra a votação.
+     *
+     * @param votingId ID da votação
+     * @return true se esta chamada encerrou a votação
+     */
+    public Mono<Boolean> closeVoting(String votingId) {
+        return votingRepository.closeIfOpen(votingId)
+                .map(modified -> modified > 0);
+    }
+
     /**
      * Valida se votação está elegível para receber votos.
      * <p>
@@ -0,0 +1,132 @@
+package br.com.hahn.votacao.domain.service;
+
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
+import br.com.hahn.votacao.domain.enums.VoteOption;
+import br.com.hahn.votacao.domain.model.Vote;
+import br.com.hahn.votacao.domain.model.VotingTally;
+import br.com.hahn.votacao.domain.repository.VotingTallyRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service das contagens de votos mantidas incrementalmente.
+ * <p>
+ * CICLO DE VIDA DA CONTAGEM:
+ * - Flush do batch: antes do insert dos votos, as contagens das votações do
+ *   lote são marcadas como pendentes de reconciliação; votos inseridos são
+ *   agrupados por votação e aplicados com $inc em um único bulk write (upsert)
+ * - Apuração: ResultService em modo INCREMENTAL lê um único documento
+ * - Reconciliação (opcional): contagens sem incrementos recentes são
+ *   comparadas com os votos persistidos e corrigidas se divergirem
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Service
+public class VotingTallyService {
+
+    private final VotingTallyRepository votingTallyRepository;
+
+    public VotingTallyService(VotingTallyRepository votingTallyRepository) {
+        this.votingTallyRepository = votingTallyRepository;
+    }
+
+    /**
+     * Incrementa as contagens com os votos efetivamente inseridos.
+     *
+     * @param insertedVotes votos inseridos no flush (sem duplicados)
+     * @return completado após a escrita
+     */
+    public Mono<Void> increment(List<Vote> insertedVotes) {
+        return votingTallyRepository.incrementAll(deltasByVoting(insertedVotes));
+    }
+
+    /**
+     * Marca contagens das votações do lote como pendentes de reconciliação.
+     * <p>
+     * Executado antes do insert dos votos: uma queda entre o insert e o $inc
+     * deixaria uma contagem já reconciliada defasada e fora da reconciliação.
+     * O updatedAt também avança, invalidando reconciliação concorrente que
+     * tenha lido a contagem antes do insert.
+     *
+     * @param votes votos a inserir
+     * @return completado após a escrita
+     */
+    public Mono<Void> markPendingReconciliation(List<Vote> votes) {
+        List<String> votingIds = votes.stream().map(Vote::getVotingId).distinct().toList();
+        if (votingIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return votingTallyRepository.markPendingReconciliation(votingIds, Instant.now()).then();
+    }
+
+    /**
+     * Busca a contagem atual de uma votação.
+     *
+     * @param votingId ID da votação
+     * @return contagem ou vazio se nenhum voto foi contabilizado
+     */
+    public Mono<VoteTallyDTO> findTally(String votingId) {
+        return votingTallyRepository.findById(votingId)
+                .map(tally -> new VoteTallyDTO(tally.getSimVotes(), tally.getNaoVotes()));
+    }
+
+    /**
+     * Busca as contagens atuais de várias votações em uma única consulta.
+     *
+     * @param votingIds IDs das votações
+     * @return contagem por votingId; votações sem documento não aparecem
+     */
+    public Mono<Map<String, VoteTallyDTO>> findTallies(Collection<String> votingIds) {
+        return votingTallyRepository.findAllById(votingIds)
+                .collectMap(VotingTally::getVotingId, tally -> new VoteTallyDTO(tally.getSimVotes(), tally.getNaoVotes()));
+    }
+
+    /**
+     * Busca contagens pendentes de reconciliação.
+     *
+     * @param updatedBefore considera apenas contagens sem incremento após este instante
+     * @param batchSize tamanho máximo do lote
+     * @return fluxo de contagens a reconciliar
+     */
+    public Flux<VotingTally> findPendingReconciliation(Instant updatedBefore, int batchSize) {
+        return votingTallyRepository.findByReconciledAtIsNullAndUpdatedAtLessThanEqual(
+                updatedBefore, PageRequest.of(0, batchSize));
+    }
+
+    /**
+     * Grava a contagem apurada a partir dos votos persistidos.
+     *
+     * @param tally contagem lida para reconciliação
+     * @param actual contagem apurada nos votos
+     * @return true se gravada, false se houve incremento concorrente (fica para o próximo ciclo)
+     */
+    public Mono<Boolean> reconcile(VotingTally tally, VoteTallyDTO actual) {
+        return votingTallyRepository.reconcile(tally.getVotingId(), tally.getUpdatedAt(),
+                        actual.simVotes(), actual.naoVotes(), actual.totalVotes(), Instant.now())
+                .map(modified -> modified > 0);
+    }
+
+    /**
+     * Agrupa votos por votação somando SIM e NAO.
+     */
+    static Map<String, VoteTallyDTO> deltasByVoting(List<Vote> votes) {
+        Map<String, VoteTallyDTO> deltas = new HashMap<>();
+        for (Vote vote : votes) {
+            long sim = vote.getVoteOption() == VoteOption.SIM ? 1 : 0;
+            long nao = vote.getVoteOption() == VoteOption.NAO ? 1 : 0;
+            deltas.merge(vote.getVotingId(), new VoteTallyDTO(sim, nao),
+                    (current, delta) -> new VoteTallyDTO(current.simVotes() + delta.simVotes(),
+                            current.naoVotes() + delta.naoVotes()));
+        }
+        return deltas;
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.hahn.votacao.domain.validation;
+
+/**
+ * Validação de CPF em uma única passada, sem alocação.
+ * <p>
+ * Confere tamanho, dígitos, o caso de todos os dígitos iguais (que passa no
+ * cálculo mas é inválido) e os dois dígitos verificadores (módulo 11).
+ * Percorre a String com charAt: sem regex, sem stream, sem cópia para
+ * char[], portanto seguro para o caminho quente (ver CpfValidatorBenchmark
+ * no validador, com -prof gc).
+ * <p>
+ * Mantido idêntico no validador e no ms-votacao-pauta: os módulos são
+ * builds independentes e o código é pequeno demais para justificar um
+ * artefato compartilhado.
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+public final class CpfValidator {
+
+    private static final int CPF_LENGTH = 11;
+    private static final int BASE_LENGTH = 9;
+
+    private CpfValidator() {
+    }
+
+    /**
+     * @param cpf CPF somente com dígitos
+     * @return true se o CPF tem 11 dígitos, não repetidos, e verificadores corretos
+     */
+    public static boolean isValid(String cpf) {
+        if (cpf == null || cpf.length() != CPF_LENGTH) {
+            return false;
+        }
+
+        int first = cpf.charAt(0) - '0';
+        boolean allSame = true;
+        int firstSum = 0;
+        int secondSum = 0;
+
+        for (int i = 0; i < BASE_LENGTH; i++) {
+            int digit = cpf.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            allSame &= digit == first;
+            firstSum += digit * (10 - i);
+            secondSum += digit * (11 - i);
+        }
+
+        int firstCheck = cpf.charAt(BASE_LENGTH) - '0';
+        int secondCheck = cpf.charAt(BASE_LENGTH + 1) - '0';
+        if (firstCheck < 0 || firstCheck > 9 || secondCheck < 0 || secondCheck > 9) {
+            return false;
+        }
+        if (allSame && firstCheck == first && secondCheck == first) {
+            return false;
+        }
+
+        secondSum += firstCheck * 2;
+        return firstCheck == checkDigit(firstSum) && secondCheck == checkDigit(secondSum);
+    }
+
+    private static int checkDigit(int weightedSum) {
+        int remainder = weightedSum * 10 % 11;
+        return remainder == 10 ? 0 : remainder;
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.hahn.votacao.infrastructure.cache;
+
+import br.com.hahn.votacao.domain.model.Result;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Near-cache em processo dos documentos Result.
+ * <p>
+ * Um Result é imutável depois de criado e é o dado mais lido logo após o
+ * encerramento de uma votação. Consultas repetidas são respondidas em
+ * memória, sem ida ao Mongo.
+ * <p>
+ * ESTRATÉGIA:
+ * - Positivo: Result lido ou recém-criado, limitado por tamanho (LRU/LFU
+ *   do Caffeine), sem expiração
+ * - Negativo: ausência de resultado ("não pronto") por TTL curto, para que
+ *   o polling durante a votação não chegue ao Mongo a cada requisição
+ * - Criação de resultado nesta instância remove o negativo imediatamente;
+ *   em outras instâncias o negativo expira pelo TTL
+ * <p>
+ * MÉTRICAS (CaffeineCacheMetrics):
+ * - cache.gets{cache=results|results.not-ready, result=hit|miss}
+ * - cache.evictions, cache.size
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Component
+public class ResultCache {
+
+    private static final String CACHE_NAME = "results";
+    private static final String NOT_READY_CACHE_NAME = "results.not-ready";
+
+    private final Cache<String, Result> results;
+    private final Cache<String, Boolean> notReady;
+
+    public ResultCache(MeterRegistry meterRegistry,
+                       @Value("${result.cache.maximum-size:10000}") long maximumSize,
+                       @Value("${result.cache.not-ready-ttl:2s}") Duration notReadyTtl) {
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.notReady = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(notReadyTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, results, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, notReady, NOT_READY_CACHE_NAME);
+    }
+
+    /**
+     * Busca resultado no cache ou no loader, armazenando a resposta.
+     *
+     * @param votingId ID da votação
+     * @param loader leitura do resultado no banco
+     * @return resultado ou vazio se ainda não existir
+     */
+    public Mono<Result> find(String votingId, Function<String, Mono<Result>> loader) {
+        Result cached = results.getIfPresent(votingId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        if (notReady.getIfPresent(votingId) != null) {
+            return Mono.empty();
+        }
+
+        return loader.apply(votingId)
+                .doOnNext(result -> results.put(votingId, result))
+                .switchIfEmpty(Mono.fromRunnable(() -> notReady.put(votingId, Boolean.TRUE)));
+    }
+
+    /**
+     * Armazena resultado recém-lido ou recém-criado.
+     *
+     * @param result resultado persistido
+     */
+    public void put(Result result) {
+        results.put(result.getVotingId(), result);
+        notReady.invalidate(result.getVotingId());
+    }
+}
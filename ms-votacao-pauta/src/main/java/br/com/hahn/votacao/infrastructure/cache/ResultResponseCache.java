@@ -0,0 +1,110 @@
+package br.com.hahn.votacao.infrastructure.cache;
+
+import br.com.hahn.votacao.domain.dto.response.ResultResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Cache em processo das respostas serializadas de resultados finalizados.
+ * <p>
+ * Um Result nunca muda depois de persistido, portanto a resposta JSON e o
+ * ETag podem ser calculados uma única vez e reutilizados em todas as
+ * consultas seguintes, sem leitura no Mongo nem nova serialização.
+ * <p>
+ * ETAG:
+ * - Forte, derivado do MD5 do corpo serializado (mesmo critério do
+ *   ShallowEtagHeaderFilter do Spring)
+ * - Comparação fraca no If-None-Match (prefixo W/ ignorado), conforme RFC 9110
+ * <p>
+ * Apenas resultados finalizados entram no cache: erros de "resultado não
+ * disponível" do loader são propagados sem cache.
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Component
+public class ResultResponseCache {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY_ETAG = "*";
+
+    private final Cache<String, CachedResult> cache;
+    private final ObjectMapper objectMapper;
+
+    public ResultResponseCache(ObjectMapper objectMapper,
+                               @Value("${result.http-cache.maximum-size:10000}") long maximumSize) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Busca resposta em cache ou carrega, serializa e armazena o resultado.
+     *
+     * @param votingId ID da votação
+     * @param loader carregamento do resultado finalizado
+     * @return resposta serializada com ETag
+     */
+    public Mono<CachedResult> getOrLoad(String votingId, Supplier<Mono<ResultResponseDTO>> loader) {
+        return Mono.justOrEmpty(cache.getIfPresent(votingId))
+                .switchIfEmpty(Mono.defer(() -> loader.get()
+                        .map(this::serialize)
+                        .doOnNext(cachedResult -> cache.put(votingId, cachedResult))));
+    }
+
+    /**
+     * Resposta em cache sem carregar, ou null se ausente.
+     */
+    public CachedResult getIfPresent(String votingId) {
+        return cache.getIfPresent(votingId);
+    }
+
+    private CachedResult serialize(ResultResponseDTO result) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(result);
+            return new CachedResult(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar resultado da votação " + result.votingId(), e);
+        }
+    }
+
+    /**
+     * Corpo JSON serializado e ETag forte correspondente.
+     *
+     * @param body corpo da resposta em JSON
+     * @param eTag ETag forte, já entre aspas
+     */
+    public record CachedResult(byte[] body, String eTag) {
+
+        /**
+         * Verifica se o cabeçalho If-None-Match corresponde a este ETag.
+         *
+         * @param ifNoneMatch valor do cabeçalho (pode ser null)
+         * @return true se o cliente já possui esta representação
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith(WEAK_PREFIX)) {
+                    tag = tag.substring(WEAK_PREFIX.length());
+                }
+                if (ANY_ETAG.equals(tag) || eTag.equals(tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
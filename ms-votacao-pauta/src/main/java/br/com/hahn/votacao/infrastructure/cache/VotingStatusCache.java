@@ -0,0 +1,71 @@
+package br.com.hahn.votacao.infrastructure.cache;
+
+import br.com.hahn.votacao.domain.model.Voting;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Cache em processo da situação de votações sem resultado.
+ * <p>
+ * Enquanto uma votação está aberta, toda consulta de resultado é um miss
+ * que precisa da situação da votação para responder. Com a situação em
+ * cache, o miss custa apenas a leitura do resultado.
+ * <p>
+ * O TTL curto limita por quanto tempo uma votação recém-encerrada ainda é
+ * reportada como aberta; em ambos os casos a resposta é "resultado não
+ * disponível", mudando apenas a mensagem.
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Component
+public class VotingStatusCache {
+
+    private final Cache<String, VotingStatus> cache;
+
+    public VotingStatusCache(@Value("${result.lookup.status-cache.ttl:5s}") Duration ttl,
+                             @Value("${result.lookup.status-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Situação em cache, ou null se ausente ou expirada.
+     */
+    public VotingStatus getIfPresent(String votingId) {
+        return cache.getIfPresent(votingId);
+    }
+
+    /**
+     * Armazena a situação atual da votação.
+     *
+     * @param votingId ID da votação
+     * @param voting votação lida do banco
+     * @return situação armazenada
+     */
+    public VotingStatus put(String votingId, Voting voting) {
+        VotingStatus status = VotingStatus.of(voting);
+        cache.put(votingId, status);
+        return status;
+    }
+
+    /**
+     * Situação da votação relevante para a consulta de resultado.
+     *
+     * @param open se a votação ainda aceita votos
+     * @param closeVotingDate data de encerramento
+     */
+    public record VotingStatus(boolean open, Instant closeVotingDate) {
+
+        public static VotingStatus of(Voting voting) {
+            return new VotingStatus(voting.isVotingSatus(), voting.getCloseVotingDate());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package br.com.hahn.votacao.infrastructure.client;
+
+import br.com.hahn.votacao.domain.dto.response.CpfValidationOutcomeDTO;
+import br.com.hahn.votacao.domain.dto.response.CpfValidationResponseDTO;
+import br.com.hahn.votacao.domain.exception.InvalidCpfException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Agrupa validações de CPF concorrentes em micro-lotes.
+ * <p>
+ * Cada chamada individual entra em uma fila; a fila é fechada em lote ao
+ * atingir maxBatchSize ou maxWait desde o primeiro CPF, o que ocorrer antes.
+ * O lote vira uma única requisição ao validador e a resposta é distribuída
+ * de volta a cada chamador pela posição do CPF no lote.
+ * <p>
+ * DEMULTIPLEXAÇÃO:
+ * - Resultado com erro → InvalidCpfException apenas para aquele chamador
+ * - Falha do lote (rede, timeout, HTTP 5xx) → erro para todos do lote
+ * - Resposta com tamanho diferente do lote → erro para todos do lote
+ * <p>
+ * CANCELAMENTO:
+ * Chamador cancelado (ou com timeout) antes do envio é descartado ao montar
+ * o lote, sem ocupar posição na requisição; lote só de cancelados não chama
+ * o validador.
+ * <p>
+ * MÉTRICAS:
+ * - cpf.validation.batch.size: CPFs por requisição ao validador
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+class CpfValidationBatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(CpfValidationBatcher.class);
+    private static final String METRIC_BATCH_SIZE = "cpf.validation.batch.size";
+
+    private final Sinks.Many<PendingValidation> queue;
+    private final Function<List<String>, Mono<List<CpfValidationOutcomeDTO>>> batchCall;
+    private final DistributionSummary batchSize;
+    private final Disposable subscription;
+
+    /**
+     * @param batchCall chamada ao validador com a lista de CPFs do lote
+     * @param maxBatchSize máximo de CPFs por lote
+     * @param maxWait espera máxima para completar um lote
+     * @param concurrency máximo de lotes em andamento simultaneamente
+     * @param meterRegistry registro da métrica de tamanho de lote
+     */
+    CpfValidationBatcher(Function<List<String>, Mono<List<CpfValidationOutcomeDTO>>> batchCall,
+                         int maxBatchSize, Duration maxWait, int concurrency, MeterRegistry meterRegistry) {
+        this.queue = Sinks.many().unicast().onBackpressureBuffer();
+        this.batchCall = batchCall;
+        this.batchSize = DistributionSummary.builder(METRIC_BATCH_SIZE)
+                .description("CPFs por requisição de validação em lote")
+                .register(meterRegistry);
+        this.subscription = queue.asFlux()
+                .filter(pending -> !pending.isCancelled())
+                .bufferTimeout(maxBatchSize, maxWait, true)
+                .flatMap(this::dispatch, concurrency)
+                .subscribe();
+    }
+
+    /**
+     * Enfileira CPF para o próximo lote.
+     *
+     * @param cpf CPF a validar
+     * @return status do CPF quando o lote for respondido
+     * @throws InvalidCpfException se o validador marcar o CPF como inválido
+     */
+    Mono<CpfValidationResponseDTO> submit(String cpf) {
+        return Mono.defer(() -> {
+            PendingValidation pending = new PendingValidation(cpf, Sinks.one(), new AtomicBoolean());
+
+            Sinks.EmitResult emitResult;
+            do {
+                emitResult = queue.tryEmitNext(pending);
+            } while (emitResult == Sinks.EmitResult.FAIL_NON_SERIALIZED);
+
+            if (emitResult.isFailure()) {
+                return Mono.error(new IllegalStateException("Fila de validação de CPF encerrada: " + emitResult));
+            }
+            return pending.result().asMono()
+                    .doOnCancel(pending::cancel);
+        });
+    }
+
+    void dispose() {
+        queue.tryEmitComplete();
+        subscription.dispose();
+    }
+
+    private Mono<Void> dispatch(List<PendingValidation> buffered) {
+        List<PendingValidation> batch = buffered.stream().filter(pending -> !pending.isCancelled()).toList();
+        if (batch.isEmpty()) {
+            return Mono.empty();
+        }
+
+        batchSize.record(batch.size());
+        List<String> cpfs = batch.stream().map(PendingValidation::cpf).toList();
+
+        return Mono.defer(() -> batchCall.apply(cpfs))
+                .doOnNext(outcomes -> complete(batch, outcomes))
+                .switchIfEmpty(Mono.fromRunnable(() ->
+                        failAll(batch, new IllegalStateException("Resposta vazia na validação em lote"))))
+                .onErrorResume(error -> {
+                    logger.warn("Falha na validação em lote de {} CPFs: {}", batch.size(), error.toString());
+                    failAll(batch, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void complete(List<PendingValidation> batch, List<CpfValidationOutcomeDTO> outcomes) {
+        if (outcomes.size() != batch.size()) {
+            failAll(batch, new IllegalStateException(
+                    "Validação em lote retornou " + outcomes.size() + " resultados para " + batch.size() + " CPFs"));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            CpfValidationOutcomeDTO outcome = outcomes.get(i);
+            Sinks.One<CpfValidationResponseDTO> result = batch.get(i).result();
+
+            if (outcome.isInvalid()) {
+                result.tryEmitError(new InvalidCpfException("CPF inválido"));
+            } else {
+                result.tryEmitValue(new CpfValidationResponseDTO(outcome.cpfStatus()));
+            }
+        }
+    }
+
+    private static void failAll(List<PendingValidation> batch, Throwable error) {
+        batch.forEach(pending -> pending.result().tryEmitError(error));
+    }
+
+    private record PendingValidation(String cpf, Sinks.One<CpfValidationResponseDTO> result, AtomicBoolean cancelled) {
+
+        void cancel() {
+            cancelled.set(true);
+        }
+
+        boolean isCancelled() {
+            return cancelled.get();
+        }
+    }
+}
@@ -1,23 +1,89 @@
 package br.com.hahn.votacao.infrastructure.client;
 
+import br.com.hahn.votacao.domain.dto.request.CpfBatchValidationRequestDTO;
+import br.com.hahn.votacao.domain.dto.response.CpfBatchValidationResponseDTO;
+import br.com.hahn.votacao.domain.dto.response.CpfValidationOutcomeDTO;
 import br.com.hahn.votacao.domain.dto.response.CpfValidationResponseDTO;
+import br.com.hahn.votacao.domain.enums.CpfDegradedPolicy;
+import br.com.hahn.votacao.domain.enums.CpfStatus;
+import br.com.hahn.votacao.domain.exception.CpfValidationUnavailableException;
 import br.com.hahn.votacao.domain.exception.InvalidCpfException;
+import br.com.hahn.votacao.domain.validation.CpfValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Cliente para validação de CPF via serviço externo.
  *
  * Verifica elegibilidade de CPFs para votação através de chamada reativa
- * para serviço terceirizado. HTTP 404 = CPF inválido.
+ * para serviço terceirizado. HTTP 404 = CPF inválido. CPFs com formato ou
+ * dígitos verificadores inválidos são rejeitados localmente, sem chamada.
+ * <p>
+ * RESILIÊNCIA (ver CpfValidationResilienceConfig):
+ * bulkhead → circuit breaker → timeout → chamada (com hedge opcional).
+ * Um validador lento não consegue prender a latência dos votos: chamadas
+ * além do bulkhead ou com o circuito aberto falham imediatamente.
+ * <p>
+ * HEDGE (cpf.validation.resilience.hedge.enabled):
+ * Se a chamada não responder dentro do p95 observado (mínimo
+ * hedge.min-delay), uma segunda chamada idêntica é disparada e a primeira
+ * resposta vence; a outra é cancelada. Seguro porque a validação é leitura.
+ * <p>
+ * POLÍTICA DEGRADADA (cpf.validation.resilience.degraded-policy):
+ * - REJECT: CpfValidationUnavailableException (HTTP 503)
+ * - ADMIT_PENDING: status PENDING_VERIFICATION; o CPF é reverificado via
+ *   verifyCpf antes da persistência do voto
+ * <p>
+ * MICRO-LOTES (cpf.validation.batch.enabled):
+ * Chamadas concorrentes são agrupadas por CpfValidationBatcher (até
+ * batch.max-size CPFs ou batch.max-wait) em um único POST /cpf/validate-batch,
+ * e cada chamador recebe o próprio resultado. Bulkhead, circuit breaker,
+ * timeout e hedge continuam aplicados por chamador.
+ * <p>
+ * SINGLE-FLIGHT:
+ * Validações simultâneas do mesmo CPF (ex.: retentativas do app) compartilham
+ * uma única chamada em andamento. A entrada sai do mapa ao concluir ou quando
+ * todos os chamadores cancelam. Métricas: cpf.validation.requests (todas as
+ * validações), cpf.validation.coalesced (atendidas por chamada já em
+ * andamento) e cpf.validation.inflight (CPFs em validação).
+ * <p>
+ * FLUXO (validateCpfStream):
+ * Reverificação em massa por uma única requisição NDJSON de longa duração
+ * (POST /cpf/validate-stream), com back-pressure ponta a ponta.
  *
  * @author HahnGuil
  * @since 1.0
@@ -27,44 +93,314 @@ public class CpfValidationClient {
 
     private static final Logger logger = LoggerFactory.getLogger(CpfValidationClient.class);
     private static final String VALIDATION_ENDPOINT = "/api/v1/cpf/validate";
+    private static final String BATCH_VALIDATION_ENDPOINT = "/api/v1/cpf/validate-batch";
+    private static final String STREAM_VALIDATION_ENDPOINT = "/api/v1/cpf/validate-stream";
+    private static final int STREAM_CHUNK_SIZE = 256;
+    private static final Duration STREAM_CHUNK_WAIT = Duration.ofMillis(5);
+    private static final ObjectWriter STREAM_LINE_WRITER = new ObjectMapper().writer();
     private static final String CPF_FIELD = "cpf";
+    private static final String METRIC_LATENCY = "cpf.validation.latency";
+    private static final String METRIC_DEGRADED = "cpf.validation.degraded";
+    private static final String METRIC_HEDGED = "cpf.validation.hedged";
+    private static final String METRIC_REQUESTS = "cpf.validation.requests";
+    private static final String METRIC_COALESCED = "cpf.validation.coalesced";
+    private static final String METRIC_INFLIGHT = "cpf.validation.inflight";
+    private static final double HEDGE_PERCENTILE = 0.95;
 
     private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+    private final Timer latencyTimer;
+    private final CpfDegradedPolicy degradedPolicy;
+    private final Duration callTimeout;
+    private final boolean hedgeEnabled;
+    private final Duration hedgeMinDelay;
+    private final CpfValidationBatcher batcher;
+    private final Map<String, Mono<CpfValidationResponseDTO>> inflight = new ConcurrentHashMap<>();
+    private final Counter requestsCounter;
+    private final Counter coalescedCounter;
 
     /**
      * Configura WebClient com URL base do serviço de validação.
      *
      * @param webClientBuilder builder configurado para criação do WebClient
+     * @param connector conector com pool de conexões dedicado (ver WebClientConfig)
      * @param baseUrl URL base (padrão: http://localhost:8081)
+     * @param circuitBreaker circuit breaker do validador
+     * @param bulkhead limite de chamadas simultâneas ao validador
+     * @param meterRegistry registro de métricas de latência, hedge e degradação
+     * @param degradedPolicy política aplicada com o validador indisponível
+     * @param callTimeout tempo máximo de uma validação, incluindo o hedge
+     * @param hedgeEnabled habilita a segunda chamada após o p95
+     * @param hedgeMinDelay atraso mínimo antes da segunda chamada
+     * @param batchEnabled agrupa chamadas concorrentes em micro-lotes
+     * @param batchMaxSize máximo de CPFs por lote
+     * @param batchMaxWait espera máxima para completar um lote
+     * @param batchConcurrency máximo de lotes em andamento simultaneamente
      */
     public CpfValidationClient(WebClient.Builder webClientBuilder,
-                               @Value("${cpf.validation.service.url:http://localhost:8081}") String baseUrl) {
-        this.webClient = webClientBuilder
+                               @Qualifier("cpfValidationConnector") ClientHttpConnector connector,
+                               @Value("${cpf.validation.service.url:http://localhost:8081}") String baseUrl,
+                               CircuitBreaker circuitBreaker,
+                               Bulkhead bulkhead,
+                               MeterRegistry meterRegistry,
+                               @Value("${cpf.validation.resilience.degraded-policy:REJECT}") CpfDegradedPolicy degradedPolicy,
+                               @Value("${cpf.validation.resilience.timeout:2s}") Duration callTimeout,
+                               @Value("${cpf.validation.resilience.hedge.enabled:false}") boolean hedgeEnabled,
+                               @Value("${cpf.validation.resilience.hedge.min-delay:50ms}") Duration hedgeMinDelay,
+                               @Value("${cpf.validation.batch.enabled:false}") boolean batchEnabled,
+                               @Value("${cpf.validation.batch.max-size:64}") int batchMaxSize,
+                               @Value("${cpf.validation.batch.max-wait:2ms}") Duration batchMaxWait,
+                               @Value("${cpf.validation.batch.concurrency:16}") int batchConcurrency) {
+        this.webClient = webClientBuilder.clone()
+                .clientConnector(connector)
                 .baseUrl(baseUrl)
                 .build();
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.meterRegistry = meterRegistry;
+        this.latencyTimer = Timer.builder(METRIC_LATENCY)
+                .description("Latência das chamadas bem-sucedidas ao validador de CPF")
+                .publishPercentiles(HEDGE_PERCENTILE)
+                .register(meterRegistry);
+        this.degradedPolicy = degradedPolicy;
+        this.callTimeout = callTimeout;
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeMinDelay = hedgeMinDelay;
+        this.batcher = batchEnabled
+                ? new CpfValidationBatcher(this::callBatchValidator, batchMaxSize, batchMaxWait, batchConcurrency, meterRegistry)
+                : null;
+        this.requestsCounter = Counter.builder(METRIC_REQUESTS)
+                .description("Validações de CPF solicitadas")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder(METRIC_COALESCED)
+                .description("Validações de CPF atendidas por chamada já em andamento para o mesmo CPF")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_INFLIGHT, inflight, Map::size)
+                .description("CPFs com validação em andamento")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (batcher != null) {
+            batcher.dispose();
+        }
     }
 
     /**
      * Valida CPF para verificar elegibilidade de voto.
+     * <p>
+     * Com o validador indisponível aplica a política degradada configurada.
      *
      * @param cpf CPF a ser validado
-     * @return status de elegibilidade do CPF
+     * @return status de elegibilidade do CPF (PENDING_VERIFICATION na política ADMIT_PENDING)
      * @throws InvalidCpfException se CPF for inválido (HTTP 404)
-     * @throws RuntimeException para outros erros de comunicação
+     * @throws CpfValidationUnavailableException se validador indisponível na política REJECT
      */
     public Mono<CpfValidationResponseDTO> validateCpf(String cpf) {
         logger.info("Chamando serviço de validação de CPF");
 
+        return verifyCpf(cpf)
+                .onErrorResume(CpfValidationClient::isUnavailable, this::applyDegradedPolicy);
+    }
+
+    /**
+     * Valida CPF sem política degradada.
+     * <p>
+     * Usado na reverificação de votos admitidos como PENDING_VERIFICATION:
+     * indisponibilidade do validador é propagada ao chamador.
+     *
+     * @param cpf CPF a ser validado
+     * @return status de elegibilidade do CPF
+     * @throws InvalidCpfException se CPF for inválido (HTTP 404)
+     */
+    public Mono<CpfValidationResponseDTO> verifyCpf(String cpf) {
+        if (!CpfValidator.isValid(cpf)) {
+            logger.warn("CPF com formato ou dígitos verificadores inválidos rejeitado localmente");
+            return Mono.error(new InvalidCpfException("CPF inválido"));
+        }
+
+        return Mono.defer(() -> joinFlight(cpf))
+                .doOnSuccess(response -> logger.info("CPF validado com sucesso: {}", response.status()));
+    }
+
+    /**
+     * Retorna a chamada em andamento para o CPF ou inicia uma nova.
+     */
+    private Mono<CpfValidationResponseDTO> joinFlight(String cpf) {
+        requestsCounter.increment();
+
+        Mono<CpfValidationResponseDTO> flight = inflight.get(cpf);
+        if (flight == null) {
+            Mono<CpfValidationResponseDTO> created = newFlight(cpf);
+            flight = inflight.putIfAbsent(cpf, created);
+            if (flight == null) {
+                return created;
+            }
+        }
+
+        coalescedCounter.increment();
+        return flight;
+    }
+
+    /**
+     * Chamada compartilhada: share() cancela a origem quando todos os chamadores
+     * cancelam. A remoção compara a instância para não apagar um voo mais novo
+     * do mesmo CPF, e ocorre antes do sinal terminal chegar aos chamadores
+     * (doFinally roda depois): quem recebeu o resultado não reencontra o voo.
+     */
+    private Mono<CpfValidationResponseDTO> newFlight(String cpf) {
+        AtomicReference<Mono<CpfValidationResponseDTO>> self = new AtomicReference<>();
+        Mono<CpfValidationResponseDTO> flight = Mono.defer(() -> hedgeEnabled ? hedgedCall(cpf) : timedCall(cpf))
+                .timeout(callTimeout)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .doOnTerminate(() -> inflight.remove(cpf, self.get()))
+                .doOnCancel(() -> inflight.remove(cpf, self.get()))
+                .share();
+        self.set(flight);
+        return flight;
+    }
+
+    int inflightCount() {
+        return inflight.size();
+    }
+
+    /**
+     * Dispara segunda chamada se a primeira não responder dentro do atraso de hedge.
+     * <p>
+     * O primeiro sinal (valor ou erro) vence e cancela a outra chamada.
+     */
+    private Mono<CpfValidationResponseDTO> hedgedCall(String cpf) {
+        Duration delay = hedgeDelay();
+        Mono<CpfValidationResponseDTO> hedge = Mono.delay(delay)
+                .doOnNext(tick -> meterRegistry.counter(METRIC_HEDGED).increment())
+                .then(Mono.defer(() -> timedCall(cpf)));
+
+        return Mono.firstWithSignal(timedCall(cpf), hedge);
+    }
+
+    /**
+     * Atraso do hedge: p95 das chamadas recentes, limitado inferiormente por hedge.min-delay.
+     */
+    Duration hedgeDelay() {
+        for (ValueAtPercentile percentile : latencyTimer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == HEDGE_PERCENTILE && !Double.isNaN(percentile.value())) {
+                Duration p95 = Duration.ofNanos((long) percentile.value(TimeUnit.NANOSECONDS));
+                return p95.compareTo(hedgeMinDelay) > 0 ? p95 : hedgeMinDelay;
+            }
+        }
+        return hedgeMinDelay;
+    }
+
+    private Mono<CpfValidationResponseDTO> timedCall(String cpf) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return callValidator(cpf)
+                    .doOnSuccess(response -> latencyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private Mono<CpfValidationResponseDTO> callValidator(String cpf) {
+        return batcher != null ? batcher.submit(cpf) : callSingleValidator(cpf);
+    }
+
+    private Mono<CpfValidationResponseDTO> callSingleValidator(String cpf) {
         return webClient
                 .post()
                 .uri(VALIDATION_ENDPOINT)
                 .bodyValue(Map.of(CPF_FIELD, cpf))
                 .retrieve()
                 .bodyToMono(CpfValidationResponseDTO.class)
-                .doOnSuccess(response -> logger.info("CPF validado com sucesso: {}", response.status()))
                 .onErrorResume(WebClientResponseException.class, this::handleWebClientError);
     }
 
+    /**
+     * Valida lote de CPFs em uma requisição.
+     * <p>
+     * CPFs inválidos vêm como resultado individual; qualquer erro HTTP aqui
+     * é falha do lote (inclusive 404 de um validador sem o endpoint).
+     */
+    private Mono<List<CpfValidationOutcomeDTO>> callBatchValidator(List<String> cpfs) {
+        return webClient
+                .post()
+                .uri(BATCH_VALIDATION_ENDPOINT)
+                .bodyValue(new CpfBatchValidationRequestDTO(cpfs))
+                .retrieve()
+                .bodyToMono(CpfBatchValidationResponseDTO.class)
+                .map(CpfBatchValidationResponseDTO::results)
+                .timeout(callTimeout)
+                .onErrorMap(WebClientResponseException.class,
+                        ex -> new RuntimeException("Erro na validação em lote de CPFs", ex));
+    }
+
+    /**
+     * Valida fluxo de CPFs em uma única requisição NDJSON de longa duração.
+     * <p>
+     * Um resultado por CPF, na ordem de entrada; CPF inválido vem como
+     * resultado com error preenchido. Os CPFs só são lidos da origem conforme
+     * o validador consome o corpo, e a resposta é lida conforme o chamador
+     * pede resultados. As linhas são enviadas em blocos (até STREAM_CHUNK_SIZE
+     * CPFs ou STREAM_CHUNK_WAIT), evitando um flush por CPF.
+     * <p>
+     * Bulkhead, circuit breaker, hedge e single-flight protegem o caminho do
+     * voto e não se aplicam aqui: erro de rede ou HTTP encerra o fluxo com erro.
+     *
+     * @param cpfs CPFs a validar
+     * @return resultado de cada CPF, na ordem de entrada
+     */
+    public Flux<CpfValidationOutcomeDTO> validateCpfStream(Flux<String> cpfs) {
+        Flux<DataBuffer> body = cpfs
+                .bufferTimeout(STREAM_CHUNK_SIZE, STREAM_CHUNK_WAIT, true)
+                .map(CpfValidationClient::toNdjson);
+
+        return webClient
+                .post()
+                .uri(STREAM_VALIDATION_ENDPOINT)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .body(body, DataBuffer.class)
+                .retrieve()
+                .bodyToFlux(CpfValidationOutcomeDTO.class)
+                .onErrorMap(WebClientResponseException.class,
+                        ex -> new RuntimeException("Erro na validação em fluxo de CPFs", ex));
+    }
+
+    private static DataBuffer toNdjson(List<String> cpfs) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(cpfs.size() * 20);
+        try {
+            for (String cpf : cpfs) {
+                STREAM_LINE_WRITER.writeValue(out, Map.of(CPF_FIELD, cpf));
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return DefaultDataBufferFactory.sharedInstance.wrap(out.toByteArray());
+    }
+
+    private Mono<CpfValidationResponseDTO> applyDegradedPolicy(Throwable error) {
+        meterRegistry.counter(METRIC_DEGRADED, "policy", degradedPolicy.name()).increment();
+
+        if (degradedPolicy == CpfDegradedPolicy.ADMIT_PENDING) {
+            logger.warn("Validador de CPF indisponível ({}). Voto admitido pendente de verificação", error.toString());
+            return Mono.just(new CpfValidationResponseDTO(CpfStatus.PENDING_VERIFICATION));
+        }
+
+        logger.warn("Validador de CPF indisponível ({}). Voto rejeitado", error.toString());
+        return Mono.error(new CpfValidationUnavailableException("Serviço de validação de CPF indisponível", error));
+    }
+
+    /**
+     * Qualquer falha que não seja resposta de negócio (CPF inválido) indica indisponibilidade:
+     * circuito aberto, bulkhead cheio, timeout, erro de rede ou erro do servidor.
+     */
+    static boolean isUnavailable(Throwable error) {
+        return !(error instanceof InvalidCpfException);
+    }
+
     /**
      * Mapeia erros HTTP para exceções de domínio.
      * 404 → InvalidCpfException, outros → RuntimeException.
@@ -78,4 +414,4 @@ public class CpfValidationClient {
         logger.error("Erro ao validar CPF: {}", ex.getMessage());
         return Mono.error(new RuntimeException("Erro na validação do CPF", ex));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,92 @@
+package br.com.hahn.votacao.infrastructure.config;
+
+import br.com.hahn.votacao.domain.exception.InvalidCpfException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração de resiliência da chamada ao serviço de validação de CPF.
+ * <p>
+ * CIRCUIT BREAKER (cpf.validation.resilience.circuit-breaker.*):
+ * - Janela deslizante por contagem das últimas chamadas
+ * - Abre por taxa de falhas ou por taxa de chamadas lentas
+ * - CPF inválido (HTTP 404) é resposta de negócio e não conta como falha
+ * <p>
+ * BULKHEAD (cpf.validation.resilience.bulkhead.*):
+ * - Limita chamadas simultâneas ao validador; excedentes falham
+ *   imediatamente em vez de enfileirar
+ * <p>
+ * MÉTRICAS:
+ * resilience4j.circuitbreaker.* e resilience4j.bulkhead.* com tag name=cpf-validation.
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Configuration
+public class CpfValidationResilienceConfig {
+
+    private static final String CPF_VALIDATION = "cpf-validation";
+
+    /**
+     * Circuit breaker do serviço de validação de CPF.
+     *
+     * @return circuit breaker registrado com métricas
+     */
+    @Bean
+    public CircuitBreaker cpfValidationCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${cpf.validation.resilience.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${cpf.validation.resilience.circuit-breaker.slow-call-rate-threshold:50}") float slowCallRateThreshold,
+            @Value("${cpf.validation.resilience.circuit-breaker.slow-call-duration:1s}") Duration slowCallDuration,
+            @Value("${cpf.validation.resilience.circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+            @Value("${cpf.validation.resilience.circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${cpf.validation.resilience.circuit-breaker.wait-in-open-state:10s}") Duration waitInOpenState,
+            @Value("${cpf.validation.resilience.circuit-breaker.half-open-calls:5}") int halfOpenCalls) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .waitDurationInOpenState(waitInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .ignoreExceptions(InvalidCpfException.class)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker(CPF_VALIDATION);
+    }
+
+    /**
+     * Bulkhead de concorrência do serviço de validação de CPF.
+     *
+     * @return bulkhead registrado com métricas
+     */
+    @Bean
+    public Bulkhead cpfValidationBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${cpf.validation.resilience.bulkhead.max-concurrent-calls:100}") int maxConcurrentCalls) {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+
+        BulkheadRegistry registry = BulkheadRegistry.of(config);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry.bulkhead(CPF_VALIDATION);
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.hahn.votacao.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Configuração dos executores usados para trabalho bloqueante.
+ * <p>
+ * Define o Scheduler Reactor "blockingScheduler", onde chamadas bloqueantes
+ * remanescentes (ex.: flush periódico do buffer de votos com block()) são
+ * executadas fora da thread do agendador.
+ * <p>
+ * PERFIS:
+ * - padrão: Schedulers.boundedElastic() (pool de threads de plataforma)
+ * - virtual-threads: uma virtual thread por tarefa (requer JDK 21+)
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Configuration
+public class ThreadingConfig {
+
+    private static final String VIRTUAL_THREAD_PREFIX = "vt-blocking-";
+
+    /**
+     * Scheduler para trabalho bloqueante em threads de plataforma.
+     */
+    @Bean(name = "blockingScheduler")
+    @Profile("!virtual-threads")
+    public Scheduler boundedElasticBlockingScheduler() {
+        return Schedulers.boundedElastic();
+    }
+
+    /**
+     * Scheduler para trabalho bloqueante em virtual threads.
+     */
+    @Bean(name = "blockingScheduler", destroyMethod = "dispose")
+    @Profile("virtual-threads")
+    public Scheduler virtualThreadBlockingScheduler() {
+        return Schedulers.fromExecutor(new VirtualThreadTaskExecutor(VIRTUAL_THREAD_PREFIX));
+    }
+}
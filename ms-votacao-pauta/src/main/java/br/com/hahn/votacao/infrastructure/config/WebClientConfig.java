@@ -1,14 +1,37 @@
 package br.com.hahn.votacao.infrastructure.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Configuração base do WebClient para clientes HTTP reativos.
  * <p>
  * Fornece builder padrão do WebClient para injeção em componentes
  * que fazem integrações HTTP (ex: CpfValidationClient).
+ * <p>
+ * POOL DO CLIENTE DE CPF:
+ * O CpfValidationClient usa um ConnectionProvider próprio em vez dos
+ * padrões do Reactor Netty, para que a espera por conexão sob carga seja
+ * limitada e visível:
+ * - Máximo de conexões e fila de aquisição limitados, com timeout de aquisição
+ * - Conexões ociosas e antigas removidas (inclusive em background)
+ * - Timeouts de conexão, leitura e resposta explícitos
+ * - HTTP/2 sem TLS (h2c) opcional, multiplexando requisições por conexão
+ * <p>
+ * MÉTRICAS (prefixo reactor.netty.connection.provider, tag name=cpf-validation):
+ * conexões ativas, ociosas, pendentes e tempo de aquisição.
  *
  * @author HahnGuil
  * @since 1.0
@@ -16,6 +39,8 @@ import org.springframework.web.reactive.function.client.WebClient;
 @Configuration
 public class WebClientConfig {
 
+    private static final String CPF_VALIDATION_POOL_NAME = "cpf-validation";
+
     /**
      * Bean do builder WebClient para criação de clientes HTTP reativos.
      *
@@ -25,4 +50,53 @@ public class WebClientConfig {
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder();
     }
+
+    /**
+     * Pool de conexões dedicado ao serviço de validação de CPF.
+     *
+     * @return provider com limites, despejo de conexões e métricas habilitadas
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider cpfValidationConnectionProvider(
+            @Value("${cpf.validation.client.pool.max-connections:50}") int maxConnections,
+            @Value("${cpf.validation.client.pool.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${cpf.validation.client.pool.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+            @Value("${cpf.validation.client.pool.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${cpf.validation.client.pool.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${cpf.validation.client.pool.evict-in-background:30s}") Duration evictInBackground) {
+        return ConnectionProvider.builder(CPF_VALIDATION_POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * Conector HTTP do serviço de validação de CPF.
+     *
+     * @param cpfValidationConnectionProvider pool de conexões dedicado
+     * @return conector Reactor Netty com timeouts e protocolo configurados
+     */
+    @Bean
+    public ClientHttpConnector cpfValidationConnector(
+            ConnectionProvider cpfValidationConnectionProvider,
+            @Value("${cpf.validation.client.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${cpf.validation.client.read-timeout:5s}") Duration readTimeout,
+            @Value("${cpf.validation.client.response-timeout:5s}") Duration responseTimeout,
+            @Value("${cpf.validation.client.h2c-enabled:false}") boolean h2cEnabled) {
+        HttpClient httpClient = HttpClient.create(cpfValidationConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(connectTimeout.toMillis()))
+                .responseTimeout(responseTimeout)
+                .doOnConnected(connection -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS)))
+                .protocol(h2cEnabled
+                        ? new HttpProtocol[]{HttpProtocol.H2C, HttpProtocol.HTTP11}
+                        : new HttpProtocol[]{HttpProtocol.HTTP11});
+
+        return new ReactorClientHttpConnector(httpClient);
+    }
 }
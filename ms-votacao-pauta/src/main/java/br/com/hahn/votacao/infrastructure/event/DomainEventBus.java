@@ -0,0 +1,167 @@
+package br.com.hahn.votacao.infrastructure.event;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Scannable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Barramento de eventos de domínio em processo, baseado em Reactor Sinks.
+ * <p>
+ * Substitui o salto @Async + boundedElastic: o evento é emitido em um
+ * Sinks.Many limitado e consumido diretamente por pipelines reativos,
+ * sem pool de threads intermediário.
+ * <p>
+ * BACK-PRESSURE:
+ * - Buffer limitado (domain.event-bus.buffer-size, mínimo 8, arredondado
+ *   para potência de 2 pelo Reactor) entre publicadores e consumidores
+ * - Consumidores solicitam eventos conforme a concorrência configurada
+ * - Buffer cheio: evento é descartado, contabilizado e logado; a entrega
+ *   é garantida pelo relay do outbox (VotingOutboxRelay)
+ * - Emissões concorrentes (FAIL_NON_SERIALIZED) são repetidas até serializar
+ * <p>
+ * MÉTRICAS:
+ * - domain.events.queue.depth: eventos aguardando consumo
+ * - domain.events.published / domain.events.dropped: contadores por tipo
+ * - domain.events.processing: latência de processamento por tipo
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Component
+public class DomainEventBus {
+
+    private static final Logger domainEventBusLogger = LoggerFactory.getLogger(DomainEventBus.class);
+
+    private static final String METRIC_QUEUE_DEPTH = "domain.events.queue.depth";
+    private static final String METRIC_PUBLISHED = "domain.events.published";
+    private static final String METRIC_DROPPED = "domain.events.dropped";
+    private static final String METRIC_PROCESSING = "domain.events.processing";
+    private static final String TAG_EVENT = "event";
+
+    private final Sinks.Many<Object> sink;
+    private final MeterRegistry meterRegistry;
+
+    public DomainEventBus(MeterRegistry meterRegistry,
+                          @Value("${domain.event-bus.buffer-size:256}") int bufferSize) {
+        this.sink = Sinks.many().multicast().onBackpressureBuffer(bufferSize, false);
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(METRIC_QUEUE_DEPTH, this, DomainEventBus::queueDepth)
+                .description("Eventos de domínio aguardando consumo")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publica evento no barramento sem bloquear o chamador.
+     *
+     * @param event evento de domínio
+     * @return true se o evento foi aceito, false se foi descartado
+     */
+    public boolean publish(Object event) {
+        String eventType = event.getClass().getSimpleName();
+
+        Sinks.EmitResult result;
+        do {
+            result = sink.tryEmitNext(event);
+        } while (result == Sinks.EmitResult.FAIL_NON_SERIALIZED);
+
+        if (result.isSuccess()) {
+            meterRegistry.counter(METRIC_PUBLISHED, TAG_EVENT, eventType).increment();
+            return true;
+        }
+
+        meterRegistry.counter(METRIC_DROPPED, TAG_EVENT, eventType).increment();
+        domainEventBusLogger.warn("Evento {} descartado pelo barramento ({}). Fila: {}", eventType, result, queueDepth());
+        return false;
+    }
+
+    /**
+     * Registra consumidor de um tipo de evento.
+     * <p>
+     * Erros do handler são isolados por evento e não encerram a assinatura.
+     *
+     * @param eventType tipo do evento consumido
+     * @param handler pipeline reativo de processamento
+     * @param concurrency máximo de eventos processados simultaneamente
+     * @return assinatura ativa
+     */
+    public <T> Disposable subscribe(Class<T> eventType, Function<T, Mono<Void>> handler, int concurrency) {
+        Timer processingTimer = Timer.builder(METRIC_PROCESSING)
+                .tag(TAG_EVENT, eventType.getSimpleName())
+                .description("Latência de processamento de eventos de domínio")
+                .register(meterRegistry);
+
+        return sink.asFlux()
+                .ofType(eventType)
+                .flatMap(event -> timed(event, handler, processingTimer), concurrency)
+                .subscribe();
+    }
+
+    /**
+     * Registra consumidor de um tipo de evento que processa eventos em lotes.
+     * <p>
+     * Eventos são agrupados até maxBatchSize ou até maxWait desde o primeiro
+     * evento do lote, o que ocorrer antes. Rajadas (ex.: muitas votações
+     * encerradas no mesmo instante) viram poucos lotes; eventos isolados
+     * aguardam no máximo maxWait. Erros do handler são isolados por lote.
+     * O buffer respeita a demanda dos consumidores (fairBackpressure): lotes
+     * não são emitidos sem demanda, preservando o back-pressure do barramento.
+     *
+     * @param eventType tipo do evento consumido
+     * @param handler pipeline reativo de processamento do lote
+     * @param maxBatchSize tamanho máximo do lote
+     * @param maxWait espera máxima para completar um lote
+     * @param concurrency máximo de lotes processados simultaneamente
+     * @return assinatura ativa
+     */
+    public <T> Disposable subscribeInBatches(Class<T> eventType, Function<List<T>, Mono<Void>> handler,
+                                             int maxBatchSize, Duration maxWait, int concurrency) {
+        Timer processingTimer = Timer.builder(METRIC_PROCESSING)
+                .tag(TAG_EVENT, eventType.getSimpleName())
+                .description("Latência de processamento de eventos de domínio")
+                .register(meterRegistry);
+
+        return sink.asFlux()
+                .ofType(eventType)
+                .bufferTimeout(maxBatchSize, maxWait, true)
+                .flatMap(batch -> timed(batch, handler, processingTimer), concurrency)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void close() {
+        sink.tryEmitComplete();
+    }
+
+    /**
+     * Quantidade de eventos no buffer aguardando demanda dos consumidores.
+     */
+    int queueDepth() {
+        return Scannable.from(sink).scanOrDefault(Scannable.Attr.BUFFERED, 0);
+    }
+
+    private <T> Mono<Void> timed(T event, Function<T, Mono<Void>> handler, Timer processingTimer) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return Mono.defer(() -> handler.apply(event))
+                    .doFinally(signal -> sample.stop(processingTimer))
+                    .onErrorResume(error -> {
+                        domainEventBusLogger.error("Erro ao processar evento {}", processingTimer.getId().getTag(TAG_EVENT), error);
+                        return Mono.empty();
+                    });
+        });
+    }
+}
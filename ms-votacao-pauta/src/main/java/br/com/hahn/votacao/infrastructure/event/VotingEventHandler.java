@@ -1,13 +1,22 @@
 package br.com.hahn.votacao.infrastructure.event;
 
 import br.com.hahn.votacao.domain.VotingClosedEvent;
+import br.com.hahn.votacao.domain.dto.ResultBatchOutcomeDTO;
 import br.com.hahn.votacao.domain.service.ResultService;
+import br.com.hahn.votacao.domain.service.VotingOutboxService;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
 
 /**
  * Manipulador de eventos de domínio relacionados ao ciclo de vida das votações.
@@ -21,22 +30,23 @@ import reactor.core.scheduler.Schedulers;
  * - VotingClosedEvent: Acionado quando votação expira
  * <p>
  * PROCESSAMENTO ASSÍNCRONO:
- * - Execução via thread pool eventTaskExecutor (AsyncConfig)
- * - Publisher/Subscriber pattern com tratamento de erros robusto
+ * - Consumo reativo via DomainEventBus, sem salto entre pools de threads
+ * - Eventos agrupados em lotes (domain.event-bus.voting-closed.batch-size
+ *   e batch-wait): rajadas de encerramento custam número constante de consultas
+ * - Concorrência limitada por domain.event-bus.voting-closed.concurrency
  * - Logging detalhado para auditoria e troubleshooting
  * <p>
  * ARQUITETURA DE EVENTOS:
- * VotingService → publish(VotingClosedEvent) → VotingEventHandler → ResultService
+ * VotingScheduler → DomainEventBus.publish(VotingClosedEvent) → VotingEventHandler → ResultService
  * <p>
  * INTEGRAÇÃO COM SCHEDULER:
  * - Eventos podem ser acionados por VotingScheduler (expiração automática)
- * - Também acionados por fechamento manual via API
- * - Thread pool compartilhado para todos os eventos assíncronos
+ * - Reentregas feitas pelo VotingOutboxRelay seguem o mesmo caminho
  * <p>
  * MONITORAMENTO:
  * - Logs de início e fim de processamento
  * - Tracking de erros com context do evento
- * - Métricas de performance via thread naming
+ * - Profundidade da fila e latência via métricas do DomainEventBus
  *
  * @author HahnGuil
  * @since 1.0
@@ -47,71 +57,142 @@ public class VotingEventHandler {
     private static final Logger votingEventHandlerLogger = LoggerFactory.getLogger(VotingEventHandler.class);
 
     private final ResultService resultService;
+    private final VotingOutboxService votingOutboxService;
+    private final DomainEventBus domainEventBus;
+    private final int concurrency;
+    private final int batchSize;
+    private final Duration batchWait;
+
+    private Disposable subscription;
 
     /**
      * Construtor que injeta dependências necessárias para processamento de eventos.
      *
      * @param resultService serviço responsável por cálculo e persistência de resultados
+     * @param votingOutboxService outbox que registra a conclusão do processamento
+     * @param domainEventBus barramento de onde os eventos são consumidos
+     * @param concurrency máximo de lotes processados simultaneamente
+     * @param batchSize máximo de eventos por lote
+     * @param batchWait espera máxima para completar um lote
      */
-    public VotingEventHandler(ResultService resultService) {
+    public VotingEventHandler(ResultService resultService, VotingOutboxService votingOutboxService,
+                              DomainEventBus domainEventBus,
+                              @Value("${domain.event-bus.voting-closed.concurrency:4}") int concurrency,
+                              @Value("${domain.event-bus.voting-closed.batch-size:100}") int batchSize,
+                              @Value("${domain.event-bus.voting-closed.batch-wait:200ms}") Duration batchWait) {
         this.resultService = resultService;
+        this.votingOutboxService = votingOutboxService;
+        this.domainEventBus = domainEventBus;
+        this.concurrency = concurrency;
+        this.batchSize = batchSize;
+        this.batchWait = batchWait;
+    }
+
+    /**
+     * Registra o handler como consumidor de VotingClosedEvent no barramento.
+     * <p>
+     * Eventos publicados antes da assinatura permanecem no buffer do barramento.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        subscription = domainEventBus.subscribeInBatches(VotingClosedEvent.class, this::handleVotingClosedBatch,
+                batchSize, batchWait, concurrency);
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
     }
 
     /**
      * Processa evento de fechamento de votação para cálculo automático de resultado.
      * <p>
      * Acionado automaticamente quando uma votação é encerrada, seja por
-     * expiração de tempo ou fechamento manual. Executa cálculo de resultado de
-     * forma assíncrona para não bloquear operações críticas do sistema.
+     * expiração de tempo ou reentrega do outbox.
      * <p>
      * FLUXO DE PROCESSAMENTO:
      * 1. Recebe evento com ID da votação encerrada
-     * 2. Aciona ResultService para cálculo reativo do resultado
-     * 3. Executa em thread pool dedicado (eventTaskExecutor)
-     * 4. Processa resultado ou erro de forma assíncrona
-     * 5. Registra logs detalhados para auditoria
-     * <p>
-     * EXECUÇÃO ASSÍNCRONA:
-     * - Thread Pool: eventTaskExecutor configurado em AsyncConfig
-     * - Scheduler: Schedulers.boundedElastic() para operações I/O
-     * - Non-blocking: Não bloqueia thread que publicou o evento
+     * 2. Persiste o resultado a partir da contagem do evento (ResultService)
+     * 3. Marca a entrada do outbox como concluída (ou registra a falha)
+     * 4. Registra logs detalhados para auditoria
      * <p>
      * TRATAMENTO DE ERROS:
      * - Captura erros durante cálculo de resultado
      * - Logs detalhados com context do evento falho
-     * - Não propaga exceções para não quebrar publisher
-     * - Mantém sistema resiliente a falhas pontuais
-     * <p>
-     * CENÁRIOS DE ACIONAMENTO:
-     * - Scheduler automático: Votação expira por timeout
-     * - API manual: Administrador fecha votação via endpoint
-     * - Batch processing: Processamento em lote de votações expiradas
-     * <p>
-     * LOGGING E AUDITORIA:
-     * - Log de recebimento do evento com votingId
-     * - Log de sucesso com resultado calculado
-     * - Log de erro com stack trace para debugging
-     * - Thread naming para identificação em monitoring
-     * <p>
-     * PERFORMANCE:
-     * - Processamento reativo via Project Reactor
-     * - Thread pool dimensionado para workload esperado
-     * - Sem bloqueio de threads principais da aplicação
+     * - Não propaga exceções para não encerrar a assinatura do barramento
      *
      * @param event evento contendo ID da votação que foi encerrada
+     * @return completado após o processamento do evento
      */
-    @EventListener
-    @Async("eventTaskExecutor")
-    public void handleVotingClosed(VotingClosedEvent event) {
+    public Mono<Void> handleVotingClosed(VotingClosedEvent event) {
         votingEventHandlerLogger.info("Evento de votação encerrada recebido para votingId: {}", event.votingId());
 
-        resultService.createResult(event.votingId())
-                .subscribeOn(Schedulers.boundedElastic())
-                .subscribe(
-                        result -> votingEventHandlerLogger.info("Resultado calculado automaticamente para votação {}: {}",
-                                event.votingId(), result),
-                        error -> votingEventHandlerLogger.error("Erro ao calcular resultado automaticamente para votação {}",
-                                event.votingId(), error)
-                );
+        return Mono.defer(() -> resultService.createResultFromEvent(event))
+                .flatMap(result -> votingOutboxService.markDone(event.votingId()).thenReturn(result))
+                .doOnNext(result -> votingEventHandlerLogger.info("Resultado calculado automaticamente para votação {}: {}",
+                        event.votingId(), result))
+                .onErrorResume(error -> {
+                    votingEventHandlerLogger.error("Erro ao calcular resultado automaticamente para votação {}",
+                            event.votingId(), error);
+                    return votingOutboxService.recordFailure(event.votingId(), error)
+                            .onErrorResume(outboxError -> Mono.empty())
+                            .then(Mono.empty());
+                })
+                .then();
+    }
+
+    /**
+     * Processa lote de eventos de fechamento de votação.
+     * <p>
+     * Os resultados do lote são persistidos em um único insertMany; as
+     * entradas do outbox das votações concluídas são marcadas em um único
+     * update e as falhas são registradas individualmente, ficando para
+     * reentrega pelo relay. Um lote de um único evento segue handleVotingClosed.
+     *
+     * @param events eventos de votações encerradas
+     * @return completado após o processamento do lote
+     */
+    public Mono<Void> handleVotingClosedBatch(List<VotingClosedEvent> events) {
+        if (events.size() == 1) {
+            return handleVotingClosed(events.get(0));
+        }
+        votingEventHandlerLogger.info("Lote de {} eventos de votação encerrada recebido", events.size());
+
+        return Flux.defer(() -> resultService.createResultsFromEvents(events))
+                .collectList()
+                .flatMap(this::completeOutbox)
+                .onErrorResume(error -> {
+                    votingEventHandlerLogger.error("Erro ao processar lote de {} votações encerradas", events.size(), error);
+                    return Flux.fromIterable(events)
+                            .concatMap(event -> votingOutboxService.recordFailure(event.votingId(), error)
+                                    .onErrorResume(outboxError -> Mono.empty()))
+                            .then();
+                });
+    }
+
+    /**
+     * Marca as votações concluídas e registra as falhas no outbox.
+     */
+    private Mono<Void> completeOutbox(List<ResultBatchOutcomeDTO> outcomes) {
+        List<String> doneIds = outcomes.stream()
+                .filter(ResultBatchOutcomeDTO::isSuccess)
+                .map(ResultBatchOutcomeDTO::votingId)
+                .toList();
+        votingEventHandlerLogger.info("Resultados calculados automaticamente para {} de {} votações",
+                doneIds.size(), outcomes.size());
+
+        Mono<Void> failures = Flux.fromIterable(outcomes)
+                .filter(outcome -> !outcome.isSuccess())
+                .concatMap(outcome -> {
+                    votingEventHandlerLogger.error("Erro ao calcular resultado automaticamente para votação {}",
+                            outcome.votingId(), outcome.error());
+                    return votingOutboxService.recordFailure(outcome.votingId(), outcome.error())
+                            .onErrorResume(outboxError -> Mono.empty());
+                })
+                .then();
+
+        return votingOutboxService.markAllDone(doneIds).then(failures);
     }
 }
@@ -0,0 +1,124 @@
+package br.com.hahn.votacao.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Detector de pinning de virtual threads em suas carrier threads.
+ * <p>
+ * Assina o evento JFR jdk.VirtualThreadPinned via RecordingStream e expõe
+ * cada ocorrência como métrica e log, permitindo identificar blocos
+ * synchronized ou chamadas nativas que impedem a virtual thread de liberar
+ * a carrier durante operações bloqueantes.
+ * <p>
+ * MÉTRICAS:
+ * - jvm.threads.virtual.pinned: quantidade de eventos de pinning
+ * - jvm.threads.virtual.pinned.duration: duração do pinning
+ * <p>
+ * Ativo apenas no perfil virtual-threads. Em JDKs sem o evento (anteriores
+ * ao 21) o stream é iniciado, mas nenhum evento é emitido.
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Component
+@Profile("virtual-threads")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger pinningMonitorLogger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String METRIC_PINNED = "jvm.threads.virtual.pinned";
+    private static final String METRIC_PINNED_DURATION = "jvm.threads.virtual.pinned.duration";
+    private static final int LOGGED_FRAMES = 5;
+
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+    private final Timer pinnedTimer;
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${virtual-threads.pinning.threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+        this.pinnedCounter = Counter.builder(METRIC_PINNED)
+                .description("Eventos de pinning de virtual threads acima do limite")
+                .register(meterRegistry);
+        this.pinnedTimer = Timer.builder(METRIC_PINNED_DURATION)
+                .description("Duração do pinning de virtual threads")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Inicia o stream JFR após a aplicação estar pronta.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+            recordingStream.startAsync();
+            pinningMonitorLogger.info("Monitor de pinning de virtual threads iniciado (limite: {})", threshold);
+        } catch (RuntimeException error) {
+            pinningMonitorLogger.warn("JFR indisponível. Monitor de pinning de virtual threads desativado", error);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    /**
+     * Contabiliza e loga um evento de pinning.
+     *
+     * @param event evento jdk.VirtualThreadPinned
+     */
+    void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        pinnedCounter.increment();
+        pinnedTimer.record(duration);
+
+        pinningMonitorLogger.warn("Virtual thread presa à carrier por {} ms em: {}",
+                duration.toMillis(), describeStack(event.getStackTrace()));
+    }
+
+    private String describeStack(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "stack trace indisponível";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < Math.min(LOGGED_FRAMES, frames.size()); i++) {
+            RecordedFrame frame = frames.get(i);
+            description.append(System.lineSeparator())
+                    .append("    at ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber());
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.hahn.votacao.infrastructure.scheduling;
+
+import br.com.hahn.votacao.domain.model.User;
+import br.com.hahn.votacao.domain.service.UserService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Reverificação em background dos snapshots de elegibilidade dos usuários.
+ * <p>
+ * Renova snapshots ausentes ou que vencem dentro de
+ * voting.eligibility.reverification.refresh-ahead, para que o caminho do voto
+ * quase sempre encontre um snapshot válido e não precise chamar o validador.
+ * <p>
+ * As chamadas ao validador são limitadas por
+ * voting.eligibility.reverification.concurrency, preservando o bulkhead do
+ * cliente para os votos. Usuários com o validador indisponível permanecem
+ * vencidos e voltam no próximo ciclo.
+ * <p>
+ * FLUXO (voting.eligibility.reverification.streaming):
+ * O lote inteiro é verificado por uma única requisição NDJSON ao validador
+ * (ver CpfValidationClient.validateCpfStream) em vez de uma chamada por
+ * usuário; concurrency passa a limitar as gravações de snapshot. Permite
+ * lotes grandes (batch-size) sem ocupar o bulkhead dos votos.
+ * <p>
+ * MÉTRICAS:
+ * - user.eligibility.reverified: snapshots renovados
+ * - user.eligibility.reverification.skipped: reverificações sem resposta do validador
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "voting.eligibility.reverification.enabled", havingValue = "true")
+public class EligibilityReverificationJob {
+
+    private static final Logger eligibilityReverificationLogger = LoggerFactory.getLogger(EligibilityReverificationJob.class);
+
+    private static final String METRIC_REVERIFIED = "user.eligibility.reverified";
+    private static final String METRIC_SKIPPED = "user.eligibility.reverification.skipped";
+
+    private final UserService userService;
+    private final Duration refreshAhead;
+    private final int batchSize;
+    private final int concurrency;
+    private final boolean streaming;
+    private final Counter reverifiedCounter;
+    private final Counter skippedCounter;
+
+    public EligibilityReverificationJob(UserService userService, MeterRegistry meterRegistry,
+                                        @Value("${voting.eligibility.reverification.refresh-ahead:1h}") Duration refreshAhead,
+                                        @Value("${voting.eligibility.reverification.batch-size:500}") int batchSize,
+                                        @Value("${voting.eligibility.reverification.concurrency:8}") int concurrency,
+                                        @Value("${voting.eligibility.reverification.streaming:false}") boolean streaming) {
+        this.userService = userService;
+        this.refreshAhead = refreshAhead;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.streaming = streaming;
+        this.reverifiedCounter = Counter.builder(METRIC_REVERIFIED)
+                .description("Snapshots de elegibilidade renovados")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder(METRIC_SKIPPED)
+                .description("Reverificações de elegibilidade sem resposta do validador")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reverifica lote de usuários com snapshot ausente ou vencendo.
+     */
+    @Scheduled(fixedDelayString = "${voting.eligibility.reverification.interval:60000}")
+    public void reverifyDueUsers() {
+        reverifyBatch().subscribe(
+                null,
+                error -> eligibilityReverificationLogger.error("Erro na reverificação de elegibilidade", error)
+        );
+    }
+
+    /**
+     * Reverifica um lote de usuários.
+     *
+     * @return completado após processar o lote
+     */
+    Mono<Void> reverifyBatch() {
+        Flux<User> dueUsers = userService.findEligibilityDueBefore(Instant.now().plus(refreshAhead), batchSize);
+        Flux<Boolean> outcomes = streaming
+                ? userService.refreshEligibilityStream(dueUsers, concurrency)
+                : dueUsers.flatMap(userService::refreshEligibility, concurrency);
+
+        return outcomes
+                .doOnNext(refreshed -> (refreshed ? reverifiedCounter : skippedCounter).increment())
+                .then();
+    }
+}
@@ -1,8 +1,15 @@
 package br.com.hahn.votacao.infrastructure.scheduling;
 
 import br.com.hahn.votacao.infrastructure.service.VoteBatchConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Agendador responsável pelo flush periódico do buffer de votos.
@@ -10,6 +17,12 @@ import org.springframework.stereotype.Component;
  * Executa processamento em lote a cada 30 segundos para garantir que votos
  * não fiquem indefinidamente no buffer, complementando o flush automático
  * baseado em tamanho de lote.
+ * </p>
+ * O flush usa block() e roda no blockingScheduler (ThreadingConfig), para não
+ * ocupar a thread compartilhada do agendador de tarefas @Scheduled.
+ * Como o disparo não espera o flush terminar, um flush lento (back-pressure
+ * do Mongo ou Kafka) poderia se sobrepor ao próximo e ambos drenariam os
+ * mesmos buffers: o tick é ignorado enquanto houver flush em andamento.
  *
  * @author HahnGuil
  * @since 1.0
@@ -19,15 +32,22 @@ public class VoteBatchScheduler {
 
     private static final long FLUSH_INTERVAL_MS = 30_000L;
 
+    private static final Logger voteBatchSchedulerLogger = LoggerFactory.getLogger(VoteBatchScheduler.class);
+
     private final VoteBatchConsumer voteBatchConsumer;
+    private final Scheduler blockingScheduler;
+    private final AtomicBoolean flushInProgress = new AtomicBoolean();
 
     /**
      * Construtor que injeta o consumidor de lotes.
      *
      * @param voteBatchConsumer serviço responsável pelo processamento em lote
+     * @param blockingScheduler scheduler onde o flush bloqueante é executado
      */
-    public VoteBatchScheduler(VoteBatchConsumer voteBatchConsumer) {
+    public VoteBatchScheduler(VoteBatchConsumer voteBatchConsumer,
+                              @Qualifier("blockingScheduler") Scheduler blockingScheduler) {
         this.voteBatchConsumer = voteBatchConsumer;
+        this.blockingScheduler = blockingScheduler;
     }
 
     /**
@@ -38,6 +58,17 @@ public class VoteBatchScheduler {
      */
     @Scheduled(fixedRate = FLUSH_INTERVAL_MS)
     public void scheduledFlush() {
-        voteBatchConsumer.scheduledFlush();
+        if (!flushInProgress.compareAndSet(false, true)) {
+            voteBatchSchedulerLogger.warn("Flush agendado anterior ainda em andamento; tick ignorado");
+            return;
+        }
+
+        Mono.fromRunnable(voteBatchConsumer::scheduledFlush)
+                .subscribeOn(blockingScheduler)
+                .doFinally(signal -> flushInProgress.set(false))
+                .subscribe(
+                        unused -> { },
+                        error -> voteBatchSchedulerLogger.error("Erro no flush agendado de votos", error)
+                );
     }
 }
@@ -0,0 +1,121 @@
+package br.com.hahn.votacao.infrastructure.scheduling;
+
+import br.com.hahn.votacao.domain.model.Voting;
+import br.com.hahn.votacao.domain.model.VotingOutboxEntry;
+import br.com.hahn.votacao.domain.service.VotingOutboxService;
+import br.com.hahn.votacao.domain.service.VotingService;
+import br.com.hahn.votacao.infrastructure.event.DomainEventBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Relay do outbox de votações encerradas.
+ * <p>
+ * Periodicamente reivindica entradas PENDING com vencimento expirado e
+ * reentrega o VotingClosedEvent correspondente. Cobre eventos perdidos por
+ * queda do processo ou rejeitados pelo pool de eventos em rajadas de
+ * encerramento. O cálculo do resultado é idempotente (Result usa votingId
+ * como chave), então reentregas concorrentes com o fast-path são seguras.
+ * <p>
+ * A entrada é gravada antes do encerramento da votação: se o encerramento
+ * falhar, a votação continua ativa com entrada PENDING. Por isso só são
+ * reentregues entradas de votações já encerradas; as demais registram a
+ * falha e aguardam o lease, até o scheduler encerrar a votação e
+ * sobrescrever a entrada ou as tentativas se esgotarem.
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Component
+public class VotingOutboxRelay {
+
+    private static final Logger votingOutboxRelayLogger = LoggerFactory.getLogger(VotingOutboxRelay.class);
+
+    private final VotingOutboxService votingOutboxService;
+    private final VotingService votingService;
+    private final DomainEventBus domainEventBus;
+    private final int batchSize;
+
+    public VotingOutboxRelay(VotingOutboxService votingOutboxService, VotingService votingService,
+                             DomainEventBus domainEventBus,
+                             @Value("${voting.outbox.relay.batch-size:100}") int batchSize) {
+        this.votingOutboxService = votingOutboxService;
+        this.votingService = votingService;
+        this.domainEventBus = domainEventBus;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Reentrega lote de entradas vencidas do outbox.
+     */
+    @Scheduled(fixedDelayString = "${voting.outbox.relay.interval:10000}")
+    public void relayDueEntries() {
+        votingOutboxService.claimDueEntries(batchSize)
+                .collectList()
+                .flatMapMany(this::closedVotingsOnly)
+                .subscribe(
+                        this::redeliver,
+                        error -> votingOutboxRelayLogger.error("Erro ao consultar outbox de votações", error)
+                );
+    }
+
+    /**
+     * Mantém apenas entradas cuja votação já foi encerrada.
+     * <p>
+     * Uma única consulta ($in) por lote. Entrada de votação ativa ou
+     * inexistente registra a falha e não é reentregue.
+     *
+     * @param entries entradas reivindicadas
+     * @return fluxo das entradas de votações encerradas
+     */
+    private Flux<VotingOutboxEntry> closedVotingsOnly(List<VotingOutboxEntry> entries) {
+        if (entries.isEmpty()) {
+            return Flux.empty();
+        }
+
+        List<String> votingIds = entries.stream().map(VotingOutboxEntry::getVotingId).toList();
+        return votingService.findAllById(votingIds)
+                .filter(voting -> !voting.isVotingSatus())
+                .map(Voting::getVotingId)
+                .collect(Collectors.toSet())
+                .flatMapMany(closedIds -> Flux.fromIterable(entries)
+                        .concatMap(entry -> keepIfClosed(entry, closedIds)));
+    }
+
+    private Mono<VotingOutboxEntry> keepIfClosed(VotingOutboxEntry entry, Set<String> closedIds) {
+        if (closedIds.contains(entry.getVotingId())) {
+            return Mono.just(entry);
+        }
+
+        votingOutboxRelayLogger.warn("Votação {} não está encerrada. Evento de encerramento não reentregue",
+                entry.getVotingId());
+        return votingOutboxService.recordFailure(entry.getVotingId(), new IllegalStateException("Votação não encerrada"))
+                .then(Mono.empty());
+    }
+
+    /**
+     * Republica evento da entrada reivindicada.
+     * <p>
+     * Se o barramento de eventos estiver saturado, a entrada permanece
+     * PENDING e volta a vencer ao fim do lease.
+     *
+     * @param entry entrada reivindicada
+     */
+    private void redeliver(VotingOutboxEntry entry) {
+        votingOutboxRelayLogger.info("Reentregando evento de encerramento da votação {} (tentativa {})",
+                entry.getVotingId(), entry.getAttempts() + 1);
+        if (!domainEventBus.publish(votingOutboxService.toEvent(entry))) {
+            votingOutboxRelayLogger.warn("Barramento de eventos saturado. Votação {} será reentregue no próximo lease",
+                    entry.getVotingId());
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package br.com.hahn.votacao.infrastructure.scheduling;
 
 import br.com.hahn.votacao.domain.VotingClosedEvent;
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
 import br.com.hahn.votacao.domain.model.Voting;
+import br.com.hahn.votacao.domain.service.ResultService;
+import br.com.hahn.votacao.domain.service.VotingOutboxService;
 import br.com.hahn.votacao.domain.service.VotingService;
-import br.com.hahn.votacao.infrastructure.service.VoteBatchConsumer;
+import br.com.hahn.votacao.infrastructure.event.DomainEventBus;
+import br.com.hahn.votacao.infrastructure.service.VoteDrainBarrier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.util.List;
 
 /**
  * Agendador responsável pelo gerenciamento automático do ciclo de vida das votações.
@@ -24,16 +28,20 @@ public class VotingScheduler {
 
     private static final Logger votingSchedulerLogger = LoggerFactory.getLogger(VotingScheduler.class);
     private static final String CRON_EVERY_MINUTE = "0 * * * * *";
-    private static final int DEFAULT_TOTAL_VOTES = 0;
 
     private final VotingService votingService;
-    private final VoteBatchConsumer voteBatchConsumer;
-    private final ApplicationEventPublisher eventPublisher;
+    private final ResultService resultService;
+    private final VoteDrainBarrier voteDrainBarrier;
+    private final VotingOutboxService votingOutboxService;
+    private final DomainEventBus domainEventBus;
 
-    public VotingScheduler(VotingService votingService, VoteBatchConsumer voteBatchConsumer, ApplicationEventPublisher eventPublisher) {
+    public VotingScheduler(VotingService votingService, ResultService resultService, VoteDrainBarrier voteDrainBarrier,
+                           VotingOutboxService votingOutboxService, DomainEventBus domainEventBus) {
         this.votingService = votingService;
-        this.voteBatchConsumer = voteBatchConsumer;
-        this.eventPublisher = eventPublisher;
+        this.resultService = resultService;
+        this.voteDrainBarrier = voteDrainBarrier;
+        this.votingOutboxService = votingOutboxService;
+        this.domainEventBus = domainEventBus;
     }
 
     /**
@@ -46,8 +54,10 @@ public class VotingScheduler {
         votingSchedulerLogger.info("Buscando votações com prazo expirado para encerrar.");
 
         findExpiredVotings()
-                .flatMap(this::processExpiredVoting)
-                .flatMap(this::closeVoting)
+                .flatMap(this::closeExpiredVoting)
+                .collectList()
+                .flatMapMany(this::countVotes)
+                .flatMap(this::recordTally)
                 .subscribe(
                         this::publishVotingClosedEvent,
                         this::handleProcessingError
@@ -75,7 +85,34 @@ public class VotingScheduler {
     }
 
     /**
-     * Processa votos pendentes antes do encerramento da votação.
+     * Encerra e drena uma votação expirada, isolando falhas da varredura.
+     * <p>
+     * Falha no registro ou no encerramento mantém a votação ativa e o próximo
+     * ciclo tenta de novo. Falha na drenagem, já com a votação encerrada,
+     * apenas a exclui da apuração em lote: a entrada do outbox fica sem
+     * contagem e o relay a reentrega para o consumidor apurar os votos.
+     *
+     * @param voting votação expirada
+     * @return mono da votação encerrada e drenada, ou vazio em caso de falha
+     */
+    private Mono<Voting> closeExpiredVoting(Voting voting) {
+        return registerInOutbox(voting)
+                .flatMap(this::closeVoting)
+                .onErrorResume(error -> {
+                    votingSchedulerLogger.error("Falha ao encerrar votação {}. Nova tentativa no próximo ciclo: {}",
+                            voting.getVotingId(), error.getMessage(), error);
+                    return Mono.empty();
+                })
+                .flatMap(this::processExpiredVoting);
+    }
+
+    /**
+     * Processa votos pendentes da votação recém-encerrada.
+     * <p>
+     * Aciona a barreira de drenagem distribuída: flush local, espera do
+     * consumer group alcançar o fim do vote-topic e flush em todos os nós.
+     * Executada após o encerramento, quando nenhum voto novo é aceito: todo
+     * voto aceito até o encerramento está persistido antes da apuração.
      *
      * @param voting votação a ser processada
      * @return mono da votação após processamento
@@ -83,46 +120,128 @@ public class VotingScheduler {
     private Mono<Voting> processExpiredVoting(Voting voting) {
         votingSchedulerLogger.info("Votação {} expirou. Processando votos pendentes antes de encerrar.", voting.getVotingId());
 
-        return voteBatchConsumer.forceFlushForVotingReactive(voting.getVotingId())
-                .then(Mono.just(voting));
+        return voteDrainBarrier.drain(voting.getVotingId())
+                .then(Mono.just(voting))
+                .onErrorResume(error -> {
+                    votingSchedulerLogger.error("Falha na drenagem da votação {}. Fora da apuração em lote; resultado será apurado pelo relay do outbox: {}",
+                            voting.getVotingId(), error.getMessage(), error);
+                    return Mono.empty();
+                });
     }
 
     /**
-     * Encerra a votação atualizando seu status e persistindo.
+     * Apura a contagem de votos por opção de todas as votações encerradas e drenadas.
+     * <p>
+     * Uma única apuração em lote para a varredura, conforme result.tally.mode,
+     * sem acumular votos em memória: votações que expiram no mesmo instante
+     * custam uma consulta, e não uma por votação. Falha na apuração deixa as
+     * entradas do outbox sem contagem, e o relay as reentrega.
+     *
+     * @param votings votações drenadas nesta varredura
+     * @return flux das votações com suas contagens
+     */
+    private Flux<ClosingVoting> countVotes(List<Voting> votings) {
+        if (votings.isEmpty()) {
+            return Flux.empty();
+        }
+
+        List<String> votingIds = votings.stream().map(Voting::getVotingId).toList();
+        return resultService.tallyVotes(votingIds)
+                .onErrorResume(error -> {
+                    votingSchedulerLogger.error("Falha na apuração em lote de {} votações. Resultados serão apurados pelo relay do outbox: {}",
+                            votingIds.size(), error.getMessage(), error);
+                    return Mono.empty();
+                })
+                .flatMapMany(tallies -> Flux.fromIterable(votings)
+                        .map(voting -> new ClosingVoting(voting, tallies.get(voting.getVotingId()))));
+    }
+
+    /**
+     * Registra o encerramento no outbox antes de atualizar o status.
+     * <p>
+     * Garante que o cálculo do resultado seja reentregue pelo relay caso o
+     * evento em memória se perca. A entrada nasce sem contagem.
      *
      * @param voting votação a ser encerrada
-     * @return mono da votação encerrada
+     * @return mono da votação após registro
+     */
+    private Mono<Voting> registerInOutbox(Voting voting) {
+        return votingOutboxService.register(voting)
+                .thenReturn(voting);
+    }
+
+    /**
+     * Encerra a votação com update condicional ao status ativo.
+     * <p>
+     * Votação já encerrada por outra instância é descartada da varredura.
+     *
+     * @param voting votação a ser encerrada
+     * @return mono da votação encerrada, ou vazio se já estava encerrada
      */
     private Mono<Voting> closeVoting(Voting voting) {
-        voting.setVotingSatus(false);
         votingSchedulerLogger.info("Encerrando votação: {}", voting.getVotingId());
-        return votingService.saveVoting(voting);
+        return votingService.closeVoting(voting.getVotingId())
+                .flatMap(closed -> {
+                    if (!closed) {
+                        votingSchedulerLogger.info("Votação {} já encerrada por outra instância", voting.getVotingId());
+                        return Mono.empty();
+                    }
+                    voting.setVotingSatus(false);
+                    return Mono.just(voting);
+                });
+    }
+
+    /**
+     * Grava no outbox a contagem apurada após o encerramento.
+     * <p>
+     * Falha na gravação não impede o evento em memória, que leva a contagem;
+     * a reentrega pelo relay segue sem tally.
+     *
+     * @param closing votação encerrada e sua contagem
+     * @return mono da votação após gravação
+     */
+    private Mono<ClosingVoting> recordTally(ClosingVoting closing) {
+        return votingOutboxService.recordTally(closing.voting().getVotingId(), closing.tally())
+                .onErrorResume(error -> {
+                    votingSchedulerLogger.warn("Falha ao gravar contagem da votação {} no outbox: {}",
+                            closing.voting().getVotingId(), error.getMessage());
+                    return Mono.empty();
+                })
+                .thenReturn(closing);
     }
 
     /**
      * Publica evento de votação encerrada.
+     * <p>
+     * Fast-path em memória; se o barramento de eventos estiver saturado, o
+     * relay do outbox reentrega o evento após o período de carência.
      *
-     * @param savedVoting votação que foi encerrada
+     * @param closed votação que foi encerrada e sua contagem
      */
-    private void publishVotingClosedEvent(Voting savedVoting) {
+    private void publishVotingClosedEvent(ClosingVoting closed) {
+        Voting savedVoting = closed.voting();
         votingSchedulerLogger.info("Votação {} encerrada com sucesso", savedVoting.getVotingId());
 
-        VotingClosedEvent event = createVotingClosedEvent(savedVoting);
-        eventPublisher.publishEvent(event);
+        if (!domainEventBus.publish(createVotingClosedEvent(savedVoting, closed.tally()))) {
+            votingSchedulerLogger.warn("Barramento de eventos saturado. Resultado da votação {} será calculado pelo relay do outbox",
+                    savedVoting.getVotingId());
+        }
     }
 
     /**
      * Cria evento de votação encerrada.
      *
      * @param voting votação encerrada
+     * @param tally contagem de votos por opção
      * @return evento de votação encerrada
      */
-    private VotingClosedEvent createVotingClosedEvent(Voting voting) {
+    private VotingClosedEvent createVotingClosedEvent(Voting voting, VoteTallyDTO tally) {
         return new VotingClosedEvent(
                 voting.getVotingId(),
                 voting.getSubject(),
                 Instant.now(),
-                DEFAULT_TOTAL_VOTES
+                Math.toIntExact(tally.totalVotes()),
+                tally
         );
     }
 
@@ -134,4 +253,12 @@ public class VotingScheduler {
     private void handleProcessingError(Throwable error) {
         votingSchedulerLogger.error("Erro ao encerrar votação expirada: {}", error.getMessage(), error);
     }
+
+    /**
+     * Votação em encerramento acompanhada da contagem de votos.
+     *
+     * @param voting votação
+     * @param tally contagem de votos por opção
+     */
+    private record ClosingVoting(Voting voting, VoteTallyDTO tally) {}
 }
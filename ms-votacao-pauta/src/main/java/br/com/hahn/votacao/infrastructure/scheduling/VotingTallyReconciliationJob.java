@@ -0,0 +1,98 @@
+package br.com.hahn.votacao.infrastructure.scheduling;
+
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
+import br.com.hahn.votacao.domain.model.VotingTally;
+import br.com.hahn.votacao.domain.service.VoteService;
+import br.com.hahn.votacao.domain.service.VotingTallyService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Reconciliação das contagens incrementais com os votos persistidos.
+ * <p>
+ * Votos e contagens são gravados em coleções distintas, sem transação:
+ * uma queda entre o insert dos votos e o $inc deixa a contagem defasada.
+ * Como o flush marca a contagem como pendente antes do insert
+ * (VotingTallyService.markPendingReconciliation), a contagem volta à
+ * reconciliação mesmo que já tivesse sido reconciliada. Este job confere contagens sem incrementos há pelo menos
+ * voting.tally.reconciliation.quiet-period contra a agregação dos votos
+ * e corrige divergências.
+ * <p>
+ * A correção é condicional ao updatedAt lido: um incremento concorrente
+ * invalida a gravação e a contagem volta a ser conferida no próximo ciclo.
+ * <p>
+ * MÉTRICAS:
+ * - voting.tally.reconciliation.drift: contagens corrigidas
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "voting.tally.reconciliation.enabled", havingValue = "true")
+public class VotingTallyReconciliationJob {
+
+    private static final Logger votingTallyReconciliationLogger = LoggerFactory.getLogger(VotingTallyReconciliationJob.class);
+
+    private static final String METRIC_DRIFT = "voting.tally.reconciliation.drift";
+
+    private final VotingTallyService votingTallyService;
+    private final VoteService voteService;
+    private final Duration quietPeriod;
+    private final int batchSize;
+    private final Counter driftCounter;
+
+    public VotingTallyReconciliationJob(VotingTallyService votingTallyService, VoteService voteService,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${voting.tally.reconciliation.quiet-period:5m}") Duration quietPeriod,
+                                        @Value("${voting.tally.reconciliation.batch-size:100}") int batchSize) {
+        this.votingTallyService = votingTallyService;
+        this.voteService = voteService;
+        this.quietPeriod = quietPeriod;
+        this.batchSize = batchSize;
+        this.driftCounter = Counter.builder(METRIC_DRIFT)
+                .description("Contagens incrementais corrigidas pela reconciliação")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Confere lote de contagens pendentes de reconciliação.
+     */
+    @Scheduled(fixedDelayString = "${voting.tally.reconciliation.interval:60000}")
+    public void reconcilePendingTallies() {
+        reconcileBatch().subscribe(
+                null,
+                error -> votingTallyReconciliationLogger.error("Erro na reconciliação de contagens de votos", error)
+        );
+    }
+
+    /**
+     * Confere e corrige um lote de contagens.
+     *
+     * @return completado após processar o lote
+     */
+    Mono<Void> reconcileBatch() {
+        return votingTallyService.findPendingReconciliation(Instant.now().minus(quietPeriod), batchSize)
+                .concatMap(tally -> voteService.countVotesByOption(tally.getVotingId())
+                        .flatMap(actual -> reconcile(tally, actual)))
+                .then();
+    }
+
+    private Mono<Boolean> reconcile(VotingTally tally, VoteTallyDTO actual) {
+        if (tally.getSimVotes() != actual.simVotes() || tally.getNaoVotes() != actual.naoVotes()) {
+            driftCounter.increment();
+            votingTallyReconciliationLogger.warn("Contagem da votação {} divergente: SIM {}→{}, NAO {}→{}. Corrigindo.",
+                    tally.getVotingId(), tally.getSimVotes(), actual.simVotes(), tally.getNaoVotes(), actual.naoVotes());
+        }
+        return votingTallyService.reconcile(tally, actual);
+    }
+}
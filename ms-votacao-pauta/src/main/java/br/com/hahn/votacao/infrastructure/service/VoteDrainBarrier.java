@@ -0,0 +1,191 @@
+package br.com.hahn.votacao.infrastructure.service;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Barreira de drenagem distribuída executada antes do encerramento de uma votação.
+ * <p>
+ * Garante que votos ainda em trânsito sejam persistidos antes do cálculo do
+ * resultado, mesmo com múltiplas instâncias consumindo o vote-topic.
+ * <p>
+ * FASES DA DRENAGEM:
+ * 1. Flush local: votos da votação presentes no buffer deste nó
+ * 2. Kafka: captura os offsets finais do vote-topic e aguarda o consumer
+ *    group commitar offsets iguais ou superiores (todos os votos consumidos)
+ * 3. Redis pub/sub: publica pedido de flush para todos os nós e aguarda
+ *    um ACK de cada assinante do canal
+ * <p>
+ * TOLERÂNCIA A FALHAS:
+ * - Erro no flush local é propagado (votação não é encerrada)
+ * - Timeout ou falha nas fases distribuídas gera log de alerta e o
+ *   encerramento prossegue, preservando o comportamento anterior
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Component
+public class VoteDrainBarrier {
+
+    private static final Logger voteDrainBarrierLogger = LoggerFactory.getLogger(VoteDrainBarrier.class);
+
+    private static final String DRAIN_CHANNEL = "vote-drain-requests";
+    private static final String DRAIN_ACK_KEY_PREFIX = "vote-drain-ack:";
+    private static final String MESSAGE_SEPARATOR = "|";
+    private static final Duration ACK_KEY_TTL = Duration.ofMinutes(5);
+    private static final Duration RESUBSCRIBE_MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration RESUBSCRIBE_MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final VoteBatchConsumer voteBatchConsumer;
+    private final VoteTopicOffsetTracker offsetTracker;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final Duration drainTimeout;
+    private final Duration pollInterval;
+
+    private Disposable drainRequestSubscription;
+
+    public VoteDrainBarrier(VoteBatchConsumer voteBatchConsumer,
+                            VoteTopicOffsetTracker offsetTracker,
+                            ReactiveStringRedisTemplate redisTemplate,
+                            @Value("${vote.drain.timeout:30s}") Duration drainTimeout,
+                            @Value("${vote.drain.poll-interval:500ms}") Duration pollInterval) {
+        this.voteBatchConsumer = voteBatchConsumer;
+        this.offsetTracker = offsetTracker;
+        this.redisTemplate = redisTemplate;
+        this.drainTimeout = drainTimeout;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Drena todos os votos pendentes de uma votação em todos os nós.
+     *
+     * @param votingId ID da votação que está sendo encerrada
+     * @return completado quando a drenagem terminar ou o timeout expirar
+     */
+    public Mono<Void> drain(String votingId) {
+        return voteBatchConsumer.forceFlushForVotingReactive(votingId)
+                .then(Mono.defer(() -> drainDistributed(votingId)));
+    }
+
+    /**
+     * Assina o canal de pedidos de drenagem para responder a outros nós.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribeToDrainRequests() {
+        drainRequestSubscription = redisTemplate.listenToChannel(DRAIN_CHANNEL)
+                .map(ReactiveSubscription.Message::getMessage)
+                .flatMap(this::handleDrainRequest)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, RESUBSCRIBE_MIN_BACKOFF).maxBackoff(RESUBSCRIBE_MAX_BACKOFF))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (drainRequestSubscription != null) {
+            drainRequestSubscription.dispose();
+        }
+    }
+
+    /**
+     * Executa as fases distribuídas (Kafka + Redis) com timeout global.
+     */
+    private Mono<Void> drainDistributed(String votingId) {
+        return awaitConsumerGroupCatchUp()
+                .then(Mono.defer(() -> broadcastFlushAndAwaitAcks(votingId)))
+                .timeout(drainTimeout)
+                .doOnSuccess(unused -> voteDrainBarrierLogger.info("Drenagem concluída para votação: {}", votingId))
+                .onErrorResume(error -> {
+                    if (error instanceof TimeoutException) {
+                        voteDrainBarrierLogger.warn("Timeout de {} na drenagem da votação {}. Encerrando mesmo assim.",
+                                drainTimeout, votingId);
+                    } else {
+                        voteDrainBarrierLogger.warn("Falha na drenagem distribuída da votação {}. Encerrando mesmo assim.",
+                                votingId, error);
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Aguarda o consumer group alcançar os offsets finais capturados agora.
+     */
+    private Mono<Void> awaitConsumerGroupCatchUp() {
+        return offsetTracker.endOffsets()
+                .flatMap(endOffsets -> Flux.interval(Duration.ZERO, pollInterval)
+                        .concatMap(tick -> offsetTracker.committedOffsets())
+                        .filter(committed -> hasReached(committed, endOffsets))
+                        .next())
+                .then();
+    }
+
+    /**
+     * Publica pedido de flush e aguarda ACK de cada nó assinante.
+     */
+    private Mono<Void> broadcastFlushAndAwaitAcks(String votingId) {
+        String ackKey = DRAIN_ACK_KEY_PREFIX + votingId + ":" + UUID.randomUUID();
+
+        return redisTemplate.convertAndSend(DRAIN_CHANNEL, votingId + MESSAGE_SEPARATOR + ackKey)
+                .flatMap(receivers -> awaitAcks(ackKey, receivers));
+    }
+
+    private Mono<Void> awaitAcks(String ackKey, long expectedAcks) {
+        if (expectedAcks <= 0) {
+            return Mono.empty();
+        }
+
+        return Flux.interval(Duration.ZERO, pollInterval)
+                .concatMap(tick -> redisTemplate.opsForValue().get(ackKey).defaultIfEmpty("0"))
+                .filter(acks -> Long.parseLong(acks) >= expectedAcks)
+                .next()
+                .then(Mono.defer(() -> redisTemplate.delete(ackKey)))
+                .then();
+    }
+
+    /**
+     * Responde a um pedido de drenagem: flush local e incremento do ACK.
+     */
+    private Mono<Void> handleDrainRequest(String message) {
+        int separatorIndex = message.indexOf(MESSAGE_SEPARATOR);
+        if (separatorIndex < 0) {
+            voteDrainBarrierLogger.warn("Pedido de drenagem inválido ignorado: {}", message);
+            return Mono.empty();
+        }
+
+        String votingId = message.substring(0, separatorIndex);
+        String ackKey = message.substring(separatorIndex + 1);
+
+        return voteBatchConsumer.forceFlushForVotingReactive(votingId)
+                .then(Mono.defer(() -> redisTemplate.opsForValue().increment(ackKey)))
+                .flatMap(acks -> redisTemplate.expire(ackKey, ACK_KEY_TTL))
+                .then()
+                .onErrorResume(error -> {
+                    voteDrainBarrierLogger.error("Erro ao atender pedido de drenagem da votação {}", votingId, error);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Verifica se os offsets commitados alcançaram os offsets finais.
+     */
+    static boolean hasReached(Map<TopicPartition, Long> committed, Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream()
+                .allMatch(end -> end.getValue() <= 0 || committed.getOrDefault(end.getKey(), 0L) >= end.getValue());
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.hahn.votacao.infrastructure.service;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Consulta offsets do tópico de votos via Kafka AdminClient.
+ * <p>
+ * Fornece os offsets finais (high watermark) do vote-topic e os offsets
+ * commitados pelo consumer group vote-group, permitindo verificar se todos
+ * os votos publicados até um instante já foram consumidos por algum nó.
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@Component
+public class VoteTopicOffsetTracker {
+
+    private static final String KAFKA_TOPIC = "vote-topic";
+    private static final String KAFKA_GROUP_ID = "vote-group";
+
+    private final KafkaAdmin kafkaAdmin;
+    private volatile AdminClient adminClient;
+
+    public VoteTopicOffsetTracker(KafkaAdmin kafkaAdmin) {
+        this.kafkaAdmin = kafkaAdmin;
+    }
+
+    /**
+     * Captura o offset final de cada partição do tópico de votos.
+     *
+     * @return mapa partição → próximo offset a ser escrito
+     */
+    public Mono<Map<TopicPartition, Long>> endOffsets() {
+        return fromKafkaFuture(() -> admin().describeTopics(List.of(KAFKA_TOPIC)).allTopicNames())
+                .map(descriptions -> toLatestOffsetSpecs(descriptions.get(KAFKA_TOPIC)))
+                .flatMap(specs -> fromKafkaFuture(() -> admin().listOffsets(specs).all()))
+                .map(offsets -> offsets.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().offset())));
+    }
+
+    /**
+     * Recupera os offsets commitados pelo consumer group de votos.
+     *
+     * @return mapa partição → próximo offset a ser lido pelo grupo
+     */
+    public Mono<Map<TopicPartition, Long>> committedOffsets() {
+        return fromKafkaFuture(() -> admin().listConsumerGroupOffsets(KAFKA_GROUP_ID).partitionsToOffsetAndMetadata())
+                .map(this::toOffsets);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (adminClient != null) {
+            adminClient.close();
+        }
+    }
+
+    private Map<TopicPartition, OffsetSpec> toLatestOffsetSpecs(TopicDescription description) {
+        return description.partitions().stream()
+                .map(partition -> new TopicPartition(KAFKA_TOPIC, partition.partition()))
+                .collect(Collectors.toMap(Function.identity(), partition -> OffsetSpec.latest()));
+    }
+
+    private Map<TopicPartition, Long> toOffsets(Map<TopicPartition, OffsetAndMetadata> committed) {
+        Map<TopicPartition, Long> offsets = new HashMap<>();
+        committed.forEach((partition, metadata) -> {
+            if (metadata != null && KAFKA_TOPIC.equals(partition.topic())) {
+                offsets.put(partition, metadata.offset());
+            }
+        });
+        return offsets;
+    }
+
+    private AdminClient admin() {
+        AdminClient client = adminClient;
+        if (client == null) {
+            synchronized (this) {
+                client = adminClient;
+                if (client == null) {
+                    client = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+                    adminClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    private static <T> Mono<T> fromKafkaFuture(Supplier<KafkaFuture<T>> futureSupplier) {
+        return Mono.defer(() -> Mono.fromCompletionStage(futureSupplier.get().toCompletionStage()));
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.hahn.votacao.api.controller;
+
+import br.com.hahn.votacao.domain.dto.context.ServiceRequestContext;
+import br.com.hahn.votacao.domain.dto.response.ResultResponseDTO;
+import br.com.hahn.votacao.domain.service.ResultService;
+import br.com.hahn.votacao.domain.service.ResultStreamService;
+import br.com.hahn.votacao.infrastructure.cache.ResultResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ResultControllerTest {
+
+    private ResultService resultService;
+    private ResultController resultController;
+
+    @BeforeEach
+    void setUp() {
+        resultService = mock(ResultService.class);
+        resultController = new ResultController(resultService, mock(ResultStreamService.class),
+                new ResultResponseCache(new ObjectMapper(), 100), Duration.ofDays(1));
+    }
+
+    @Test
+    void getResult_shouldReturnBodyWithETagAndImmutableCacheControl() {
+        when(resultService.getResult(any(ServiceRequestContext.class)))
+                .thenReturn(Mono.just(new ResultResponseDTO("v1", "Pauta", 10, "APROVADO")));
+
+        ResponseEntity<byte[]> response = resultController.getResult("v1", "v1", null).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertNotNull(response.getHeaders().getETag());
+        assertEquals("max-age=86400, public, immutable", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void getResult_shouldAnswerNotModifiedFromCacheWithoutReloading() {
+        when(resultService.getResult(any(ServiceRequestContext.class)))
+                .thenReturn(Mono.just(new ResultResponseDTO("v1", "Pauta", 10, "APROVADO")));
+
+        String eTag = resultController.getResult("v1", "v1", null).block().getHeaders().getETag();
+        ResponseEntity<byte[]> response = resultController.getResult("v1", "v1", eTag).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(eTag, response.getHeaders().getETag());
+        verify(resultService, times(1)).getResult(any(ServiceRequestContext.class));
+    }
+}
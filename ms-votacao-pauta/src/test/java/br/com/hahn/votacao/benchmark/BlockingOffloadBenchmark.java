@@ -0,0 +1,92 @@
+package br.com.hahn.votacao.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de descarregamento de trechos bloqueantes por executor.
+ * <p>
+ * Executa N trechos bloqueantes simultâneos (Mono.delay().block(), no lugar
+ * de um block() sobre I/O reativo) e compara o tempo total em três executores.
+ * Mede apenas o custo do executor para trabalho bloqueante; não exercita o
+ * scheduler de encerramento, o flush do buffer de votos nem o Mongo:
+ * - SCHEDULER_THREAD: thread única do agendador @Scheduled (comportamento original)
+ * - BOUNDED_ELASTIC: blockingScheduler do perfil padrão
+ * - VIRTUAL: blockingScheduler do perfil virtual-threads (requer JDK 21+)
+ * <p>
+ * Execução: mvn -Pbenchmark test -Dbenchmark.args=BlockingOffloadBenchmark
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BlockingOffloadBenchmark {
+
+    public enum ExecutorType { SCHEDULER_THREAD, BOUNDED_ELASTIC, VIRTUAL }
+
+    @Param({"SCHEDULER_THREAD", "BOUNDED_ELASTIC", "VIRTUAL"})
+    private ExecutorType executorType;
+
+    @Param({"100", "500"})
+    private int tasks;
+
+    @Param({"5"})
+    private long blockingMillis;
+
+    private Scheduler scheduler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scheduler = switch (executorType) {
+            case SCHEDULER_THREAD -> Schedulers.fromExecutorService(Executors.newSingleThreadExecutor(), "scheduling");
+            case BOUNDED_ELASTIC -> Schedulers.newBoundedElastic(
+                    Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "blocking");
+            case VIRTUAL -> Schedulers.fromExecutor(new VirtualThreadTaskExecutor("vt-blocking-"));
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Benchmark
+    public Long blockingTasks() {
+        return Flux.range(0, tasks)
+                .flatMap(task -> Mono.fromCallable(this::blockingSection).subscribeOn(scheduler), tasks)
+                .count()
+                .block();
+    }
+
+    /**
+     * Trecho bloqueante: espera blockingMillis com block().
+     */
+    private Long blockingSection() {
+        return Mono.delay(Duration.ofMillis(blockingMillis)).block();
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.hahn.votacao.benchmark;
+
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
+import br.com.hahn.votacao.domain.enums.ResultLookupMode;
+import br.com.hahn.votacao.domain.enums.TallyMode;
+import br.com.hahn.votacao.domain.enums.VoteOption;
+import br.com.hahn.votacao.domain.model.Vote;
+import br.com.hahn.votacao.domain.repository.ResultRepository;
+import br.com.hahn.votacao.domain.service.ResultService;
+import br.com.hahn.votacao.domain.service.VoteService;
+import br.com.hahn.votacao.domain.service.VotingService;
+import br.com.hahn.votacao.domain.service.VotingTallyService;
+import br.com.hahn.votacao.infrastructure.cache.ResultCache;
+import br.com.hahn.votacao.infrastructure.cache.VotingStatusCache;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmark de memória da apuração de votos.
+ * <p>
+ * Compara a apuração antiga (collectList + duas passadas sobre a lista) com o
+ * modo STREAMING do ResultService (projeção em voteOption + reduce em long[]).
+ * Os votos são gerados sob demanda, como um cursor do MongoDB.
+ * <p>
+ * O contador auxiliar peakOldGenMb registra o pico da geração antiga: votos
+ * retidos pela lista sobrevivem às coletas jovens e são promovidos, então o
+ * pico cresce com voteCount no collectList e permanece constante no streaming.
+ * <p>
+ * Execução: mvn -Pbenchmark test -Dbenchmark.args="ResultTallyMemoryBenchmark -prof gc"
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx512m", "-XX:+UseG1GC"})
+public class ResultTallyMemoryBenchmark {
+
+    private static final String VOTING_ID = "benchmark-voting";
+
+    @Param({"10000", "100000", "1000000"})
+    private int voteCount;
+
+    private ResultService streamingResultService;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+
+        public double peakOldGenMb;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            System.gc();
+            oldGenPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+            peakOldGenMb = 0;
+        }
+
+        void record() {
+            long peakBytes = oldGenPools().stream()
+                    .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                    .sum();
+            peakOldGenMb = Math.max(peakOldGenMb, peakBytes / (1024.0 * 1024.0));
+        }
+
+        private static List<MemoryPoolMXBean> oldGenPools() {
+            return ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .filter(pool -> pool.getName().contains("Old") || pool.getName().contains("Tenured"))
+                    .toList();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        VoteService voteService = mock(VoteService.class);
+        when(voteService.streamVoteOptions(VOTING_ID)).thenAnswer(invocation -> votes().map(Vote::getVoteOption));
+
+        streamingResultService = new ResultService(mock(ResultRepository.class), voteService,
+                mock(VotingService.class), mock(VotingTallyService.class), mock(VotingStatusCache.class), mock(ResultCache.class),
+                TallyMode.STREAMING, 500, ResultLookupMode.PARALLEL);
+    }
+
+    @Benchmark
+    public VoteTallyDTO collectListTally(HeapCounters counters) {
+        VoteTallyDTO tally = votes()
+                .collectList()
+                .map(votes -> new VoteTallyDTO(
+                        votes.stream().filter(vote -> vote.getVoteOption() == VoteOption.SIM).count(),
+                        votes.stream().filter(vote -> vote.getVoteOption() == VoteOption.NAO).count()))
+                .block();
+        counters.record();
+        return tally;
+    }
+
+    @Benchmark
+    public VoteTallyDTO streamingTally(HeapCounters counters) {
+        VoteTallyDTO tally = streamingResultService.tallyVotes(VOTING_ID).block();
+        counters.record();
+        return tally;
+    }
+
+    /**
+     * Votos gerados sob demanda, com a mesma forma do documento projetado.
+     */
+    private Flux<Vote> votes() {
+        return Flux.range(0, voteCount)
+                .map(index -> new Vote(null, VOTING_ID, "user-" + index, index % 3 == 0 ? VoteOption.NAO : VoteOption.SIM));
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.hahn.votacao.domain.repository;
+
+import br.com.hahn.votacao.domain.model.Vote;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Set;
+
+class VoteRepositoryCustomImplTest {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    @Test
+    void insertedDespiteDuplicates_shouldDropOnlyRejectedVotes() {
+        List<Vote> votes = List.of(vote("u1"), vote("u2"), vote("u3"));
+        Throwable error = new DuplicateKeyException("duplicate", bulkWriteException(DUPLICATE_KEY, 1));
+
+        StepVerifier.create(VoteRepositoryCustomImpl.insertedDespiteDuplicates(votes, error))
+                .expectNext(List.of(votes.get(0), votes.get(2)))
+                .verifyComplete();
+    }
+
+    @Test
+    void insertedDespiteDuplicates_shouldPropagateOtherWriteErrors() {
+        List<Vote> votes = List.of(vote("u1"), vote("u2"));
+        Throwable error = bulkWriteException(121, 0);
+
+        StepVerifier.create(VoteRepositoryCustomImpl.insertedDespiteDuplicates(votes, error))
+                .expectErrorMatches(thrown -> thrown == error)
+                .verify();
+    }
+
+    @Test
+    void insertedDespiteDuplicates_shouldPropagateNonBulkErrors() {
+        RuntimeException error = new RuntimeException("connection lost");
+
+        StepVerifier.create(VoteRepositoryCustomImpl.insertedDespiteDuplicates(List.of(vote("u1")), error))
+                .expectErrorMatches(thrown -> thrown == error)
+                .verify();
+    }
+
+    private MongoBulkWriteException bulkWriteException(int code, int index) {
+        return new MongoBulkWriteException(
+                BulkWriteResult.acknowledged(0, 0, 0, 0, List.of(), List.of()),
+                List.of(new BulkWriteError(code, "write error", new BsonDocument(), index)),
+                null, new ServerAddress(), Set.of());
+    }
+
+    private Vote vote(String userId) {
+        Vote vote = new Vote();
+        vote.setVotingId("v1");
+        vote.setUserId(userId);
+        return vote;
+    }
+}
@@ -1,29 +1,42 @@
 package br.com.hahn.votacao.domain.service;
 
+import br.com.hahn.votacao.domain.VotingClosedEvent;
+import br.com.hahn.votacao.domain.dto.ResultBatchOutcomeDTO;
 import br.com.hahn.votacao.domain.dto.ResultCreateDTO;
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
 import br.com.hahn.votacao.domain.dto.context.ServiceRequestContext;
 import br.com.hahn.votacao.domain.dto.response.ResultExistsResponseDTO;
+import br.com.hahn.votacao.domain.enums.ResultLookupMode;
+import br.com.hahn.votacao.domain.enums.ResultStatus;
+import br.com.hahn.votacao.domain.enums.TallyMode;
 import br.com.hahn.votacao.domain.enums.VoteOption;
 import br.com.hahn.votacao.domain.enums.VotingResult;
+import br.com.hahn.votacao.domain.exception.InvalidBulkRequestException;
 import br.com.hahn.votacao.domain.exception.ResultNotReadyException;
 import br.com.hahn.votacao.domain.exception.VotingNotFoundException;
 import br.com.hahn.votacao.domain.model.Result;
-import br.com.hahn.votacao.domain.model.Vote;
 import br.com.hahn.votacao.domain.model.Voting;
+import br.com.hahn.votacao.domain.repository.BulkInsertResult;
 import br.com.hahn.votacao.domain.repository.ResultRepository;
+import br.com.hahn.votacao.infrastructure.cache.ResultCache;
+import br.com.hahn.votacao.infrastructure.cache.VotingStatusCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 
 class ResultServiceTest {
@@ -31,6 +44,7 @@ class ResultServiceTest {
     private ResultRepository resultRepository;
     private VoteService voteService;
     private VotingService votingService;
+    private VotingTallyService votingTallyService;
     private ResultService resultService;
 
     @BeforeEach
@@ -38,7 +52,19 @@ class ResultServiceTest {
         resultRepository = mock(ResultRepository.class);
         voteService = mock(VoteService.class);
         votingService = mock(VotingService.class);
-        resultService = new ResultService(resultRepository, voteService, votingService);
+        votingTallyService = mock(VotingTallyService.class);
+        resultService = newResultService(TallyMode.AGGREGATION);
+    }
+
+    private ResultService newResultService(TallyMode tallyMode) {
+        return newResultService(tallyMode, ResultLookupMode.PARALLEL);
+    }
+
+    private ResultService newResultService(TallyMode tallyMode, ResultLookupMode lookupMode) {
+        return new ResultService(resultRepository, voteService, votingService, votingTallyService,
+                new VotingStatusCache(Duration.ofMinutes(1), 100),
+                new ResultCache(new SimpleMeterRegistry(), 100, Duration.ofSeconds(2)),
+                tallyMode, 500, lookupMode);
     }
 
     @Test
@@ -174,8 +200,6 @@ class ResultServiceTest {
         result.setVotingResult(VotingResult.APROVADO);
 
         when(resultRepository.findById(votingId)).thenReturn(Mono.just(result));
-        // Fix: mock voteService to return an empty Flux
-        when(voteService.findByVotingId(votingId)).thenReturn(Flux.empty());
 
         StepVerifier.create(resultService.createResult(votingId))
                 .expectNextMatches(dto -> dto.votingId().equals(votingId)
@@ -194,15 +218,7 @@ class ResultServiceTest {
         when(votingService.findById(votingId)).thenReturn(Mono.just(voting));
         when(resultRepository.findById(votingId)).thenReturn(Mono.empty());
 
-        Vote vote1 = new Vote();
-        vote1.setVoteOption(VoteOption.SIM);
-        Vote vote2 = new Vote();
-        vote2.setVoteOption(VoteOption.NAO);
-        Vote vote3 = new Vote();
-        vote3.setVoteOption(VoteOption.SIM);
-
-        List<Vote> votes = Arrays.asList(vote1, vote2, vote3);
-        when(voteService.findByVotingId(votingId)).thenReturn(Flux.fromIterable(votes));
+        when(voteService.countVotesByOption(votingId)).thenReturn(Mono.just(new VoteTallyDTO(2, 1)));
 
         Result savedResult = new Result();
         savedResult.setVotingId(votingId);
@@ -218,54 +234,122 @@ class ResultServiceTest {
                         && dto.totalVotes() == 3
                         && dto.votingResult().equals("APROVADO"))
                 .verifyComplete();
+
+        verify(voteService, never()).findByVotingId(anyString());
+    }
+
+    @Test
+    void testCreateResultFromEventSavesTallyWithoutReadingVotes() {
+        String votingId = "v12";
+        VotingClosedEvent event = new VotingClosedEvent(votingId, "Assunto", Instant.now(), 5, new VoteTallyDTO(3, 2));
+        when(resultRepository.findById(votingId)).thenReturn(Mono.empty());
+        when(resultRepository.save(any(Result.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(resultService.createResultFromEvent(event))
+                .expectNextMatches(dto -> dto.votingId().equals(votingId)
+                        && dto.votingSubject().equals("Assunto")
+                        && dto.totalVotes() == 5
+                        && dto.votingResult().equals("APROVADO"))
+                .verifyComplete();
+
+        verify(voteService, never()).findByVotingId(anyString());
+        verify(votingService, never()).findById(anyString());
+    }
+
+    @Test
+    void testCreateResultFromEventReturnsExistingResult() {
+        String votingId = "v13";
+        VotingClosedEvent event = new VotingClosedEvent(votingId, "Assunto", Instant.now(), 2, new VoteTallyDTO(1, 1));
+
+        Result existing = new Result(votingId, "Assunto", 2, VotingResult.REPROVADO);
+        when(resultRepository.findById(votingId)).thenReturn(Mono.just(existing));
+
+        StepVerifier.create(resultService.createResultFromEvent(event))
+                .expectNextMatches(dto -> dto.votingResult().equals("REPROVADO"))
+                .verifyComplete();
+
+        verify(resultRepository, never()).save(any(Result.class));
+    }
+
+    @Test
+    void testCreateResultFromEventWithoutTallyFallsBackToCreateResult() {
+        String votingId = "v14";
+        VotingClosedEvent event = new VotingClosedEvent(votingId, "Assunto", Instant.now(), 0);
+        when(votingService.findById(votingId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(resultService.createResultFromEvent(event))
+                .expectError(VotingNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void testTallyVotesAggregationModeUsesServerSideCount() {
+        when(voteService.countVotesByOption("v15")).thenReturn(Mono.just(new VoteTallyDTO(4, 1)));
+
+        StepVerifier.create(resultService.tallyVotes("v15"))
+                .expectNext(new VoteTallyDTO(4, 1))
+                .verifyComplete();
+
+        verify(voteService, never()).streamVoteOptions(anyString());
+    }
+
+    @Test
+    void testTallyVotesStreamingModeCountsProjectedOptions() {
+        ResultService streamingService = newResultService(TallyMode.STREAMING);
+        when(voteService.streamVoteOptions("v16")).thenReturn(
+                Flux.just(VoteOption.SIM, VoteOption.NAO, VoteOption.SIM, VoteOption.SIM));
+
+        StepVerifier.create(streamingService.tallyVotes("v16"))
+                .expectNext(new VoteTallyDTO(3, 1))
+                .verifyComplete();
+
+        verify(voteService, never()).countVotesByOption(anyString());
+    }
+
+    @Test
+    void testTallyVotesStreamingModeIsReusableAcrossSubscriptions() {
+        ResultService streamingService = newResultService(TallyMode.STREAMING);
+        when(voteService.streamVoteOptions("v17")).thenReturn(Flux.just(VoteOption.NAO));
+
+        Mono<VoteTallyDTO> tally = streamingService.tallyVotes("v17");
+
+        StepVerifier.create(tally).expectNext(new VoteTallyDTO(0, 1)).verifyComplete();
+        StepVerifier.create(tally).expectNext(new VoteTallyDTO(0, 1)).verifyComplete();
+    }
+
+    @Test
+    void testTallyVotesStreamingModeWithoutVotes() {
+        ResultService streamingService = newResultService(TallyMode.STREAMING);
+        when(voteService.streamVoteOptions("v18")).thenReturn(Flux.empty());
+
+        StepVerifier.create(streamingService.tallyVotes("v18"))
+                .expectNext(new VoteTallyDTO(0, 0))
+                .verifyComplete();
     }
 
     @Test
     void testCalculateVotingResultEmptyVotes() {
-        List<Vote> votes = Collections.emptyList();
-        VotingResult result = resultService.calculateVotingResult(votes);
+        VotingResult result = resultService.calculateVotingResult(new VoteTallyDTO(0, 0));
         assertEquals(VotingResult.REPROVADO, result);
     }
 
     @Test
     void testCalculateVotingResultAprovado() {
-        Vote vote1 = new Vote();
-        vote1.setVoteOption(VoteOption.SIM);
-        Vote vote2 = new Vote();
-        vote2.setVoteOption(VoteOption.SIM);
-        Vote vote3 = new Vote();
-        vote3.setVoteOption(VoteOption.NAO);
-
-        List<Vote> votes = Arrays.asList(vote1, vote2, vote3);
-        VotingResult result = resultService.calculateVotingResult(votes);
+        VotingResult result = resultService.calculateVotingResult(new VoteTallyDTO(2, 1));
 
         assertEquals(VotingResult.APROVADO, result);
     }
 
     @Test
     void testCalculateVotingResultReprovado() {
-        Vote vote1 = new Vote();
-        vote1.setVoteOption(VoteOption.SIM);
-        Vote vote2 = new Vote();
-        vote2.setVoteOption(VoteOption.NAO);
-        Vote vote3 = new Vote();
-        vote3.setVoteOption(VoteOption.NAO);
-
-        List<Vote> votes = Arrays.asList(vote1, vote2, vote3);
-        VotingResult result = resultService.calculateVotingResult(votes);
+        VotingResult result = resultService.calculateVotingResult(new VoteTallyDTO(1, 2));
 
         assertEquals(VotingResult.REPROVADO, result);
     }
 
     @Test
     void testCalculateVotingResultEmpate() {
-        Vote vote1 = new Vote();
-        vote1.setVoteOption(VoteOption.SIM);
-        Vote vote2 = new Vote();
-        vote2.setVoteOption(VoteOption.NAO);
-
-        List<Vote> votes = Arrays.asList(vote1, vote2);
-        VotingResult result = resultService.calculateVotingResult(votes);
+        VotingResult result = resultService.calculateVotingResult(new VoteTallyDTO(1, 1));
 
         assertEquals(VotingResult.REPROVADO, result); // Empate = REPROVADO
     }
@@ -293,7 +377,7 @@ class ResultServiceTest {
         when(votingService.findById(votingId)).thenReturn(Mono.just(voting));
         when(resultRepository.findById(votingId)).thenReturn(Mono.empty());
 
-        when(voteService.findByVotingId(votingId)).thenReturn(Flux.empty());
+        when(voteService.countVotesByOption(votingId)).thenReturn(Mono.just(new VoteTallyDTO(0, 0)));
         when(resultRepository.save(any(Result.class)))
                 .thenReturn(Mono.error(new RuntimeException("Database error")));
 
@@ -301,5 +385,242 @@ class ResultServiceTest {
                 .expectError(RuntimeException.class)
                 .verify();
     }
-}
 
+    @Test
+    void testFindResult_ShouldReturnEmptyWhenResultNotCalculated() {
+        when(resultRepository.findById("v10")).thenReturn(Mono.empty());
+
+        StepVerifier.create(resultService.findResult("v10"))
+                .verifyComplete();
+
+        verifyNoInteractions(votingService);
+    }
+
+    @Test
+    void testTallyVotes_IncrementalModeReadsTallyDocument() {
+        ResultService incrementalService = newResultService(TallyMode.INCREMENTAL);
+        when(votingTallyService.findTally("v20")).thenReturn(Mono.just(new VoteTallyDTO(7, 3)));
+
+        StepVerifier.create(incrementalService.tallyVotes("v20"))
+                .expectNext(new VoteTallyDTO(7, 3))
+                .verifyComplete();
+
+        verify(voteService, never()).countVotesByOption(anyString());
+    }
+
+    @Test
+    void testTallyVotes_IncrementalModeFallsBackToAggregationWithoutTally() {
+        ResultService incrementalService = newResultService(TallyMode.INCREMENTAL);
+        when(votingTallyService.findTally("v21")).thenReturn(Mono.empty());
+        when(voteService.countVotesByOption("v21")).thenReturn(Mono.just(new VoteTallyDTO(0, 0)));
+
+        StepVerifier.create(incrementalService.tallyVotes("v21"))
+                .expectNext(new VoteTallyDTO(0, 0))
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetResults_ResolvesResultsAndStatusesWithTwoQueries() {
+        Result result = new Result();
+        result.setVotingId("done");
+        result.setVotingSubject("Assunto");
+        result.setTotalVotes(5);
+        result.setVotingResult(VotingResult.APROVADO);
+
+        Voting open = new Voting();
+        open.setVotingId("open");
+        open.setVotingSatus(true);
+        Voting closed = new Voting();
+        closed.setVotingId("closed");
+        closed.setVotingSatus(false);
+
+        when(resultRepository.findAllById(anyIterable())).thenReturn(Flux.just(result));
+        when(votingService.findAllById(List.of("open", "closed", "missing"))).thenReturn(Flux.just(open, closed));
+
+        StepVerifier.create(resultService.getResults(List.of("done", "open", "closed", "missing", "done")))
+                .assertNext(response -> {
+                    assertEquals(List.of("done", "open", "closed", "missing"), List.copyOf(response.results().keySet()));
+                    assertEquals(ResultStatus.AVAILABLE, response.results().get("done").status());
+                    assertEquals(5, response.results().get("done").result().totalVotes());
+                    assertEquals(ResultStatus.VOTING_OPEN, response.results().get("open").status());
+                    assertEquals(ResultStatus.PROCESSING, response.results().get("closed").status());
+                    assertEquals(ResultStatus.NOT_FOUND, response.results().get("missing").status());
+                    assertNull(response.results().get("missing").result());
+                })
+                .verifyComplete();
+
+        verify(resultRepository, times(1)).findAllById(anyIterable());
+        verify(votingService, times(1)).findAllById(anyCollection());
+    }
+
+    @Test
+    void testGetResults_SkipsVotingQueryWhenAllResultsAvailable() {
+        Result result = new Result();
+        result.setVotingId("done");
+        result.setVotingResult(VotingResult.REPROVADO);
+        when(resultRepository.findAllById(anyIterable())).thenReturn(Flux.just(result));
+
+        StepVerifier.create(resultService.getResults(List.of("done")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(votingService, never()).findAllById(anyCollection());
+    }
+
+    @Test
+    void testGetResults_RejectsEmptyAndOversizedRequests() {
+        List<String> tooMany = IntStream.rangeClosed(0, 500).mapToObj(String::valueOf).toList();
+
+        StepVerifier.create(resultService.getResults(List.of()))
+                .expectError(InvalidBulkRequestException.class)
+                .verify();
+        StepVerifier.create(resultService.getResults(tooMany))
+                .expectError(InvalidBulkRequestException.class)
+                .verify();
+
+        verifyNoInteractions(resultRepository);
+    }
+
+    @Test
+    void testGetResult_ParallelLookupSkipsVotingReadWhenStatusCached() {
+        String votingId = "v30";
+        ServiceRequestContext ctx = new ServiceRequestContext(votingId, "v1");
+
+        Voting voting = new Voting();
+        voting.setVotingId(votingId);
+        voting.setVotingSatus(true);
+        voting.setCloseVotingDate(Instant.now().plusSeconds(600));
+        when(resultRepository.findById(votingId)).thenReturn(Mono.empty());
+        when(votingService.findById(votingId)).thenReturn(Mono.just(voting));
+
+        StepVerifier.create(resultService.getResult(ctx))
+                .expectError(ResultNotReadyException.class)
+                .verify();
+        StepVerifier.create(resultService.getResult(ctx))
+                .expectErrorMatches(error -> error instanceof ResultNotReadyException
+                        && error.getMessage().contains("still active"))
+                .verify();
+
+        // segunda consulta atendida pelos caches negativo de resultado e de situação da votação
+        verify(resultRepository, times(1)).findById(votingId);
+        verify(votingService, times(1)).findById(votingId);
+    }
+
+    @Test
+    void testGetResult_ParallelLookupSubscribesBothReadsConcurrently() {
+        String votingId = "v31";
+        ServiceRequestContext ctx = new ServiceRequestContext(votingId, "v1");
+
+        Voting voting = new Voting();
+        voting.setVotingId(votingId);
+        voting.setVotingSatus(false);
+        voting.setCloseVotingDate(Instant.now());
+        when(resultRepository.findById(votingId)).thenReturn(Mono.<Result>empty().delayElement(Duration.ofMillis(100)));
+        when(votingService.findById(votingId)).thenReturn(Mono.just(voting).delayElement(Duration.ofMillis(100)));
+
+        StepVerifier.withVirtualTime(() -> resultService.getResult(ctx))
+                .thenAwait(Duration.ofMillis(100))
+                .expectErrorMatches(error -> error.getMessage().contains("being processed"))
+                .verify();
+    }
+
+    @Test
+    void testGetResult_SequentialLookupReadsVotingOnlyOnMiss() {
+        ResultService sequentialService = newResultService(TallyMode.AGGREGATION, ResultLookupMode.SEQUENTIAL);
+        String votingId = "v32";
+        Result result = new Result();
+        result.setVotingId(votingId);
+        result.setVotingResult(VotingResult.APROVADO);
+        when(resultRepository.findById(votingId)).thenReturn(Mono.just(result));
+
+        StepVerifier.create(sequentialService.getResult(new ServiceRequestContext(votingId, "v1")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(votingService, never()).findById(votingId);
+    }
+
+    @Test
+    void tallyVotesInBatch_shouldUseOneAggregationAndFillVotingsWithoutVotes() {
+        List<String> votingIds = List.of("v1", "v2");
+        when(voteService.countVotesByOption(votingIds)).thenReturn(Mono.just(Map.of("v1", new VoteTallyDTO(2, 1))));
+
+        StepVerifier.create(resultService.tallyVotes(votingIds))
+                .expectNext(Map.of("v1", new VoteTallyDTO(2, 1), "v2", new VoteTallyDTO(0, 0)))
+                .verifyComplete();
+
+        verify(voteService, never()).countVotesByOption(anyString());
+    }
+
+    @Test
+    void tallyVotesInBatch_incrementalModeShouldAggregateOnlyVotingsWithoutTally() {
+        ResultService incrementalService = newResultService(TallyMode.INCREMENTAL);
+        List<String> votingIds = List.of("v1", "v2");
+        when(votingTallyService.findTallies(votingIds)).thenReturn(Mono.just(Map.of("v1", new VoteTallyDTO(5, 0))));
+        when(voteService.countVotesByOption(List.of("v2"))).thenReturn(Mono.just(Map.of("v2", new VoteTallyDTO(0, 2))));
+
+        StepVerifier.create(incrementalService.tallyVotes(votingIds))
+                .expectNext(Map.of("v1", new VoteTallyDTO(5, 0), "v2", new VoteTallyDTO(0, 2)))
+                .verifyComplete();
+    }
+
+    @Test
+    void createResultsFromEvents_shouldInsertMissingResultsInOneBulkAndIsolateFailures() {
+        Result existing = new Result();
+        existing.setVotingId("v1");
+        existing.setVotingSubject("S1");
+        existing.setTotalVotes(1);
+        existing.setVotingResult(VotingResult.APROVADO);
+
+        List<VotingClosedEvent> events = List.of(
+                new VotingClosedEvent("v1", "S1", Instant.now(), 1, new VoteTallyDTO(1, 0)),
+                new VotingClosedEvent("v2", "S2", Instant.now(), 3, new VoteTallyDTO(2, 1)),
+                new VotingClosedEvent("v3", "S3", Instant.now(), 1, new VoteTallyDTO(0, 1)));
+
+        when(resultRepository.findAllById(anyIterable())).thenReturn(Flux.just(existing));
+        when(resultRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Result> toInsert = invocation.getArgument(0);
+            return Mono.just(new BulkInsertResult<>(List.of(toInsert.get(0)), List.of(), List.of(toInsert.get(1))));
+        });
+
+        StepVerifier.create(resultService.createResultsFromEvents(events).collectMap(ResultBatchOutcomeDTO::votingId))
+                .assertNext(outcomes -> {
+                    assertEquals(3, outcomes.size());
+                    assertEquals("APROVADO", outcomes.get("v1").result().votingResult());
+                    assertEquals(3, outcomes.get("v2").result().totalVotes());
+                    assertEquals("APROVADO", outcomes.get("v2").result().votingResult());
+                    assertNull(outcomes.get("v3").result());
+                    assertEquals(IllegalStateException.class, outcomes.get("v3").error().getClass());
+                })
+                .verifyComplete();
+
+        verify(resultRepository, times(1)).insertAll(argThat(results -> results.size() == 2));
+        verify(resultRepository, never()).save(any(Result.class));
+    }
+
+    @Test
+    void createResultsFromEvents_shouldReportEveryVotingAsFailedWhenBatchReadFails() {
+        List<VotingClosedEvent> events = List.of(
+                new VotingClosedEvent("v1", "S1", Instant.now(), 1, new VoteTallyDTO(1, 0)),
+                new VotingClosedEvent("v2", "S2", Instant.now(), 1, new VoteTallyDTO(0, 1)));
+        when(resultRepository.findAllById(anyIterable())).thenReturn(Flux.error(new RuntimeException("mongo down")));
+
+        StepVerifier.create(resultService.createResultsFromEvents(events))
+                .expectNextMatches(outcome -> outcome.votingId().equals("v1") && !outcome.isSuccess())
+                .expectNextMatches(outcome -> outcome.votingId().equals("v2") && !outcome.isSuccess())
+                .verifyComplete();
+    }
+
+    @Test
+    void createResultsFromEvents_shouldCalculateEventsWithoutTallyIndividually() {
+        VotingClosedEvent untallied = new VotingClosedEvent("v9", "S9", Instant.now(), 0);
+        when(votingService.findById("v9")).thenReturn(Mono.empty());
+
+        StepVerifier.create(resultService.createResultsFromEvents(List.of(untallied)))
+                .expectNextMatches(outcome -> outcome.votingId().equals("v9")
+                        && outcome.error() instanceof VotingNotFoundException)
+                .verifyComplete();
+
+        verify(resultRepository, never()).insertAll(anyList());
+    }
+}
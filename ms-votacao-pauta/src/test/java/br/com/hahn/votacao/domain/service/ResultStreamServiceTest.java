@@ -0,0 +1,125 @@
+package br.com.hahn.votacao.domain.service;
+
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
+import br.com.hahn.votacao.domain.dto.response.ResultResponseDTO;
+import br.com.hahn.votacao.domain.dto.response.ResultStreamUpdateDTO;
+import br.com.hahn.votacao.domain.exception.VotingNotFoundException;
+import br.com.hahn.votacao.domain.model.Voting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class ResultStreamServiceTest {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(2);
+
+    private ResultService resultService;
+    private VotingService votingService;
+    private ResultStreamService resultStreamService;
+
+    @BeforeEach
+    void setUp() {
+        resultService = mock(ResultService.class);
+        votingService = mock(VotingService.class);
+        resultStreamService = new ResultStreamService(resultService, votingService, INTERVAL);
+    }
+
+    @Test
+    void watch_shouldEmitPartialCountsAndCompleteWithFinalResult() {
+        when(votingService.findById("v1")).thenReturn(Mono.just(openVoting("v1")));
+        when(resultService.findResult("v1"))
+                .thenReturn(Mono.empty())
+                .thenReturn(Mono.empty())
+                .thenReturn(Mono.just(new ResultResponseDTO("v1", "Pauta", 3, "APROVADO")));
+        when(resultService.tallyVotes("v1"))
+                .thenReturn(Mono.just(new VoteTallyDTO(1, 0)))
+                .thenReturn(Mono.just(new VoteTallyDTO(2, 1)));
+
+        StepVerifier.withVirtualTime(() -> resultStreamService.watch("v1"))
+                .assertNext(update -> assertEquals(1, update.partial().totalVotes()))
+                .thenAwait(INTERVAL)
+                .assertNext(update -> assertEquals(3, update.partial().totalVotes()))
+                .thenAwait(INTERVAL)
+                .assertNext(update -> assertTrue(update.isFinal()))
+                .verifyComplete();
+
+        assertEquals(0, resultStreamService.activePublishers());
+    }
+
+    @Test
+    void watch_shouldNotRepeatUnchangedCounts() {
+        when(votingService.findById("v1")).thenReturn(Mono.just(openVoting("v1")));
+        when(resultService.findResult("v1")).thenReturn(Mono.empty());
+        when(resultService.tallyVotes("v1")).thenReturn(Mono.just(new VoteTallyDTO(1, 1)));
+
+        StepVerifier.withVirtualTime(() -> resultStreamService.watch("v1"))
+                .expectNextCount(1)
+                .thenAwait(INTERVAL.multipliedBy(5))
+                .expectNoEvent(Duration.ZERO)
+                .thenCancel()
+                .verify();
+
+        verify(resultService, times(6)).tallyVotes("v1");
+    }
+
+    @Test
+    void watch_shouldShareSingleUpstreamBetweenWatchers() {
+        when(votingService.findById("v1")).thenReturn(Mono.just(openVoting("v1")));
+        when(resultService.findResult("v1")).thenReturn(Mono.empty());
+        when(resultService.tallyVotes("v1")).thenReturn(Mono.just(new VoteTallyDTO(1, 0)));
+
+        List<ResultStreamUpdateDTO> first = new ArrayList<>();
+        List<ResultStreamUpdateDTO> second = new ArrayList<>();
+
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+        try {
+            Disposable firstWatcher = resultStreamService.watch("v1").subscribe(first::add);
+            Disposable secondWatcher = resultStreamService.watch("v1").subscribe(second::add);
+            scheduler.advanceTime();
+
+            assertEquals(1, first.size());
+            assertEquals(1, second.size());
+            assertEquals(1, resultStreamService.activePublishers());
+            verify(resultService, times(1)).tallyVotes("v1");
+
+            firstWatcher.dispose();
+            secondWatcher.dispose();
+
+            assertEquals(0, resultStreamService.activePublishers());
+        } finally {
+            VirtualTimeScheduler.reset();
+        }
+    }
+
+    @Test
+    void watch_shouldErrorWhenVotingNotFound() {
+        when(votingService.findById("missing")).thenReturn(Mono.empty());
+
+        StepVerifier.create(resultStreamService.watch("missing"))
+                .expectError(VotingNotFoundException.class)
+                .verify();
+
+        verify(resultService, never()).findResult(anyString());
+    }
+
+    private Voting openVoting(String votingId) {
+        Voting voting = new Voting();
+        voting.setVotingId(votingId);
+        voting.setSubject("Pauta");
+        voting.setCloseVotingDate(Instant.now().plusSeconds(600));
+        voting.setVotingSatus(true);
+        return voting;
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.hahn.votacao.domain.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveHyperLogLogOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+class TurnoutServiceTest {
+
+    private ReactiveStringRedisTemplate redisTemplate;
+    private ReactiveHyperLogLogOperations<String, String> hyperLogLogOperations;
+    private TurnoutService turnoutService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(ReactiveStringRedisTemplate.class);
+        hyperLogLogOperations = mock(ReactiveHyperLogLogOperations.class);
+        when(redisTemplate.opsForHyperLogLog()).thenReturn(hyperLogLogOperations);
+        turnoutService = new TurnoutService(redisTemplate, Duration.ofDays(7));
+    }
+
+    @Test
+    void recordVoter_shouldAddUserToVotingHyperLogLogAndRefreshTtl() {
+        when(hyperLogLogOperations.add("voting-turnout:v1", "user1")).thenReturn(Mono.just(1L));
+        when(redisTemplate.expire("voting-turnout:v1", Duration.ofDays(7))).thenReturn(Mono.just(true));
+
+        StepVerifier.create(turnoutService.recordVoter("v1", "user1"))
+                .verifyComplete();
+
+        verify(hyperLogLogOperations).add("voting-turnout:v1", "user1");
+        verify(redisTemplate).expire("voting-turnout:v1", Duration.ofDays(7));
+    }
+
+    @Test
+    void recordVoter_shouldSwallowRedisErrors() {
+        when(hyperLogLogOperations.add("voting-turnout:v1", "user1"))
+                .thenReturn(Mono.error(new RuntimeException("redis down")));
+
+        StepVerifier.create(turnoutService.recordVoter("v1", "user1"))
+                .verifyComplete();
+
+        verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+    }
+
+    @Test
+    void getTurnout_shouldReturnApproximateCountWithErrorBound() {
+        when(hyperLogLogOperations.size("voting-turnout:v1")).thenReturn(Mono.just(1520L));
+
+        StepVerifier.create(turnoutService.getTurnout("v1"))
+                .expectNextMatches(turnout -> turnout.votingId().equals("v1")
+                        && turnout.approximateVoters() == 1520L
+                        && turnout.standardError() == TurnoutService.STANDARD_ERROR)
+                .verifyComplete();
+    }
+}
@@ -1,17 +1,30 @@
 package br.com.hahn.votacao.domain.service;
 
 import br.com.hahn.votacao.domain.dto.request.UserRequestDTO;
+import br.com.hahn.votacao.domain.dto.response.CpfValidationOutcomeDTO;
+import br.com.hahn.votacao.domain.dto.response.CpfValidationResponseDTO;
 import br.com.hahn.votacao.domain.dto.response.UserResponseDTO;
+import br.com.hahn.votacao.domain.enums.CpfStatus;
+import br.com.hahn.votacao.domain.exception.InvalidCpfException;
 import br.com.hahn.votacao.domain.exception.UserAlreadyExistsException;
+import br.com.hahn.votacao.domain.model.EligibilitySnapshot;
 import br.com.hahn.votacao.domain.model.User;
 import br.com.hahn.votacao.domain.repository.UserRepository;
+import br.com.hahn.votacao.infrastructure.client.CpfValidationClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -19,17 +32,21 @@ import static org.mockito.Mockito.*;
 class UserServiceTest {
 
     private UserRepository userRepository;
+    private CpfValidationClient cpfValidationClient;
     private UserService userService;
 
     @BeforeEach
     void setUp() {
         userRepository = mock(UserRepository.class);
-        userService = new UserService(userRepository);
+        cpfValidationClient = mock(CpfValidationClient.class);
+        when(cpfValidationClient.verifyCpf(anyString()))
+                .thenReturn(Mono.just(new CpfValidationResponseDTO(CpfStatus.ABLE_TO_VOTE)));
+        userService = new UserService(userRepository, cpfValidationClient, Duration.ofHours(24));
     }
 
     @Test
     void createUser_shouldCreateNewUser_whenUserDoesNotExist() {
-        UserRequestDTO requestDTO = new UserRequestDTO("John Doe", "12345678901", "v1");
+        UserRequestDTO requestDTO = new UserRequestDTO("John Doe", "12345678909", "v1");
         User user = new User();
         user.setUserName(requestDTO.userName());
         user.setUserCPF(requestDTO.userCPF());
@@ -43,7 +60,7 @@ class UserServiceTest {
         StepVerifier.create(result)
                 .assertNext(response -> {
                     assertEquals("generatedId", response.userId());
-                    assertEquals("12345678901", response.userCPF());
+                    assertEquals("12345678909", response.userCPF());
                 })
                 .verifyComplete();
 
@@ -51,7 +68,7 @@ class UserServiceTest {
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
         verify(userRepository).save(userCaptor.capture());
         assertEquals("John Doe", userCaptor.getValue().getUserName());
-        assertEquals("12345678901", userCaptor.getValue().getUserCPF());
+        assertEquals("12345678909", userCaptor.getValue().getUserCPF());
     }
 
     @Test
@@ -73,6 +90,17 @@ class UserServiceTest {
         verify(userRepository, never()).save(any());
     }
 
+    @Test
+    void createUser_shouldRejectCpfWithInvalidCheckDigits_beforeAnyIo() {
+        UserRequestDTO requestDTO = new UserRequestDTO("John Doe", "12345678901", "v1");
+
+        StepVerifier.create(userService.createUser(requestDTO))
+                .expectError(InvalidCpfException.class)
+                .verify();
+
+        verifyNoInteractions(userRepository, cpfValidationClient);
+    }
+
     @Test
     void convertToCollection_shouldConvertDTOToUser() throws Exception {
         UserRequestDTO requestDTO = new UserRequestDTO("Alice", "11122233344", "v1");
@@ -122,7 +150,7 @@ class UserServiceTest {
 
     @Test
     void createUser_shouldHandleRepositoryError_onExistsCheck() {
-        UserRequestDTO requestDTO = new UserRequestDTO("John Doe", "12345678901", "v1");
+        UserRequestDTO requestDTO = new UserRequestDTO("John Doe", "12345678909", "v1");
 
         when(userRepository.existsUserByuserCPF(requestDTO.userCPF()))
                 .thenReturn(Mono.error(new RuntimeException("Database connection error")));
@@ -139,7 +167,7 @@ class UserServiceTest {
 
     @Test
     void createUser_shouldHandleRepositoryError_onSave() {
-        UserRequestDTO requestDTO = new UserRequestDTO("John Doe", "12345678901", "v1");
+        UserRequestDTO requestDTO = new UserRequestDTO("John Doe", "12345678909", "v1");
 
         when(userRepository.existsUserByuserCPF(requestDTO.userCPF())).thenReturn(Mono.just(false));
         when(userRepository.save(any(User.class)))
@@ -163,4 +191,171 @@ class UserServiceTest {
                 .expectError(RuntimeException.class)
                 .verify();
     }
+
+    @Test
+    void createUser_shouldStoreEligibilitySnapshot() {
+        UserRequestDTO requestDTO = new UserRequestDTO("John Doe", "52998224725", "v1");
+        when(userRepository.existsUserByuserCPF(requestDTO.userCPF())).thenReturn(Mono.just(false));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(userService.createUser(requestDTO))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(userCaptor.capture());
+        EligibilitySnapshot snapshot = userCaptor.getValue().getEligibility();
+        assertEquals(CpfStatus.ABLE_TO_VOTE, snapshot.getStatus());
+        assertEquals(Duration.ofHours(24), Duration.between(snapshot.getVerifiedAt(), snapshot.getValidUntil()));
+    }
+
+    @Test
+    void createUser_shouldCreateWithoutSnapshot_whenValidatorIsUnavailable() {
+        UserRequestDTO requestDTO = new UserRequestDTO("John Doe", "52998224725", "v1");
+        when(userRepository.existsUserByuserCPF(requestDTO.userCPF())).thenReturn(Mono.just(false));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(cpfValidationClient.verifyCpf(anyString())).thenReturn(Mono.error(new RuntimeException("timeout")));
+
+        StepVerifier.create(userService.createUser(requestDTO))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(userCaptor.capture());
+        assertNull(userCaptor.getValue().getEligibility());
+    }
+
+    @Test
+    void refreshEligibility_shouldStoreUnableSnapshot_whenCpfIsInvalid() {
+        User user = new User("userId", "John Doe", "11111111111", null);
+        when(cpfValidationClient.verifyCpf("11111111111")).thenReturn(Mono.error(new InvalidCpfException("CPF inválido")));
+        when(userRepository.updateEligibility(eq("userId"), any(EligibilitySnapshot.class))).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(userService.refreshEligibility(user))
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(userRepository).updateEligibility(eq("userId"),
+                argThat(snapshot -> snapshot.getStatus() == CpfStatus.UNABLE_TO_VOTE
+                        && snapshot.isValidAt(Instant.now())));
+    }
+
+    @Test
+    void refreshEligibility_shouldReturnFalse_whenValidatorIsUnavailable() {
+        User user = new User("userId", "John Doe", "52998224725", null);
+        when(cpfValidationClient.verifyCpf(anyString())).thenReturn(Mono.error(new RuntimeException("circuit open")));
+
+        StepVerifier.create(userService.refreshEligibility(user))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(userRepository, never()).updateEligibility(anyString(), any());
+    }
+
+    @Test
+    void recordEligibility_shouldIgnorePendingVerification() {
+        StepVerifier.create(userService.recordEligibility("userId", CpfStatus.PENDING_VERIFICATION))
+                .verifyComplete();
+
+        verify(userRepository, never()).updateEligibility(anyString(), any());
+    }
+
+    @Test
+    void refreshEligibilityStream_shouldMatchOutcomesToUsersInOrder() {
+        User able = new User("u1", "Ana", "52998224725", null);
+        User invalid = new User("u2", "Bia", "39053344705", null);
+        when(cpfValidationClient.validateCpfStream(any())).thenAnswer(invocation -> {
+            Flux<String> cpfs = invocation.getArgument(0);
+            return cpfs.map(cpf -> cpf.equals("52998224725")
+                    ? new CpfValidationOutcomeDTO(cpf, CpfStatus.ABLE_TO_VOTE, null)
+                    : new CpfValidationOutcomeDTO(cpf, null, "Invalid CPF"));
+        });
+        when(userRepository.updateEligibility(anyString(), any(EligibilitySnapshot.class))).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(userService.refreshEligibilityStream(Flux.just(able, invalid), 4))
+                .expectNext(true, true)
+                .verifyComplete();
+
+        verify(userRepository).updateEligibility(eq("u1"), argThat(snapshot -> snapshot.getStatus() == CpfStatus.ABLE_TO_VOTE));
+        verify(userRepository).updateEligibility(eq("u2"), argThat(snapshot -> snapshot.getStatus() == CpfStatus.UNABLE_TO_VOTE));
+        verify(cpfValidationClient, never()).verifyCpf(anyString());
+    }
+
+    @Test
+    void refreshEligibilityStream_shouldFailWhenOutcomeDoesNotMatchPendingUser() {
+        when(cpfValidationClient.validateCpfStream(any())).thenAnswer(invocation -> {
+            Flux<String> cpfs = invocation.getArgument(0);
+            return cpfs.map(cpf -> new CpfValidationOutcomeDTO("11144477735", CpfStatus.ABLE_TO_VOTE, null));
+        });
+
+        StepVerifier.create(userService.refreshEligibilityStream(Flux.just(new User("u1", "Ana", "52998224725", null)), 4))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(userRepository, never()).updateEligibility(anyString(), any());
+    }
+
+    @Test
+    void refreshEligibilityStream_shouldMarkUsersWithoutCpfAsUnableToVote() {
+        User legacy = new User("u1", "Ana", null, null);
+        User blank = new User("u2", "Bia", "  ", null);
+        User able = new User("u3", "Caio", "52998224725", null);
+        when(cpfValidationClient.validateCpfStream(any())).thenAnswer(invocation -> {
+            Flux<String> cpfs = invocation.getArgument(0);
+            return cpfs.map(cpf -> new CpfValidationOutcomeDTO(cpf, CpfStatus.ABLE_TO_VOTE, null));
+        });
+        when(userRepository.updateEligibility(anyString(), any(EligibilitySnapshot.class))).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(userService.refreshEligibilityStream(Flux.just(legacy, blank, able), 4))
+                .expectNext(true, true, true)
+                .verifyComplete();
+
+        verify(userRepository).updateEligibility(eq("u1"), argThat(snapshot -> snapshot.getStatus() == CpfStatus.UNABLE_TO_VOTE));
+        verify(userRepository).updateEligibility(eq("u2"), argThat(snapshot -> snapshot.getStatus() == CpfStatus.UNABLE_TO_VOTE));
+        verify(userRepository).updateEligibility(eq("u3"), argThat(snapshot -> snapshot.getStatus() == CpfStatus.ABLE_TO_VOTE));
+    }
+
+    @Test
+    void refreshEligibilityStream_shouldRenewOtherUsersWhenUsersWithoutCpfExceedBatchSize() {
+        int batchSize = 2;
+        Map<String, User> stored = new LinkedHashMap<>();
+        for (int i = 0; i < 3; i++) {
+            stored.put("legacy" + i, new User("legacy" + i, "Legado", null, null));
+        }
+        EligibilitySnapshot expired = new EligibilitySnapshot(CpfStatus.ABLE_TO_VOTE,
+                Instant.now().minus(Duration.ofDays(2)), Instant.now().minus(Duration.ofDays(1)));
+        stored.put("withCpf", new User("withCpf", "Ana", "52998224725", expired));
+
+        // Simula a consulta de vencidos: sem snapshot primeiro, depois por validUntil.
+        when(userRepository.findEligibilityDueBefore(any(Instant.class), any(Pageable.class))).thenAnswer(invocation -> {
+            Instant threshold = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            return Flux.fromStream(stored.values().stream()
+                    .filter(user -> user.getEligibility() == null || !user.getEligibility().getValidUntil().isAfter(threshold))
+                    .sorted(Comparator.comparing((User user) -> user.getEligibility() == null ? Instant.MIN
+                            : user.getEligibility().getValidUntil()))
+                    .limit(pageable.getPageSize())
+                    .map(user -> new User(user.getUserId(), user.getUserName(), user.getUserCPF(), user.getEligibility())));
+        });
+        when(userRepository.updateEligibility(anyString(), any(EligibilitySnapshot.class))).thenAnswer(invocation -> {
+            stored.get(invocation.<String>getArgument(0)).setEligibility(invocation.getArgument(1));
+            return Mono.just(1L);
+        });
+        when(cpfValidationClient.validateCpfStream(any())).thenAnswer(invocation -> {
+            Flux<String> cpfs = invocation.getArgument(0);
+            return cpfs.map(cpf -> new CpfValidationOutcomeDTO(cpf, CpfStatus.ABLE_TO_VOTE, null));
+        });
+
+        for (int cycle = 0; cycle < 2; cycle++) {
+            StepVerifier.create(userService.refreshEligibilityStream(
+                            userService.findEligibilityDueBefore(Instant.now(), batchSize), 4))
+                    .expectNextCount(batchSize)
+                    .verifyComplete();
+        }
+
+        assertTrue(stored.get("withCpf").getEligibility().getValidUntil().isAfter(Instant.now()));
+        stored.values().stream()
+                .filter(user -> user.getUserCPF() == null)
+                .forEach(user -> assertEquals(CpfStatus.UNABLE_TO_VOTE, user.getEligibility().getStatus()));
+    }
 }
@@ -1,5 +1,8 @@
 package br.com.hahn.votacao.domain.service;
 
+import br.com.hahn.votacao.domain.dto.VoteOptionCountDTO;
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
+import br.com.hahn.votacao.domain.dto.VotingOptionCountDTO;
 import br.com.hahn.votacao.domain.dto.request.VoteRequestDTO;
 import br.com.hahn.votacao.domain.dto.response.CpfValidationResponseDTO;
 import br.com.hahn.votacao.domain.enums.CpfStatus;
@@ -7,6 +10,7 @@ import br.com.hahn.votacao.domain.enums.VoteOption;
 import br.com.hahn.votacao.domain.exception.InvalidCpfException;
 import br.com.hahn.votacao.domain.exception.UserAlreadyVoteException;
 import br.com.hahn.votacao.domain.exception.UserNotFoundException;
+import br.com.hahn.votacao.domain.model.EligibilitySnapshot;
 import br.com.hahn.votacao.domain.model.User;
 import br.com.hahn.votacao.domain.model.Vote;
 import br.com.hahn.votacao.domain.repository.VoteRepository;
@@ -14,6 +18,7 @@ import br.com.hahn.votacao.infrastructure.client.CpfValidationClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.ReactiveValueOperations;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -23,7 +28,9 @@ import reactor.test.StepVerifier;
 
 import java.lang.reflect.Method;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -38,6 +45,8 @@ class VoteServiceTest {
     private VoteService voteService;
     private UserService userService;
     private CpfValidationClient cpfValidationClient;
+    private VotingTallyService votingTallyService;
+    private TurnoutService turnoutService;
 
     @BeforeEach
     void setUp() {
@@ -49,7 +58,14 @@ class VoteServiceTest {
         when(redisTemplate.opsForValue()).thenReturn(valueOps);
         userService = mock(UserService.class);
         cpfValidationClient = mock(CpfValidationClient.class);
-        voteService = new VoteService(kafkaTemplate, voteRepository, votingService, redisTemplate, userService, cpfValidationClient);
+        votingTallyService = mock(VotingTallyService.class);
+        when(votingTallyService.increment(anyList())).thenReturn(Mono.empty());
+        when(votingTallyService.markPendingReconciliation(anyList())).thenReturn(Mono.empty());
+        when(userService.recordEligibility(anyString(), any(CpfStatus.class))).thenReturn(Mono.empty());
+        turnoutService = mock(TurnoutService.class);
+        when(turnoutService.recordVoter(anyString(), anyString())).thenReturn(Mono.empty());
+        voteService = new VoteService(kafkaTemplate, voteRepository, votingService, redisTemplate, userService,
+                cpfValidationClient, votingTallyService, turnoutService);
 
         // Corrige o mock para sempre retornar Mono.empty()
         when(votingService.validateExpireVotingTime(anyString())).thenReturn(Mono.empty());
@@ -74,6 +90,63 @@ class VoteServiceTest {
 
         verify(kafkaTemplate).send("vote-topic", dto);
         verify(valueOps).setIfAbsent("votingId:userId", "pending", Duration.ofMinutes(5));
+        verify(turnoutService).recordVoter("votingId", "userId");
+    }
+
+    @Test
+    void sendVoteToQueue_shouldUseFreshSnapshotWithoutCallingValidator() {
+        VoteRequestDTO dto = new VoteRequestDTO("votingId", "userId", "SIM", "v1");
+        doReturn(Mono.empty()).when(voteRepository).findByVotingIdAndUserId("votingId", "userId");
+        when(valueOps.setIfAbsent(anyString(), eq("pending"), any(Duration.class))).thenReturn(Mono.just(true));
+        Instant now = Instant.now();
+        User user = new User("userId", "Ana", "12345678900",
+                new EligibilitySnapshot(CpfStatus.ABLE_TO_VOTE, now, now.plus(Duration.ofHours(1))));
+        when(userService.findById("userId")).thenReturn(Mono.just(user));
+
+        StepVerifier.create(voteService.sendVoteToQueue(dto))
+                .verifyComplete();
+
+        verify(kafkaTemplate).send("vote-topic", dto);
+        verifyNoInteractions(cpfValidationClient);
+        verify(userService, never()).recordEligibility(anyString(), any());
+    }
+
+    @Test
+    void sendVoteToQueue_shouldRejectFromSnapshot_whenUserIsUnableToVote() {
+        VoteRequestDTO dto = new VoteRequestDTO("votingId", "userId", "SIM", "v1");
+        doReturn(Mono.empty()).when(voteRepository).findByVotingIdAndUserId("votingId", "userId");
+        when(valueOps.setIfAbsent(anyString(), eq("pending"), any(Duration.class))).thenReturn(Mono.just(true));
+        when(redisTemplate.delete(anyString())).thenReturn(Mono.just(1L));
+        Instant now = Instant.now();
+        User user = new User("userId", "Ana", "12345678900",
+                new EligibilitySnapshot(CpfStatus.UNABLE_TO_VOTE, now, now.plus(Duration.ofHours(1))));
+        when(userService.findById("userId")).thenReturn(Mono.just(user));
+
+        StepVerifier.create(voteService.sendVoteToQueue(dto))
+                .expectError(InvalidCpfException.class)
+                .verify();
+
+        verifyNoInteractions(cpfValidationClient);
+        verify(kafkaTemplate, never()).send(anyString(), any());
+    }
+
+    @Test
+    void sendVoteToQueue_shouldRefreshExpiredSnapshotFromValidator() {
+        VoteRequestDTO dto = new VoteRequestDTO("votingId", "userId", "SIM", "v1");
+        doReturn(Mono.empty()).when(voteRepository).findByVotingIdAndUserId("votingId", "userId");
+        when(valueOps.setIfAbsent(anyString(), eq("pending"), any(Duration.class))).thenReturn(Mono.just(true));
+        Instant past = Instant.now().minus(Duration.ofDays(2));
+        User user = new User("userId", "Ana", "12345678900",
+                new EligibilitySnapshot(CpfStatus.UNABLE_TO_VOTE, past, past.plus(Duration.ofDays(1))));
+        when(userService.findById("userId")).thenReturn(Mono.just(user));
+        when(cpfValidationClient.validateCpf("12345678900"))
+                .thenReturn(Mono.just(new CpfValidationResponseDTO(CpfStatus.ABLE_TO_VOTE)));
+
+        StepVerifier.create(voteService.sendVoteToQueue(dto))
+                .verifyComplete();
+
+        verify(userService).recordEligibility("userId", CpfStatus.ABLE_TO_VOTE);
+        verify(kafkaTemplate).send("vote-topic", dto);
     }
 
     @Test
@@ -124,7 +197,7 @@ class VoteServiceTest {
         vote2.setUserId("userId2");
         vote2.setVoteOption(VoteOption.NAO);
 
-        doReturn(Flux.fromIterable(List.of(vote1, vote2))).when(voteRepository).saveAll(anyList());
+        doReturn(Flux.fromIterable(List.of(vote1, vote2))).when(voteRepository).insertIgnoringDuplicates(anyList());
 
         Flux<Vote> result = voteService.saveAllFromDTO(Flux.just(dto1, dto2));
 
@@ -135,10 +208,114 @@ class VoteServiceTest {
 
         @SuppressWarnings("unchecked")
         ArgumentCaptor<List<Vote>> captor = ArgumentCaptor.forClass(List.class);
-        verify(voteRepository).saveAll(captor.capture());
+        verify(voteRepository).insertIgnoringDuplicates(captor.capture());
         assertEquals(2, captor.getValue().size());
         assertEquals("votingId1", captor.getValue().get(0).getVotingId());
         assertEquals("votingId2", captor.getValue().get(1).getVotingId());
+        verify(votingTallyService).increment(List.of(vote1, vote2));
+    }
+
+    @Test
+    void saveAllFromDTO_shouldIncrementTallyOnlyWithInsertedVotes() {
+        VoteRequestDTO dto1 = new VoteRequestDTO("votingId1", "userId1", "SIM", "v1");
+        VoteRequestDTO duplicate = new VoteRequestDTO("votingId1", "userId1", "SIM", "v1");
+        Vote inserted = new Vote();
+        inserted.setVotingId("votingId1");
+        inserted.setUserId("userId1");
+        inserted.setVoteOption(VoteOption.SIM);
+
+        doReturn(Flux.just(inserted)).when(voteRepository).insertIgnoringDuplicates(anyList());
+
+        StepVerifier.create(voteService.saveAllFromDTO(Flux.just(dto1, duplicate)))
+                .expectNext(inserted)
+                .verifyComplete();
+
+        verify(votingTallyService).increment(List.of(inserted));
+    }
+
+    @Test
+    void saveAllFromDTO_shouldMarkTallyPendingBeforeInsertWhenIncrementIsLost() {
+        VoteRequestDTO dto = new VoteRequestDTO("reconciledId", "userId1", "SIM", "v1");
+        Vote inserted = new Vote();
+        inserted.setVotingId("reconciledId");
+        inserted.setUserId("userId1");
+        inserted.setVoteOption(VoteOption.SIM);
+
+        doReturn(Flux.just(inserted)).when(voteRepository).insertIgnoringDuplicates(anyList());
+        when(votingTallyService.increment(anyList())).thenReturn(Mono.error(new RuntimeException("connection lost")));
+
+        StepVerifier.create(voteService.saveAllFromDTO(Flux.just(dto)))
+                .expectError(RuntimeException.class)
+                .verify();
+
+        InOrder inOrder = inOrder(votingTallyService, voteRepository);
+        inOrder.verify(votingTallyService).markPendingReconciliation(argThat(votes ->
+                votes.size() == 1 && votes.get(0).getVotingId().equals("reconciledId")));
+        inOrder.verify(voteRepository).insertIgnoringDuplicates(anyList());
+        inOrder.verify(votingTallyService).increment(List.of(inserted));
+    }
+
+    @Test
+    void saveAllFromDTO_shouldNotInsertWhenTallyCannotBeMarkedPending() {
+        VoteRequestDTO dto = new VoteRequestDTO("votingId", "userId1", "SIM", "v1");
+        when(votingTallyService.markPendingReconciliation(anyList())).thenReturn(Mono.error(new RuntimeException("write error")));
+
+        StepVerifier.create(voteService.saveAllFromDTO(Flux.just(dto)))
+                .expectError(RuntimeException.class)
+                .verify();
+
+        verify(voteRepository, never()).insertIgnoringDuplicates(anyList());
+    }
+
+    @Test
+    void sendVoteToQueue_shouldFlagVoteWhenCpfValidationIsPending() {
+        VoteRequestDTO dto = new VoteRequestDTO("votingId", "userId", "SIM", "v1");
+        doReturn(Mono.empty()).when(voteRepository).findByVotingIdAndUserId("votingId", "userId");
+        when(valueOps.setIfAbsent(anyString(), eq("pending"), any(Duration.class))).thenReturn(Mono.just(true));
+        User user = new User();
+        user.setUserCPF("52998224725");
+        when(userService.findById("userId")).thenReturn(Mono.just(user));
+        when(cpfValidationClient.validateCpf("52998224725"))
+                .thenReturn(Mono.just(new CpfValidationResponseDTO(CpfStatus.PENDING_VERIFICATION)));
+
+        StepVerifier.create(voteService.sendVoteToQueue(dto))
+                .verifyComplete();
+
+        verify(kafkaTemplate).send("vote-topic", dto.withPendingVerification());
+    }
+
+    @Test
+    void saveAllFromDTO_shouldDropPendingVoteWhenReverificationRejectsCpf() {
+        VoteRequestDTO pending = new VoteRequestDTO("votingId1", "userId1", "SIM", "v1").withPendingVerification();
+        VoteRequestDTO verified = new VoteRequestDTO("votingId1", "userId2", "NAO", "v1");
+        User user = new User();
+        user.setUserCPF("52998224725");
+        when(userService.findById("userId1")).thenReturn(Mono.just(user));
+        when(cpfValidationClient.verifyCpf("52998224725"))
+                .thenReturn(Mono.just(new CpfValidationResponseDTO(CpfStatus.UNABLE_TO_VOTE)));
+        doAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)))
+                .when(voteRepository).insertIgnoringDuplicates(anyList());
+
+        StepVerifier.create(voteService.saveAllFromDTO(Flux.just(pending, verified)))
+                .expectNextMatches(vote -> vote.getUserId().equals("userId2"))
+                .verifyComplete();
+
+        verify(cpfValidationClient, never()).validateCpf(anyString());
+    }
+
+    @Test
+    void saveAllFromDTO_shouldKeepPendingVoteWhenValidatorIsStillUnavailable() {
+        VoteRequestDTO pending = new VoteRequestDTO("votingId1", "userId1", "SIM", "v1").withPendingVerification();
+        User user = new User();
+        user.setUserCPF("52998224725");
+        when(userService.findById("userId1")).thenReturn(Mono.just(user));
+        when(cpfValidationClient.verifyCpf("52998224725")).thenReturn(Mono.error(new RuntimeException("timeout")));
+        doAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)))
+                .when(voteRepository).insertIgnoringDuplicates(anyList());
+
+        StepVerifier.create(voteService.saveAllFromDTO(Flux.just(pending)))
+                .expectNextMatches(vote -> vote.getUserId().equals("userId1"))
+                .verifyComplete();
     }
 
     @Test
@@ -154,6 +331,64 @@ class VoteServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    void countVotesByOption_shouldCountEachOptionOnServer() {
+        when(voteRepository.countVotesGroupedByOption("votingId")).thenReturn(Flux.just(
+                new VoteOptionCountDTO(VoteOption.NAO, 3),
+                new VoteOptionCountDTO(VoteOption.SIM, 4)));
+
+        StepVerifier.create(voteService.countVotesByOption("votingId"))
+                .expectNext(new VoteTallyDTO(4, 3))
+                .verifyComplete();
+
+        verify(voteRepository, never()).findByVotingId(anyString());
+    }
+
+    @Test
+    void countVotesByOption_shouldReturnZeroForOptionsWithoutVotes() {
+        when(voteRepository.countVotesGroupedByOption("votingId")).thenReturn(Flux.just(
+                new VoteOptionCountDTO(VoteOption.SIM, 2)));
+
+        StepVerifier.create(voteService.countVotesByOption("votingId"))
+                .expectNext(new VoteTallyDTO(2, 0))
+                .verifyComplete();
+    }
+
+    @Test
+    void countVotesByOption_shouldReturnEmptyTallyWhenNoVotes() {
+        when(voteRepository.countVotesGroupedByOption("votingId")).thenReturn(Flux.empty());
+
+        StepVerifier.create(voteService.countVotesByOption("votingId"))
+                .expectNext(new VoteTallyDTO(0, 0))
+                .verifyComplete();
+    }
+
+    @Test
+    void countVotesByOption_shouldGroupCountsOfManyVotingsInOneQuery() {
+        List<String> votingIds = List.of("v1", "v2", "v3");
+        when(voteRepository.countVotesGroupedByVotingAndOption(votingIds)).thenReturn(Flux.just(
+                new VotingOptionCountDTO("v1", VoteOption.SIM, 4),
+                new VotingOptionCountDTO("v2", VoteOption.NAO, 1),
+                new VotingOptionCountDTO("v1", VoteOption.NAO, 3)));
+
+        StepVerifier.create(voteService.countVotesByOption(votingIds))
+                .expectNext(Map.of("v1", new VoteTallyDTO(4, 3), "v2", new VoteTallyDTO(0, 1)))
+                .verifyComplete();
+
+        verify(voteRepository, never()).countVotesGroupedByOption(anyString());
+    }
+
+    @Test
+    void streamVoteOptions_shouldMapProjectedVotesToOptions() {
+        Vote sim = new Vote(null, null, null, VoteOption.SIM);
+        Vote nao = new Vote(null, null, null, VoteOption.NAO);
+        when(voteRepository.findVoteOptionsByVotingId("votingId")).thenReturn(Flux.just(sim, nao));
+
+        StepVerifier.create(voteService.streamVoteOptions("votingId"))
+                .expectNext(VoteOption.SIM, VoteOption.NAO)
+                .verifyComplete();
+    }
+
     @Test
     void convertToCollection_shouldConvertDTOToVote() throws Exception {
         VoteRequestDTO dto = new VoteRequestDTO("votingId", "userId", "SIM", "v1");
@@ -343,7 +578,7 @@ class VoteServiceTest {
     @Test
     void saveAllFromDTO_shouldError_whenRepositoryFails() {
         VoteRequestDTO dto = new VoteRequestDTO("votingId", "userId", "SIM", "v1");
-        when(voteRepository.saveAll(anyList()))
+        when(voteRepository.insertIgnoringDuplicates(anyList()))
                 .thenReturn(Flux.error(new RuntimeException("Save operation failed")));
 
         Flux<Vote> result = voteService.saveAllFromDTO(Flux.just(dto));
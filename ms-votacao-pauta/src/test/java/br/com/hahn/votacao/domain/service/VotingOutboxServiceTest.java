@@ -0,0 +1,138 @@
+package br.com.hahn.votacao.domain.service;
+
+import br.com.hahn.votacao.domain.VotingClosedEvent;
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
+import br.com.hahn.votacao.domain.enums.OutboxStatus;
+import br.com.hahn.votacao.domain.model.Voting;
+import br.com.hahn.votacao.domain.model.VotingOutboxEntry;
+import br.com.hahn.votacao.domain.repository.VotingOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+class VotingOutboxServiceTest {
+
+    private VotingOutboxRepository votingOutboxRepository;
+    private VotingOutboxService votingOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        votingOutboxRepository = mock(VotingOutboxRepository.class);
+        votingOutboxService = new VotingOutboxService(votingOutboxRepository,
+                Duration.ofSeconds(30), Duration.ofSeconds(30), Duration.ofMinutes(30), 3);
+    }
+
+    @Test
+    void register_shouldSavePendingEntryDueAfterGracePeriod() {
+        Voting voting = new Voting();
+        voting.setVotingId("votingId");
+        voting.setSubject("subject");
+
+        when(votingOutboxRepository.save(any(VotingOutboxEntry.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(votingOutboxService.register(voting))
+                .assertNext(entry -> {
+                    assertEquals("votingId", entry.getVotingId());
+                    assertEquals("subject", entry.getVotingSubject());
+                    assertEquals(OutboxStatus.PENDING, entry.getStatus());
+                    assertEquals(0, entry.getAttempts());
+                    assertNull(entry.getSimVotes());
+                    assertNull(entry.getNaoVotes());
+                    assertEquals(Duration.ofSeconds(30), Duration.between(entry.getClosedAt(), entry.getNextAttemptAt()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void recordTally_shouldStoreCountsOnPendingEntry() {
+        when(votingOutboxRepository.recordTally("votingId", 7L, 2L)).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(votingOutboxService.recordTally("votingId", new VoteTallyDTO(7, 2)))
+                .verifyComplete();
+
+        verify(votingOutboxRepository).recordTally("votingId", 7L, 2L);
+    }
+
+    @Test
+    void claimDueEntries_shouldReturnOnlyEntriesClaimedByThisInstance() {
+        VotingOutboxEntry won = entry("won", 0);
+        VotingOutboxEntry lost = entry("lost", 1);
+
+        when(votingOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                eq(OutboxStatus.PENDING), any(Instant.class), any(Pageable.class)))
+                .thenReturn(Flux.just(won, lost));
+        when(votingOutboxRepository.claim(eq("won"), eq(0), any(Instant.class))).thenReturn(Mono.just(1L));
+        when(votingOutboxRepository.claim(eq("lost"), eq(1), any(Instant.class))).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(votingOutboxService.claimDueEntries(10))
+                .expectNext(won)
+                .verifyComplete();
+    }
+
+    @Test
+    void claimDueEntries_shouldMarkExhaustedEntriesAsFailed() {
+        VotingOutboxEntry exhausted = entry("exhausted", 3);
+
+        when(votingOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                eq(OutboxStatus.PENDING), any(Instant.class), any(Pageable.class)))
+                .thenReturn(Flux.just(exhausted));
+        when(votingOutboxRepository.markFailed("exhausted")).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(votingOutboxService.claimDueEntries(10))
+                .verifyComplete();
+
+        verify(votingOutboxRepository, times(1)).markFailed("exhausted");
+        verify(votingOutboxRepository, never()).claim(anyString(), anyInt(), any(Instant.class));
+    }
+
+    @Test
+    void retryDelayFor_shouldGrowExponentiallyUpToMaxDelay() {
+        assertEquals(Duration.ofSeconds(30), votingOutboxService.retryDelayFor(0));
+        assertEquals(Duration.ofSeconds(120), votingOutboxService.retryDelayFor(2));
+        assertEquals(Duration.ofMinutes(30), votingOutboxService.retryDelayFor(9));
+    }
+
+    @Test
+    void toEvent_shouldRebuildVotingClosedEventWithTally() {
+        VotingOutboxEntry entry = entry("votingId", 1);
+        entry.setSimVotes(7L);
+        entry.setNaoVotes(2L);
+
+        VotingClosedEvent event = votingOutboxService.toEvent(entry);
+
+        assertEquals("votingId", event.votingId());
+        assertEquals("subject", event.votingSubject());
+        assertEquals(entry.getClosedAt(), event.closedAt());
+        assertEquals(9, event.totalVotes());
+        assertEquals(new VoteTallyDTO(7, 2), event.tally());
+    }
+
+    @Test
+    void toEvent_shouldLeaveTallyEmptyForEntriesWithoutCounts() {
+        VotingClosedEvent event = votingOutboxService.toEvent(entry("votingId", 1));
+
+        assertNull(event.tally());
+    }
+
+    private VotingOutboxEntry entry(String votingId, int attempts) {
+        VotingOutboxEntry entry = new VotingOutboxEntry();
+        entry.setVotingId(votingId);
+        entry.setVotingSubject("subject");
+        entry.setClosedAt(Instant.now());
+        entry.setStatus(OutboxStatus.PENDING);
+        entry.setAttempts(attempts);
+        entry.setNextAttemptAt(Instant.now());
+        return entry;
+    }
+}
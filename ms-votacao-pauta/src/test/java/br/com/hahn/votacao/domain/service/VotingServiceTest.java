@@ -311,4 +311,17 @@ class VotingServiceTest {
 
         assertEquals("http://localhost:8080/api/result/v1/voting123", result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void closeVoting_shouldReportWhetherThisCallClosedTheVoting() {
+        when(votingRepository.closeIfOpen("open")).thenReturn(Mono.just(1L));
+        when(votingRepository.closeIfOpen("closed")).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(votingService.closeVoting("open"))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(votingService.closeVoting("closed"))
+                .expectNext(false)
+                .verifyComplete();
+    }
+}
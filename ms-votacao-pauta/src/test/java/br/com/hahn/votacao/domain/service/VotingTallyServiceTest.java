@@ -0,0 +1,99 @@
+package br.com.hahn.votacao.domain.service;
+
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
+import br.com.hahn.votacao.domain.enums.VoteOption;
+import br.com.hahn.votacao.domain.model.Vote;
+import br.com.hahn.votacao.domain.model.VotingTally;
+import br.com.hahn.votacao.domain.repository.VotingTallyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class VotingTallyServiceTest {
+
+    private VotingTallyRepository votingTallyRepository;
+    private VotingTallyService votingTallyService;
+
+    @BeforeEach
+    void setUp() {
+        votingTallyRepository = mock(VotingTallyRepository.class);
+        votingTallyService = new VotingTallyService(votingTallyRepository);
+    }
+
+    @Test
+    void increment_shouldApplyDeltasGroupedByVoting() {
+        when(votingTallyRepository.incrementAll(anyMap())).thenReturn(Mono.empty());
+
+        List<Vote> votes = List.of(
+                vote("v1", VoteOption.SIM), vote("v1", VoteOption.SIM),
+                vote("v1", VoteOption.NAO), vote("v2", VoteOption.NAO));
+
+        StepVerifier.create(votingTallyService.increment(votes))
+                .verifyComplete();
+
+        verify(votingTallyRepository).incrementAll(Map.of(
+                "v1", new VoteTallyDTO(2, 1),
+                "v2", new VoteTallyDTO(0, 1)));
+    }
+
+    @Test
+    void markPendingReconciliation_shouldMarkEachVotingOfTheBatchOnce() {
+        when(votingTallyRepository.markPendingReconciliation(anyCollection(), any(Instant.class))).thenReturn(Mono.just(2L));
+
+        StepVerifier.create(votingTallyService.markPendingReconciliation(List.of(
+                        vote("v1", VoteOption.SIM), vote("v1", VoteOption.NAO), vote("v2", VoteOption.SIM))))
+                .verifyComplete();
+
+        verify(votingTallyRepository).markPendingReconciliation(eq(List.of("v1", "v2")), any(Instant.class));
+    }
+
+    @Test
+    void markPendingReconciliation_shouldSkipEmptyBatch() {
+        StepVerifier.create(votingTallyService.markPendingReconciliation(List.of()))
+                .verifyComplete();
+
+        verify(votingTallyRepository, never()).markPendingReconciliation(anyCollection(), any(Instant.class));
+    }
+
+    @Test
+    void findTally_shouldMapDocumentToTally() {
+        when(votingTallyRepository.findById("v1"))
+                .thenReturn(Mono.just(new VotingTally("v1", 4, 2, 6, Instant.now(), null)));
+
+        StepVerifier.create(votingTallyService.findTally("v1"))
+                .expectNext(new VoteTallyDTO(4, 2))
+                .verifyComplete();
+    }
+
+    @Test
+    void reconcile_shouldReportConcurrentIncrement() {
+        Instant updatedAt = Instant.now();
+        VotingTally tally = new VotingTally("v1", 4, 2, 6, updatedAt, null);
+        when(votingTallyRepository.reconcile(eq("v1"), eq(updatedAt), eq(5L), eq(2L), eq(7L), any(Instant.class)))
+                .thenReturn(Mono.just(0L));
+
+        StepVerifier.create(votingTallyService.reconcile(tally, new VoteTallyDTO(5, 2)))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    void deltasByVoting_shouldIgnoreEmptyBatch() {
+        assertEquals(Map.of(), VotingTallyService.deltasByVoting(List.of()));
+    }
+
+    private Vote vote(String votingId, VoteOption option) {
+        Vote vote = new Vote();
+        vote.setVotingId(votingId);
+        vote.setVoteOption(option);
+        return vote;
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.hahn.votacao.domain.validation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CpfValidatorTest {
+
+    @Test
+    void isValid_shouldAcceptCpfsWithCorrectCheckDigits() {
+        assertTrue(CpfValidator.isValid("52998224725"));
+        assertTrue(CpfValidator.isValid("11144477735"));
+        assertTrue(CpfValidator.isValid("12345678909"));
+        assertTrue(CpfValidator.isValid("98765432100"));
+    }
+
+    @Test
+    void isValid_shouldRejectWrongCheckDigits() {
+        assertFalse(CpfValidator.isValid("52998224724"));
+        assertFalse(CpfValidator.isValid("52998224715"));
+        assertFalse(CpfValidator.isValid("12345678901"));
+    }
+
+    @Test
+    void isValid_shouldRejectRepeatedDigits() {
+        for (char digit = '0'; digit <= '9'; digit++) {
+            assertFalse(CpfValidator.isValid(String.valueOf(digit).repeat(11)));
+        }
+    }
+
+    @Test
+    void isValid_shouldRejectMalformedInput() {
+        assertFalse(CpfValidator.isValid(null));
+        assertFalse(CpfValidator.isValid(""));
+        assertFalse(CpfValidator.isValid("5299822472"));
+        assertFalse(CpfValidator.isValid("529982247250"));
+        assertFalse(CpfValidator.isValid("529.982.247-25"));
+        assertFalse(CpfValidator.isValid("5299822472a"));
+        assertFalse(CpfValidator.isValid("529982247/5"));
+    }
+}
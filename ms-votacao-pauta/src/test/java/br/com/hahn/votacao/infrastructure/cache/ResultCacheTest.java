@@ -0,0 +1,84 @@
+package br.com.hahn.votacao.infrastructure.cache;
+
+import br.com.hahn.votacao.domain.model.Result;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResultCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResultCache resultCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        resultCache = new ResultCache(meterRegistry, 100, Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void find_shouldLoadOnceAndServeFromCache() {
+        Result result = result("v1");
+
+        StepVerifier.create(resultCache.find("v1", id -> load(Mono.just(result))))
+                .expectNext(result)
+                .verifyComplete();
+        StepVerifier.create(resultCache.find("v1", id -> load(Mono.just(result))))
+                .expectNext(result)
+                .verifyComplete();
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "results").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void find_shouldCacheNotReadyUntilResultIsPut() {
+        StepVerifier.create(resultCache.find("v1", id -> load(Mono.empty())))
+                .verifyComplete();
+        StepVerifier.create(resultCache.find("v1", id -> load(Mono.empty())))
+                .verifyComplete();
+        assertEquals(1, loads.get());
+
+        Result created = result("v1");
+        resultCache.put(created);
+
+        StepVerifier.create(resultCache.find("v1", id -> load(Mono.empty())))
+                .expectNext(created)
+                .verifyComplete();
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void find_shouldNotCacheLoaderErrors() {
+        StepVerifier.create(resultCache.find("v1", id -> load(Mono.error(new RuntimeException("mongo down")))))
+                .expectError(RuntimeException.class)
+                .verify();
+        StepVerifier.create(resultCache.find("v1", id -> load(Mono.empty())))
+                .verifyComplete();
+
+        assertEquals(2, loads.get());
+    }
+
+    private Mono<Result> load(Mono<Result> source) {
+        return Mono.defer(() -> {
+            loads.incrementAndGet();
+            return source;
+        });
+    }
+
+    private Result result(String votingId) {
+        Result result = new Result();
+        result.setVotingId(votingId);
+        return result;
+    }
+}
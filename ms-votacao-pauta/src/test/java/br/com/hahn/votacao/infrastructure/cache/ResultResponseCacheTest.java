@@ -0,0 +1,65 @@
+package br.com.hahn.votacao.infrastructure.cache;
+
+import br.com.hahn.votacao.domain.dto.response.ResultResponseDTO;
+import br.com.hahn.votacao.domain.exception.ResultNotReadyException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultResponseCacheTest {
+
+    private static final ResultResponseDTO RESULT = new ResultResponseDTO("v1", "Pauta", 10, "APROVADO");
+
+    private ResultResponseCache resultResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        resultResponseCache = new ResultResponseCache(new ObjectMapper(), 100);
+    }
+
+    @Test
+    void getOrLoad_shouldSerializeOnceAndServeFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        ResultResponseCache.CachedResult first = resultResponseCache
+                .getOrLoad("v1", () -> Mono.fromSupplier(() -> { loads.incrementAndGet(); return RESULT; }))
+                .block();
+        ResultResponseCache.CachedResult second = resultResponseCache
+                .getOrLoad("v1", () -> Mono.fromSupplier(() -> { loads.incrementAndGet(); return RESULT; }))
+                .block();
+
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertTrue(new String(first.body(), StandardCharsets.UTF_8).contains("\"votingId\":\"v1\""));
+        assertTrue(first.eTag().startsWith("\"") && first.eTag().endsWith("\""));
+    }
+
+    @Test
+    void getOrLoad_shouldNotCacheErrors() {
+        StepVerifier.create(resultResponseCache.getOrLoad("v1",
+                        () -> Mono.error(new ResultNotReadyException("not ready"))))
+                .expectError(ResultNotReadyException.class)
+                .verify();
+
+        assertNull(resultResponseCache.getIfPresent("v1"));
+    }
+
+    @Test
+    void matches_shouldAcceptExactWeakListAndWildcard() {
+        ResultResponseCache.CachedResult cached = new ResultResponseCache.CachedResult(new byte[0], "\"abc\"");
+
+        assertTrue(cached.matches("\"abc\""));
+        assertTrue(cached.matches("W/\"abc\""));
+        assertTrue(cached.matches("\"xyz\", \"abc\""));
+        assertTrue(cached.matches("*"));
+        assertFalse(cached.matches("\"xyz\""));
+        assertFalse(cached.matches(null));
+    }
+}
@@ -0,0 +1,381 @@
+package br.com.hahn.votacao.infrastructure.client;
+
+import br.com.hahn.votacao.domain.enums.CpfDegradedPolicy;
+import br.com.hahn.votacao.domain.enums.CpfStatus;
+import br.com.hahn.votacao.domain.exception.CpfValidationUnavailableException;
+import br.com.hahn.votacao.domain.exception.InvalidCpfException;
+import br.com.hahn.votacao.infrastructure.config.CpfValidationResilienceConfig;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class CpfValidationClientTest {
+
+    private static final String ABLE_TO_VOTE_BODY = "{\"status\":\"ABLE_TO_VOTE\"}";
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final CpfValidationResilienceConfig resilienceConfig = new CpfValidationResilienceConfig();
+
+    private DisposableServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = resilienceConfig.cpfValidationCircuitBreaker(meterRegistry, 50, 100, Duration.ofSeconds(5),
+                4, 4, Duration.ofMinutes(1), 1);
+        bulkhead = resilienceConfig.cpfValidationBulkhead(meterRegistry, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    void validateCpf_shouldReturnValidatorStatus() {
+        startServer(HttpResponseStatus.OK, Duration.ZERO);
+
+        StepVerifier.create(newClient(CpfDegradedPolicy.REJECT, false).validateCpf("52998224725"))
+                .expectNextMatches(response -> response.status() == CpfStatus.ABLE_TO_VOTE)
+                .verifyComplete();
+    }
+
+    @Test
+    void validateCpf_shouldRejectWith503WhenValidatorFailsAndPolicyIsReject() {
+        startServer(HttpResponseStatus.INTERNAL_SERVER_ERROR, Duration.ZERO);
+
+        StepVerifier.create(newClient(CpfDegradedPolicy.REJECT, false).validateCpf("52998224725"))
+                .expectError(CpfValidationUnavailableException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void validateCpf_shouldAdmitPendingWhenValidatorTimesOutAndPolicyIsAdmitPending() {
+        startServer(HttpResponseStatus.OK, Duration.ofSeconds(3));
+
+        StepVerifier.create(newClient(CpfDegradedPolicy.ADMIT_PENDING, false).validateCpf("52998224725"))
+                .expectNextMatches(response -> response.status() == CpfStatus.PENDING_VERIFICATION)
+                .verifyComplete();
+    }
+
+    @Test
+    void validateCpf_shouldPropagateInvalidCpfWithoutCountingAsFailure() {
+        startServer(HttpResponseStatus.NOT_FOUND, Duration.ZERO);
+        CpfValidationClient client = newClient(CpfDegradedPolicy.ADMIT_PENDING, false);
+
+        for (int i = 0; i < 5; i++) {
+            StepVerifier.create(client.validateCpf("39053344705"))
+                    .expectError(InvalidCpfException.class)
+                    .verify(Duration.ofSeconds(5));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void validateCpf_shouldRejectMalformedCpfWithoutCallingValidator() {
+        startServer(HttpResponseStatus.OK, Duration.ZERO);
+        CpfValidationClient client = newClient(CpfDegradedPolicy.ADMIT_PENDING, false);
+
+        for (String cpf : new String[]{"11111111111", "52998224724", "5299822472a", "123"}) {
+            StepVerifier.create(client.validateCpf(cpf))
+                    .expectError(InvalidCpfException.class)
+                    .verify(Duration.ofSeconds(5));
+        }
+
+        assertEquals(0, requests.get());
+    }
+
+    @Test
+    void validateCpf_shouldStopCallingValidatorWhenCircuitIsOpen() {
+        startServer(HttpResponseStatus.INTERNAL_SERVER_ERROR, Duration.ZERO);
+        CpfValidationClient client = newClient(CpfDegradedPolicy.REJECT, false);
+
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(client.validateCpf("52998224725"))
+                    .expectError(CpfValidationUnavailableException.class)
+                    .verify(Duration.ofSeconds(5));
+        }
+        int requestsBeforeOpen = requests.get();
+
+        StepVerifier.create(client.validateCpf("52998224725"))
+                .expectError(CpfValidationUnavailableException.class)
+                .verify(Duration.ofSeconds(5));
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(requestsBeforeOpen, requests.get());
+    }
+
+    @Test
+    void verifyCpf_shouldPropagateUnavailabilityWithoutDegradedPolicy() {
+        startServer(HttpResponseStatus.INTERNAL_SERVER_ERROR, Duration.ZERO);
+
+        StepVerifier.create(newClient(CpfDegradedPolicy.ADMIT_PENDING, false).verifyCpf("52998224725"))
+                .expectErrorMatches(error -> !(error instanceof CpfValidationUnavailableException))
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void validateCpf_shouldAnswerFromHedgedRequestWhenFirstIsSlow() {
+        AtomicInteger calls = new AtomicInteger();
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/api/v1/cpf/validate", (request, response) -> {
+                    Duration delay = calls.getAndIncrement() == 0 ? Duration.ofSeconds(5) : Duration.ZERO;
+                    return response.header("Content-Type", "application/json")
+                            .sendString(Mono.delay(delay).thenReturn(ABLE_TO_VOTE_BODY));
+                }))
+                .bindNow();
+
+        CpfValidationClient client = newClient(CpfDegradedPolicy.REJECT, true, Duration.ofSeconds(3));
+
+        StepVerifier.create(client.validateCpf("52998224725"))
+                .expectNextMatches(response -> response.status() == CpfStatus.ABLE_TO_VOTE)
+                .expectComplete()
+                .verify(Duration.ofSeconds(3));
+
+        assertEquals(2, calls.get());
+        assertEquals(1.0, meterRegistry.counter("cpf.validation.hedged").count());
+    }
+
+    @Test
+    void hedgeDelay_shouldUseMinimumWithoutLatencyHistory() {
+        startServer(HttpResponseStatus.OK, Duration.ZERO);
+
+        assertEquals(Duration.ofMillis(50), newClient(CpfDegradedPolicy.REJECT, true).hedgeDelay());
+    }
+
+    @Test
+    void validateCpf_shouldCoalesceConcurrentCallsIntoOneBatch() {
+        AtomicInteger batches = new AtomicInteger();
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/api/v1/cpf/validate-batch", (request, response) -> {
+                    batches.incrementAndGet();
+                    return response.header("Content-Type", "application/json")
+                            .sendString(request.receive().aggregate().asString().map(CpfValidationClientTest::batchBody));
+                }))
+                .bindNow();
+        CpfValidationClient client = newBatchClient(Duration.ofMillis(200));
+
+        StepVerifier.create(Flux.merge(
+                        client.validateCpf("52998224725").map(response -> "A:" + response.status()),
+                        client.validateCpf("11144477735").map(response -> "B:" + response.status()),
+                        client.validateCpf("39053344705").map(response -> "C:" + response.status())
+                                .onErrorResume(InvalidCpfException.class,
+                                error -> Mono.just("C:invalid")))
+                        .collectList())
+                .expectNextMatches(results -> results.containsAll(List.of(
+                        "A:ABLE_TO_VOTE", "B:UNABLE_TO_VOTE", "C:invalid")))
+                .verifyComplete();
+
+        assertEquals(1, batches.get());
+        assertEquals(3.0, meterRegistry.summary("cpf.validation.batch.size").totalAmount());
+        client.close();
+    }
+
+    @Test
+    void validateCpf_shouldFailEveryCallerWhenBatchFails() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/api/v1/cpf/validate-batch", (request, response) ->
+                        response.status(HttpResponseStatus.INTERNAL_SERVER_ERROR).send()))
+                .bindNow();
+        CpfValidationClient client = newBatchClient(Duration.ofMillis(50));
+
+        StepVerifier.create(Flux.merge(
+                        client.validateCpf("52998224725").materialize(),
+                        client.validateCpf("11144477735").materialize())
+                        .collectList())
+                .expectNextMatches(signals -> signals.stream()
+                        .allMatch(signal -> signal.getThrowable() instanceof CpfValidationUnavailableException))
+                .verifyComplete();
+        client.close();
+    }
+
+    @Test
+    void validateCpf_shouldDropCancelledCallerFromBatch() {
+        List<String> bodies = new CopyOnWriteArrayList<>();
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/api/v1/cpf/validate-batch", (request, response) ->
+                        response.header("Content-Type", "application/json")
+                                .sendString(request.receive().aggregate().asString()
+                                        .doOnNext(bodies::add)
+                                        .map(CpfValidationClientTest::batchBody))))
+                .bindNow();
+        CpfValidationClient client = newBatchClient(Duration.ofMillis(300));
+
+        StepVerifier.create(Flux.merge(
+                        client.validateCpf("11144477735").timeout(Duration.ofMillis(50))
+                                .map(response -> "A:" + response.status())
+                                .onErrorResume(TimeoutException.class, error -> Mono.just("A:timeout")),
+                        client.validateCpf("52998224725").map(response -> "B:" + response.status()))
+                        .collectList())
+                .expectNextMatches(results -> results.containsAll(List.of("A:timeout", "B:ABLE_TO_VOTE")))
+                .verifyComplete();
+
+        assertEquals(1, bodies.size());
+        assertFalse(bodies.get(0).contains("11144477735"));
+        assertEquals(1.0, meterRegistry.summary("cpf.validation.batch.size").totalAmount());
+        client.close();
+    }
+
+    @Test
+    void validateCpf_shouldShareInflightCallForSameCpf() {
+        startServer(HttpResponseStatus.OK, Duration.ofMillis(200));
+        CpfValidationClient client = newClient(CpfDegradedPolicy.REJECT, false, Duration.ofSeconds(3));
+
+        StepVerifier.create(Flux.merge(
+                        client.validateCpf("52998224725"),
+                        client.validateCpf("52998224725"),
+                        client.validateCpf("52998224725")))
+                .expectNextCount(3)
+                .verifyComplete();
+
+        assertEquals(1, requests.get());
+        assertEquals(3.0, meterRegistry.counter("cpf.validation.requests").count());
+        assertEquals(2.0, meterRegistry.counter("cpf.validation.coalesced").count());
+        assertEquals(0, client.inflightCount());
+    }
+
+    @Test
+    void validateCpf_shouldReleaseInflightEntryWhenEveryCallerCancels() {
+        startServer(HttpResponseStatus.OK, Duration.ofSeconds(2));
+        CpfValidationClient client = newClient(CpfDegradedPolicy.REJECT, false, Duration.ofSeconds(3));
+
+        StepVerifier.create(client.validateCpf("52998224725"))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(50))
+                .thenCancel()
+                .verify();
+
+        assertEquals(0, client.inflightCount());
+    }
+
+    @Test
+    void validateCpfStream_shouldSendNdjsonAndReturnOutcomesInOrder() {
+        AtomicInteger streams = new AtomicInteger();
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/api/v1/cpf/validate-stream", (request, response) -> {
+                    streams.incrementAndGet();
+                    if (!"application/x-ndjson".equals(request.requestHeaders().get("Content-Type"))) {
+                        return response.status(HttpResponseStatus.UNSUPPORTED_MEDIA_TYPE).send();
+                    }
+                    return response.header("Content-Type", "application/x-ndjson")
+                            .sendString(request.receive().asString()
+                                    .concatMapIterable(chunk -> List.of(chunk.split("\n")))
+                                    .map(line -> streamLine(line.replaceAll("[^0-9]", ""))));
+                }))
+                .bindNow();
+        List<String> cpfs = List.of("52998224725", "39053344705", "11144477735");
+
+        StepVerifier.create(newClient(CpfDegradedPolicy.REJECT, false).validateCpfStream(Flux.fromIterable(cpfs)))
+                .expectNextMatches(outcome -> outcome.cpf().equals("52998224725") && outcome.cpfStatus() == CpfStatus.ABLE_TO_VOTE)
+                .expectNextMatches(outcome -> outcome.cpf().equals("39053344705") && outcome.isInvalid())
+                .expectNextMatches(outcome -> outcome.cpf().equals("11144477735") && outcome.cpfStatus() == CpfStatus.UNABLE_TO_VOTE)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertEquals(1, streams.get());
+    }
+
+    @Test
+    void validateCpfStream_shouldFailWhenValidatorRejectsStream() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/api/v1/cpf/validate-stream", (request, response) ->
+                        response.status(HttpResponseStatus.INTERNAL_SERVER_ERROR).send()))
+                .bindNow();
+
+        StepVerifier.create(newClient(CpfDegradedPolicy.ADMIT_PENDING, false).validateCpfStream(Flux.just("52998224725")))
+                .expectError(RuntimeException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    /**
+     * Linha NDJSON do validador fake, com as mesmas regras de batchBody.
+     */
+    private static String streamLine(String cpf) {
+        if (cpf.equals("39053344705")) {
+            return "{\"cpf\":\"" + cpf + "\",\"error\":\"Invalid CPF\"}\n";
+        }
+        String status = cpf.equals("52998224725") ? "ABLE_TO_VOTE" : "UNABLE_TO_VOTE";
+        return "{\"cpf\":\"" + cpf + "\",\"cpfStatus\":\"" + status + "\"}\n";
+    }
+
+    /**
+     * Resposta do validador fake: 52998224725 apto, 39053344705 inválido, demais inaptos.
+     */
+    private static String batchBody(String requestBody) {
+        StringBuilder body = new StringBuilder("{\"results\":[");
+        String[] cpfs = requestBody.replaceAll("[^0-9,]", "").split(",");
+        for (int i = 0; i < cpfs.length; i++) {
+            String cpf = cpfs[i];
+            if (i > 0) {
+                body.append(',');
+            }
+            if (cpf.equals("39053344705")) {
+                body.append("{\"cpf\":\"").append(cpf).append("\",\"error\":\"Invalid CPF\"}");
+            } else {
+                String status = cpf.equals("52998224725") ? "ABLE_TO_VOTE" : "UNABLE_TO_VOTE";
+                body.append("{\"cpf\":\"").append(cpf).append("\",\"cpfStatus\":\"").append(status).append("\"}");
+            }
+        }
+        return body.append("]}").toString();
+    }
+
+    private void startServer(HttpResponseStatus status, Duration delay) {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/api/v1/cpf/validate", (request, response) -> {
+                    requests.incrementAndGet();
+                    return response.status(status)
+                            .header("Content-Type", "application/json")
+                            .sendString(Mono.delay(delay).thenReturn(ABLE_TO_VOTE_BODY));
+                }))
+                .bindNow();
+    }
+
+    private CpfValidationClient newClient(CpfDegradedPolicy policy, boolean hedgeEnabled) {
+        return newClient(policy, hedgeEnabled, Duration.ofMillis(500));
+    }
+
+    private CpfValidationClient newClient(CpfDegradedPolicy policy, boolean hedgeEnabled, Duration timeout) {
+        return new CpfValidationClient(WebClient.builder(), new ReactorClientHttpConnector(),
+                "http://localhost:" + server.port(), circuitBreaker, bulkhead, meterRegistry, policy,
+                timeout, hedgeEnabled, Duration.ofMillis(50), false, 64, Duration.ofMillis(2), 4);
+    }
+
+    private CpfValidationClient newBatchClient(Duration maxWait) {
+        return new CpfValidationClient(WebClient.builder(), new ReactorClientHttpConnector(),
+                "http://localhost:" + server.port(), circuitBreaker, bulkhead, meterRegistry, CpfDegradedPolicy.REJECT,
+                Duration.ofSeconds(3), false, Duration.ofMillis(50), true, 64, maxWait, 4);
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.hahn.votacao.infrastructure.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WebClientConfigTest {
+
+    private final WebClientConfig webClientConfig = new WebClientConfig();
+
+    private ConnectionProvider connectionProvider;
+    private DisposableServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.disposeNow();
+        }
+        if (connectionProvider != null) {
+            connectionProvider.disposeLater().block(Duration.ofSeconds(5));
+        }
+    }
+
+    @Test
+    void cpfValidationConnectionProvider_shouldApplyConfiguredPoolLimit() {
+        connectionProvider = webClientConfig.cpfValidationConnectionProvider(7, 10, Duration.ofSeconds(1),
+                Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofSeconds(30));
+
+        assertEquals(7, connectionProvider.maxConnections());
+    }
+
+    @Test
+    void cpfValidationConnector_shouldFailSlowResponsesAfterResponseTimeout() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/slow", (request, response) ->
+                        response.sendString(Mono.delay(Duration.ofSeconds(5)).thenReturn("late"))))
+                .bindNow();
+        connectionProvider = webClientConfig.cpfValidationConnectionProvider(2, 10, Duration.ofSeconds(1),
+                Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofSeconds(30));
+
+        WebClient webClient = WebClient.builder()
+                .clientConnector(webClientConfig.cpfValidationConnector(connectionProvider, Duration.ofSeconds(1),
+                        Duration.ofSeconds(5), Duration.ofMillis(200), false))
+                .baseUrl("http://localhost:" + server.port())
+                .build();
+
+        StepVerifier.create(webClient.post().uri("/slow").retrieve().bodyToMono(String.class))
+                .expectError(WebClientRequestException.class)
+                .verify(Duration.ofSeconds(3));
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.hahn.votacao.infrastructure.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DomainEventBusTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DomainEventBus domainEventBus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        domainEventBus = new DomainEventBus(meterRegistry, 8);
+    }
+
+    @Test
+    void publish_shouldDeliverOnlyEventsOfSubscribedType() {
+        List<String> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = domainEventBus.subscribe(String.class,
+                event -> Mono.fromRunnable(() -> received.add(event)), 1);
+
+        assertTrue(domainEventBus.publish("closed"));
+        assertTrue(domainEventBus.publish(42));
+
+        assertEquals(List.of("closed"), received);
+        assertEquals(2.0, meterRegistry.get("domain.events.published").counters().stream()
+                .mapToDouble(counter -> counter.count()).sum());
+        assertEquals(1L, meterRegistry.get("domain.events.processing").tag("event", "String").timer().count());
+        subscription.dispose();
+    }
+
+    @Test
+    void publish_shouldDropAndCountWhenBufferIsFull() {
+        for (int i = 0; i < 8; i++) {
+            assertTrue(domainEventBus.publish("event-" + i));
+        }
+
+        assertEquals(8, domainEventBus.queueDepth());
+        assertFalse(domainEventBus.publish("overflow"));
+        assertEquals(1.0, meterRegistry.get("domain.events.dropped").tag("event", "String").counter().count());
+        assertEquals(8.0, meterRegistry.get("domain.events.queue.depth").gauge().value());
+    }
+
+    @Test
+    void subscribe_shouldLimitConcurrentProcessing() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<Sinks.Empty<Void>> pending = new CopyOnWriteArrayList<>();
+
+        Disposable subscription = domainEventBus.subscribe(String.class, event -> {
+            Sinks.Empty<Void> completion = Sinks.empty();
+            pending.add(completion);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return completion.asMono().doOnTerminate(inFlight::decrementAndGet);
+        }, 2);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(domainEventBus.publish("event-" + i));
+        }
+
+        assertEquals(2, pending.size());
+        assertEquals(2, domainEventBus.queueDepth());
+
+        pending.get(0).tryEmitEmpty();
+        assertEquals(3, pending.size());
+
+        assertEquals(2, maxInFlight.get());
+        subscription.dispose();
+    }
+
+    @Test
+    void subscribe_shouldKeepConsumingAfterHandlerError() {
+        List<String> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = domainEventBus.subscribe(String.class, event -> {
+            if ("boom".equals(event)) {
+                return Mono.error(new IllegalStateException("boom"));
+            }
+            return Mono.fromRunnable(() -> received.add(event));
+        }, 1);
+
+        domainEventBus.publish("boom");
+        domainEventBus.publish("ok");
+
+        assertEquals(List.of("ok"), received);
+        subscription.dispose();
+    }
+}
@@ -1,68 +1,83 @@
 package br.com.hahn.votacao.infrastructure.event;
 
 import br.com.hahn.votacao.domain.VotingClosedEvent;
+import br.com.hahn.votacao.domain.dto.ResultBatchOutcomeDTO;
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
 import br.com.hahn.votacao.domain.dto.response.ResultResponseDTO;
 import br.com.hahn.votacao.domain.service.ResultService;
+import br.com.hahn.votacao.domain.service.VotingOutboxService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
-import java.time.Duration;
-import static org.junit.jupiter.api.Assertions.*;
+import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class VotingEventHandlerTest {
 
     private ResultService resultService;
+    private VotingOutboxService votingOutboxService;
+    private DomainEventBus domainEventBus;
     private VotingEventHandler votingEventHandler;
 
     @BeforeEach
     void setUp() {
         resultService = mock(ResultService.class);
-        votingEventHandler = new VotingEventHandler(resultService);
+        votingOutboxService = mock(VotingOutboxService.class);
+        when(votingOutboxService.markDone(any())).thenReturn(Mono.empty());
+        when(votingOutboxService.recordFailure(any(), any())).thenReturn(Mono.empty());
+        when(votingOutboxService.markAllDone(any())).thenReturn(Mono.empty());
+        domainEventBus = new DomainEventBus(new SimpleMeterRegistry(), 16);
+        votingEventHandler = new VotingEventHandler(resultService, votingOutboxService, domainEventBus, 2, 10, Duration.ofMillis(50));
     }
 
     @Test
-    void handleVotingClosed_shouldCallCreateResultAndSubscribeSuccessfully() {
+    void handleVotingClosed_shouldCallCreateResultAndMarkOutboxDone() {
         String votingId = "voting123";
         VotingClosedEvent event = new VotingClosedEvent(votingId, "Test Subject", Instant.now(), 10);
         ResultResponseDTO result = mock(ResultResponseDTO.class);
 
-        when(resultService.createResult(votingId)).thenReturn(Mono.just(result));
+        when(resultService.createResultFromEvent(any(VotingClosedEvent.class))).thenReturn(Mono.just(result));
 
-        votingEventHandler.handleVotingClosed(event);
+        StepVerifier.create(votingEventHandler.handleVotingClosed(event))
+                .verifyComplete();
 
-        verify(resultService, times(1)).createResult(votingId);
+        verify(resultService, times(1)).createResultFromEvent(any(VotingClosedEvent.class));
+        verify(votingOutboxService, times(1)).markDone(votingId);
     }
 
     @Test
-    void handleVotingClosed_shouldLogErrorOnFailure() {
+    void handleVotingClosed_shouldRecordFailureWithoutPropagatingError() {
         String votingId = "voting456";
         VotingClosedEvent event = new VotingClosedEvent(votingId, "Another Subject", Instant.now(), 5);
 
-        when(resultService.createResult(votingId)).thenReturn(Mono.error(new RuntimeException("fail")));
+        when(resultService.createResultFromEvent(any(VotingClosedEvent.class))).thenReturn(Mono.error(new RuntimeException("fail")));
 
-        votingEventHandler.handleVotingClosed(event);
+        StepVerifier.create(votingEventHandler.handleVotingClosed(event))
+                .verifyComplete();
 
-        verify(resultService, times(1)).createResult(votingId);
+        verify(resultService, times(1)).createResultFromEvent(any(VotingClosedEvent.class));
+        verify(votingOutboxService, times(1)).recordFailure(eq(votingId), any(RuntimeException.class));
+        verify(votingOutboxService, never()).markDone(votingId);
     }
 
     @Test
     void handleVotingClosed_shouldHandleEventWithNullVotingId() {
         VotingClosedEvent eventWithNullId = new VotingClosedEvent(null, "Subject", Instant.now(), 10);
 
-        when(resultService.createResult(null)).thenReturn(Mono.error(new IllegalArgumentException("Voting ID cannot be null")));
+        when(resultService.createResultFromEvent(any(VotingClosedEvent.class))).thenReturn(Mono.error(new IllegalArgumentException("Voting ID cannot be null")));
 
-        assertDoesNotThrow(() -> {
-            votingEventHandler.handleVotingClosed(eventWithNullId);
-        });
+        StepVerifier.create(votingEventHandler.handleVotingClosed(eventWithNullId))
+                .verifyComplete();
 
-        verify(resultService, times(1)).createResult(null);
+        verify(resultService, times(1)).createResultFromEvent(any(VotingClosedEvent.class));
     }
 
     @Test
@@ -70,56 +85,52 @@ class VotingEventHandlerTest {
         String votingId = "voting789";
         VotingClosedEvent event = new VotingClosedEvent(votingId, "Subject", Instant.now(), 0);
 
-        when(resultService.createResult(votingId)).thenReturn(Mono.empty());
+        when(resultService.createResultFromEvent(any(VotingClosedEvent.class))).thenReturn(Mono.empty());
 
-        assertDoesNotThrow(() -> {
-            votingEventHandler.handleVotingClosed(event);
-        });
+        StepVerifier.create(votingEventHandler.handleVotingClosed(event))
+                .verifyComplete();
 
-        verify(resultService, times(1)).createResult(votingId);
+        verify(resultService, times(1)).createResultFromEvent(any(VotingClosedEvent.class));
+        verify(votingOutboxService, never()).markDone(votingId);
     }
 
     @Test
-    void handleVotingClosed_shouldVerifyAsyncExecution() throws InterruptedException {
-        String votingId = "asyncTest";
-        VotingClosedEvent event = new VotingClosedEvent(votingId, "Async Subject", Instant.now(), 15);
-        CountDownLatch latch = new CountDownLatch(1);
-
-        when(resultService.createResult(votingId)).thenReturn(
-                Mono.fromCallable(() -> {
-                    latch.countDown();
-                    return mock(ResultResponseDTO.class);
-                })
-        );
+    void handleVotingClosed_shouldBeLazyUntilSubscribed() {
+        String votingId = "lazyTest";
+        VotingClosedEvent event = new VotingClosedEvent(votingId, "Lazy Subject", Instant.now(), 0);
 
         votingEventHandler.handleVotingClosed(event);
 
-        // Aguarda até 2 segundos pela execução assíncrona
-        assertTrue(latch.await(2, TimeUnit.SECONDS), "O método deveria executar de forma assíncrona");
-        verify(resultService, times(1)).createResult(votingId);
+        verify(resultService, never()).createResultFromEvent(any(VotingClosedEvent.class));
     }
 
     @Test
-    void handleVotingClosed_shouldVerifySubscriptionOnBoundedElastic() throws InterruptedException {
-        String votingId = "schedulerTest";
-        VotingClosedEvent event = new VotingClosedEvent(votingId, "Scheduler Subject", Instant.now(), 20);
-        AtomicReference<String> threadName = new AtomicReference<>();
-        CountDownLatch latch = new CountDownLatch(1);
-
-        when(resultService.createResult(votingId)).thenReturn(
-                Mono.fromCallable(() -> {
-                    threadName.set(Thread.currentThread().getName());
-                    latch.countDown();
-                    return mock(ResultResponseDTO.class);
-                })
-        );
+    void subscribe_shouldProcessEventsPublishedOnBus() {
+        String votingId = "busTest";
+        VotingClosedEvent event = new VotingClosedEvent(votingId, "Bus Subject", Instant.now(), 15);
 
-        votingEventHandler.handleVotingClosed(event);
+        when(resultService.createResultFromEvent(any(VotingClosedEvent.class))).thenReturn(Mono.just(mock(ResultResponseDTO.class)));
+
+        votingEventHandler.subscribe();
+        assertTrue(domainEventBus.publish(event));
 
-        assertTrue(latch.await(2, TimeUnit.SECONDS));
-        assertTrue(threadName.get().contains("boundedElastic"),
-                "Deveria executar em thread do boundedElastic scheduler");
-        verify(resultService, times(1)).createResult(votingId);
+        verify(resultService, timeout(2000).times(1)).createResultFromEvent(any(VotingClosedEvent.class));
+        verify(votingOutboxService, timeout(2000).times(1)).markDone(votingId);
+        votingEventHandler.unsubscribe();
+    }
+
+    @Test
+    void subscribe_shouldProcessEventsPublishedBeforeSubscription() {
+        String votingId = "earlyTest";
+        VotingClosedEvent event = new VotingClosedEvent(votingId, "Early Subject", Instant.now(), 0);
+
+        when(resultService.createResultFromEvent(any(VotingClosedEvent.class))).thenReturn(Mono.just(mock(ResultResponseDTO.class)));
+
+        assertTrue(domainEventBus.publish(event));
+        votingEventHandler.subscribe();
+
+        verify(resultService, timeout(2000).times(1)).createResultFromEvent(any(VotingClosedEvent.class));
+        votingEventHandler.unsubscribe();
     }
 
     @Test
@@ -127,24 +138,94 @@ class VotingEventHandlerTest {
         String votingId = "timeoutTest";
         VotingClosedEvent event = new VotingClosedEvent(votingId, "Timeout Subject", Instant.now(), 25);
 
-        when(resultService.createResult(votingId)).thenReturn(
+        when(resultService.createResultFromEvent(any(VotingClosedEvent.class))).thenReturn(
                 Mono.delay(Duration.ofSeconds(10))
                         .then(Mono.just(mock(ResultResponseDTO.class)))
         );
 
-        assertDoesNotThrow(() -> {
-            votingEventHandler.handleVotingClosed(event);
-        });
+        StepVerifier.create(votingEventHandler.handleVotingClosed(event))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenCancel()
+                .verify();
 
-        verify(resultService, times(1)).createResult(votingId);
+        verify(resultService, times(1)).createResultFromEvent(any(VotingClosedEvent.class));
     }
 
     @Test
     void constructor_shouldAcceptResultService() {
         assertDoesNotThrow(() -> {
-            new VotingEventHandler(resultService);
+            new VotingEventHandler(resultService, votingOutboxService, domainEventBus, 1, 10, Duration.ofMillis(50));
         });
     }
 
-}
+    @Test
+    void handleVotingClosed_shouldPassEventTallyToResultService() {
+        String votingId = "tallyTest";
+        VotingClosedEvent event = new VotingClosedEvent(votingId, "Tally Subject", Instant.now(), 5,
+                new VoteTallyDTO(3, 2));
+
+        when(resultService.createResultFromEvent(event)).thenReturn(Mono.just(mock(ResultResponseDTO.class)));
+
+        StepVerifier.create(votingEventHandler.handleVotingClosed(event))
+                .verifyComplete();
+
+        verify(resultService, times(1)).createResultFromEvent(event);
+        verify(resultService, never()).createResult(anyString());
+    }
+
+    @Test
+    void handleVotingClosedBatch_shouldMarkSuccessesDoneAndRecordFailures() {
+        VotingClosedEvent first = new VotingClosedEvent("v1", "S1", Instant.now(), 1, new VoteTallyDTO(1, 0));
+        VotingClosedEvent second = new VotingClosedEvent("v2", "S2", Instant.now(), 1, new VoteTallyDTO(0, 1));
+        RuntimeException error = new RuntimeException("write failed");
+
+        when(resultService.createResultsFromEvents(List.of(first, second))).thenReturn(Flux.just(
+                ResultBatchOutcomeDTO.success(new ResultResponseDTO("v1", "S1", 1, "APROVADO")),
+                ResultBatchOutcomeDTO.failure("v2", error)));
+
+        StepVerifier.create(votingEventHandler.handleVotingClosedBatch(List.of(first, second)))
+                .verifyComplete();
+
+        verify(votingOutboxService, times(1)).markAllDone(List.of("v1"));
+        verify(votingOutboxService, times(1)).recordFailure("v2", error);
+        verify(resultService, never()).createResultFromEvent(any(VotingClosedEvent.class));
+    }
+
+    @Test
+    void handleVotingClosedBatch_shouldRecordFailureForEveryEventWhenBatchFails() {
+        VotingClosedEvent first = new VotingClosedEvent("v1", "S1", Instant.now(), 1, new VoteTallyDTO(1, 0));
+        VotingClosedEvent second = new VotingClosedEvent("v2", "S2", Instant.now(), 1, new VoteTallyDTO(0, 1));
 
+        when(resultService.createResultsFromEvents(any())).thenReturn(Flux.error(new RuntimeException("mongo down")));
+
+        StepVerifier.create(votingEventHandler.handleVotingClosedBatch(List.of(first, second)))
+                .verifyComplete();
+
+        verify(votingOutboxService, times(1)).recordFailure(eq("v1"), any(RuntimeException.class));
+        verify(votingOutboxService, times(1)).recordFailure(eq("v2"), any(RuntimeException.class));
+        verify(votingOutboxService, never()).markAllDone(any());
+    }
+
+    @Test
+    void subscribe_shouldProcessBurstOfEventsInBatches() {
+        when(resultService.createResultsFromEvents(any())).thenAnswer(invocation -> {
+            List<VotingClosedEvent> events = invocation.getArgument(0);
+            return Flux.fromIterable(events)
+                    .map(event -> ResultBatchOutcomeDTO.success(
+                            new ResultResponseDTO(event.votingId(), event.votingSubject(), 0, "REPROVADO")));
+        });
+        when(resultService.createResultFromEvent(any(VotingClosedEvent.class)))
+                .thenReturn(Mono.just(mock(ResultResponseDTO.class)));
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(domainEventBus.publish(new VotingClosedEvent("burst" + i, "Subject", Instant.now(), 0,
+                    new VoteTallyDTO(0, 0))));
+        }
+        votingEventHandler.subscribe();
+
+        verify(resultService, timeout(2000).times(1)).createResultsFromEvents(argThat(events -> events.size() == 5));
+        verify(votingOutboxService, timeout(2000).times(1)).markAllDone(argThat(ids -> ids.size() == 5));
+        votingEventHandler.unsubscribe();
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.hahn.votacao.infrastructure.scheduling;
+
+import br.com.hahn.votacao.domain.model.User;
+import br.com.hahn.votacao.domain.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class EligibilityReverificationJobTest {
+
+    private UserService userService;
+    private SimpleMeterRegistry meterRegistry;
+    private EligibilityReverificationJob reverificationJob;
+
+    @BeforeEach
+    void setUp() {
+        userService = mock(UserService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        reverificationJob = new EligibilityReverificationJob(userService, meterRegistry, Duration.ofHours(1), 10, 2, false);
+    }
+
+    @Test
+    void reverifyBatch_shouldRefreshDueUsersAndCountOutcomes() {
+        User refreshed = new User("u1", "Ana", "52998224725", null);
+        User unavailable = new User("u2", "Bia", "11144477735", null);
+        when(userService.findEligibilityDueBefore(any(Instant.class), eq(10))).thenReturn(Flux.just(refreshed, unavailable));
+        when(userService.refreshEligibility(refreshed)).thenReturn(Mono.just(true));
+        when(userService.refreshEligibility(unavailable)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(reverificationJob.reverifyBatch())
+                .verifyComplete();
+
+        assertEquals(1.0, meterRegistry.counter("user.eligibility.reverified").count());
+        assertEquals(1.0, meterRegistry.counter("user.eligibility.reverification.skipped").count());
+    }
+
+    @Test
+    void reverifyBatch_shouldLookAheadOfExpiration() {
+        when(userService.findEligibilityDueBefore(any(Instant.class), anyInt())).thenReturn(Flux.empty());
+        Instant before = Instant.now();
+
+        StepVerifier.create(reverificationJob.reverifyBatch())
+                .verifyComplete();
+
+        verify(userService).findEligibilityDueBefore(argThat(threshold ->
+                !threshold.isBefore(before.plus(Duration.ofHours(1)))), eq(10));
+    }
+
+    @Test
+    void reverifyBatch_shouldBoundConcurrentVerifications() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        when(userService.findEligibilityDueBefore(any(Instant.class), anyInt())).thenReturn(Flux.range(0, 6)
+                .map(i -> new User("u" + i, "Nome", "52998224725", null)));
+        when(userService.refreshEligibility(any(User.class))).thenAnswer(invocation -> Mono.delay(Duration.ofMillis(20))
+                .doOnSubscribe(subscription -> maxActive.accumulateAndGet(active.incrementAndGet(), Math::max))
+                .doOnTerminate(active::decrementAndGet)
+                .thenReturn(true));
+
+        StepVerifier.create(reverificationJob.reverifyBatch())
+                .verifyComplete();
+
+        assertTrue(maxActive.get() <= 2);
+        assertEquals(6.0, meterRegistry.counter("user.eligibility.reverified").count());
+    }
+
+    @Test
+    void reverifyBatch_shouldUseSingleStreamWhenStreamingIsEnabled() {
+        EligibilityReverificationJob streamingJob =
+                new EligibilityReverificationJob(userService, meterRegistry, Duration.ofHours(1), 10, 2, true);
+        Flux<User> dueUsers = Flux.just(new User("u1", "Ana", "52998224725", null),
+                new User("u2", "Bia", "11144477735", null));
+        when(userService.findEligibilityDueBefore(any(Instant.class), eq(10))).thenReturn(dueUsers);
+        when(userService.refreshEligibilityStream(dueUsers, 2)).thenReturn(Flux.just(true, false));
+
+        StepVerifier.create(streamingJob.reverifyBatch())
+                .verifyComplete();
+
+        verify(userService, never()).refreshEligibility(any(User.class));
+        assertEquals(1.0, meterRegistry.counter("user.eligibility.reverified").count());
+        assertEquals(1.0, meterRegistry.counter("user.eligibility.reverification.skipped").count());
+    }
+}
@@ -3,6 +3,13 @@ package br.com.hahn.votacao.infrastructure.scheduling;
 import br.com.hahn.votacao.infrastructure.service.VoteBatchConsumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import static org.mockito.Mockito.*;
 
@@ -14,7 +21,7 @@ class VoteBatchSchedulerTest {
     @BeforeEach
     void setUp() {
         voteBatchConsumer = mock(VoteBatchConsumer.class);
-        voteBatchScheduler = new VoteBatchScheduler(voteBatchConsumer);
+        voteBatchScheduler = new VoteBatchScheduler(voteBatchConsumer, Schedulers.immediate());
     }
 
     @Test
@@ -22,5 +29,51 @@ class VoteBatchSchedulerTest {
         voteBatchScheduler.scheduledFlush();
         verify(voteBatchConsumer, times(1)).scheduledFlush();
     }
-}
 
+    @Test
+    void scheduledFlush_shouldRunBlockingFlushOffSchedulerThread() throws InterruptedException {
+        AtomicReference<String> flushThread = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            flushThread.set(Thread.currentThread().getName());
+            latch.countDown();
+            return null;
+        }).when(voteBatchConsumer).scheduledFlush();
+
+        new VoteBatchScheduler(voteBatchConsumer, Schedulers.boundedElastic()).scheduledFlush();
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertTrue(flushThread.get().contains("boundedElastic"));
+    }
+
+    @Test
+    void scheduledFlush_shouldNotPropagateFlushErrors() {
+        doThrow(new RuntimeException("flush error")).when(voteBatchConsumer).scheduledFlush();
+
+        voteBatchScheduler.scheduledFlush();
+
+        verify(voteBatchConsumer, times(1)).scheduledFlush();
+    }
+
+    @Test
+    void scheduledFlush_shouldSkipTickWhilePreviousFlushIsRunning() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(2, TimeUnit.SECONDS);
+            return null;
+        }).when(voteBatchConsumer).scheduledFlush();
+        VoteBatchScheduler scheduler = new VoteBatchScheduler(voteBatchConsumer, Schedulers.boundedElastic());
+
+        scheduler.scheduledFlush();
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+        scheduler.scheduledFlush();
+        release.countDown();
+
+        verify(voteBatchConsumer, after(200).times(1)).scheduledFlush();
+
+        scheduler.scheduledFlush();
+        verify(voteBatchConsumer, timeout(2000).times(2)).scheduledFlush();
+    }
+}
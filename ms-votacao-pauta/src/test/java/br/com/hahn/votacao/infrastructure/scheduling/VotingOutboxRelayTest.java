@@ -0,0 +1,97 @@
+package br.com.hahn.votacao.infrastructure.scheduling;
+
+import br.com.hahn.votacao.domain.VotingClosedEvent;
+import br.com.hahn.votacao.domain.enums.OutboxStatus;
+import br.com.hahn.votacao.domain.model.Voting;
+import br.com.hahn.votacao.domain.model.VotingOutboxEntry;
+import br.com.hahn.votacao.domain.service.VotingOutboxService;
+import br.com.hahn.votacao.domain.service.VotingService;
+import br.com.hahn.votacao.infrastructure.event.DomainEventBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class VotingOutboxRelayTest {
+
+    private VotingOutboxService votingOutboxService;
+    private VotingService votingService;
+    private DomainEventBus domainEventBus;
+    private VotingOutboxRelay votingOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        votingOutboxService = mock(VotingOutboxService.class);
+        when(votingOutboxService.toEvent(any(VotingOutboxEntry.class))).thenAnswer(invocation -> {
+            VotingOutboxEntry entry = invocation.getArgument(0);
+            return new VotingClosedEvent(entry.getVotingId(), entry.getVotingSubject(), entry.getClosedAt(), 0);
+        });
+        when(votingOutboxService.recordFailure(anyString(), any())).thenReturn(Mono.empty());
+        votingService = mock(VotingService.class);
+        domainEventBus = mock(DomainEventBus.class);
+        when(domainEventBus.publish(any())).thenReturn(true);
+        votingOutboxRelay = new VotingOutboxRelay(votingOutboxService, votingService, domainEventBus, 100);
+    }
+
+    @Test
+    void relayDueEntries_shouldRedeliverEntriesOfClosedVotings() {
+        when(votingOutboxService.claimDueEntries(100)).thenReturn(Flux.just(entry("closedId")));
+        when(votingService.findAllById(anyCollection())).thenReturn(Flux.just(voting("closedId", false)));
+
+        votingOutboxRelay.relayDueEntries();
+
+        verify(domainEventBus, times(1)).publish(argThat(event -> event instanceof VotingClosedEvent closed
+                && closed.votingId().equals("closedId")));
+        verify(votingOutboxService, never()).recordFailure(anyString(), any());
+    }
+
+    @Test
+    void relayDueEntries_shouldNotRedeliverWhenCloseFailedAfterOutboxWrite() {
+        when(votingOutboxService.claimDueEntries(100)).thenReturn(Flux.just(entry("openId"), entry("closedId")));
+        when(votingService.findAllById(anyCollection())).thenReturn(Flux.just(
+                voting("openId", true), voting("closedId", false)));
+
+        votingOutboxRelay.relayDueEntries();
+
+        verify(votingService, times(1)).findAllById(argThat((Collection<String> ids) ->
+                ids.containsAll(List.of("openId", "closedId")) && ids.size() == 2));
+        verify(domainEventBus, never()).publish(argThat(event -> event instanceof VotingClosedEvent closed
+                && closed.votingId().equals("openId")));
+        verify(domainEventBus, times(1)).publish(any(VotingClosedEvent.class));
+        verify(votingOutboxService, times(1)).recordFailure(eq("openId"), any(IllegalStateException.class));
+    }
+
+    @Test
+    void relayDueEntries_shouldNotQueryVotingsWhenNothingIsDue() {
+        when(votingOutboxService.claimDueEntries(100)).thenReturn(Flux.empty());
+
+        votingOutboxRelay.relayDueEntries();
+
+        verify(votingService, never()).findAllById(anyCollection());
+        verify(domainEventBus, never()).publish(any());
+    }
+
+    private VotingOutboxEntry entry(String votingId) {
+        VotingOutboxEntry entry = new VotingOutboxEntry();
+        entry.setVotingId(votingId);
+        entry.setVotingSubject("subject");
+        entry.setClosedAt(Instant.now());
+        entry.setStatus(OutboxStatus.PENDING);
+        entry.setNextAttemptAt(Instant.now());
+        return entry;
+    }
+
+    private Voting voting(String votingId, boolean open) {
+        Voting voting = new Voting();
+        voting.setVotingId(votingId);
+        voting.setVotingSatus(open);
+        return voting;
+    }
+}
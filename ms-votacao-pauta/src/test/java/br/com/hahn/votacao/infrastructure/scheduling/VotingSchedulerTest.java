@@ -2,18 +2,27 @@ package br.com.hahn.votacao.infrastructure.scheduling;
 
 
 import br.com.hahn.votacao.domain.VotingClosedEvent;
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
 import br.com.hahn.votacao.domain.model.Voting;
+import br.com.hahn.votacao.domain.model.VotingOutboxEntry;
+import br.com.hahn.votacao.domain.service.ResultService;
+import br.com.hahn.votacao.domain.service.VotingOutboxService;
 import br.com.hahn.votacao.domain.service.VotingService;
-import br.com.hahn.votacao.infrastructure.service.VoteBatchConsumer;
+import br.com.hahn.votacao.infrastructure.event.DomainEventBus;
+import br.com.hahn.votacao.infrastructure.service.VoteDrainBarrier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.context.ApplicationEventPublisher;
+import org.mockito.InOrder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -22,16 +31,30 @@ import static org.mockito.Mockito.*;
 class VotingSchedulerTest {
 
     private VotingService votingService;
-    private VoteBatchConsumer voteBatchConsumer;
-    private ApplicationEventPublisher eventPublisher;
+    private ResultService resultService;
+    private VoteDrainBarrier voteDrainBarrier;
+    private VotingOutboxService votingOutboxService;
+    private DomainEventBus domainEventBus;
     private VotingScheduler votingScheduler;
 
     @BeforeEach
     void setUp() {
         votingService = mock(VotingService.class);
-        voteBatchConsumer = mock(VoteBatchConsumer.class);
-        eventPublisher = mock(ApplicationEventPublisher.class);
-        votingScheduler = new VotingScheduler(votingService, voteBatchConsumer, eventPublisher);
+        resultService = mock(ResultService.class);
+        when(resultService.tallyVotes(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> votingIds = invocation.getArgument(0);
+            Map<String, VoteTallyDTO> tallies = new HashMap<>();
+            votingIds.forEach(votingId -> tallies.put(votingId, new VoteTallyDTO(3, 1)));
+            return Mono.just(tallies);
+        });
+        voteDrainBarrier = mock(VoteDrainBarrier.class);
+        votingOutboxService = mock(VotingOutboxService.class);
+        when(votingOutboxService.register(any(Voting.class))).thenReturn(Mono.just(new VotingOutboxEntry()));
+        when(votingOutboxService.recordTally(anyString(), any(VoteTallyDTO.class))).thenReturn(Mono.empty());
+        when(votingService.closeVoting(anyString())).thenReturn(Mono.just(true));
+        domainEventBus = mock(DomainEventBus.class);
+        when(domainEventBus.publish(any())).thenReturn(true);
+        votingScheduler = new VotingScheduler(votingService, resultService, voteDrainBarrier, votingOutboxService, domainEventBus);
     }
 
     @Test
@@ -43,8 +66,7 @@ class VotingSchedulerTest {
         voting.setCloseVotingDate(Instant.now().minusSeconds(10));
 
         when(votingService.findAllVotings()).thenReturn(Flux.just(voting));
-        when(voteBatchConsumer.forceFlushForVotingReactive("votingId")).thenReturn(Mono.empty());
-        when(votingService.saveVoting(any(Voting.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(voteDrainBarrier.drain("votingId")).thenReturn(Mono.empty());
 
         Mono<Void> result = Mono.fromRunnable(() -> votingScheduler.checkAndCloseExpiredVotings());
 
@@ -52,9 +74,15 @@ class VotingSchedulerTest {
                 .expectComplete()
                 .verify(Duration.ofSeconds(5));
 
-        verify(voteBatchConsumer, times(1)).forceFlushForVotingReactive("votingId");
-        verify(votingService, times(1)).saveVoting(any(Voting.class));
-        verify(eventPublisher, times(1)).publishEvent(any(VotingClosedEvent.class));
+        InOrder inOrder = inOrder(votingOutboxService, votingService, voteDrainBarrier, resultService);
+        inOrder.verify(votingOutboxService).register(voting);
+        inOrder.verify(votingService).closeVoting("votingId");
+        inOrder.verify(voteDrainBarrier).drain("votingId");
+        inOrder.verify(resultService).tallyVotes(anyCollection());
+        inOrder.verify(votingOutboxService).recordTally("votingId", new VoteTallyDTO(3, 1));
+        verify(domainEventBus, times(1)).publish(argThat(event -> event instanceof VotingClosedEvent closed
+                && closed.totalVotes() == 4
+                && new VoteTallyDTO(3, 1).equals(closed.tally())));
     }
 
     @Test
@@ -77,9 +105,9 @@ class VotingSchedulerTest {
                 .expectComplete()
                 .verify(Duration.ofSeconds(5));
 
-        verify(voteBatchConsumer, never()).forceFlushForVotingReactive(anyString());
-        verify(votingService, never()).saveVoting(any(Voting.class));
-        verify(eventPublisher, never()).publishEvent(any());
+        verify(voteDrainBarrier, never()).drain(anyString());
+        verify(votingService, never()).closeVoting(anyString());
+        verify(domainEventBus, never()).publish(any());
     }
 
     @Test
@@ -90,7 +118,7 @@ class VotingSchedulerTest {
         voting.setCloseVotingDate(Instant.now().minusSeconds(10));
 
         when(votingService.findAllVotings()).thenReturn(Flux.just(voting));
-        when(voteBatchConsumer.forceFlushForVotingReactive("errId")).thenReturn(Mono.error(new RuntimeException("flush error")));
+        when(voteDrainBarrier.drain("errId")).thenReturn(Mono.error(new RuntimeException("flush error")));
 
         Mono<Void> result = Mono.fromRunnable(() -> votingScheduler.checkAndCloseExpiredVotings());
 
@@ -98,9 +126,135 @@ class VotingSchedulerTest {
                 .expectComplete()
                 .verify(Duration.ofSeconds(5));
 
-        verify(voteBatchConsumer, times(1)).forceFlushForVotingReactive("errId");
-        verify(votingService, never()).saveVoting(any(Voting.class));
-        verify(eventPublisher, never()).publishEvent(any());
+        verify(voteDrainBarrier, times(1)).drain("errId");
+        verify(votingOutboxService, never()).recordTally(anyString(), any(VoteTallyDTO.class));
+        verify(domainEventBus, never()).publish(any());
     }
-}
 
+    @Test
+    void checkAndCloseExpiredVotings_shouldKeepOutboxEntryWhenEventBusIsSaturated() {
+        Voting voting = new Voting();
+        voting.setVotingId("burstId");
+        voting.setSubject("subject");
+        voting.setVotingSatus(true);
+        voting.setCloseVotingDate(Instant.now().minusSeconds(10));
+
+        when(votingService.findAllVotings()).thenReturn(Flux.just(voting));
+        when(voteDrainBarrier.drain("burstId")).thenReturn(Mono.empty());
+        when(domainEventBus.publish(any(VotingClosedEvent.class))).thenReturn(false);
+
+        Mono<Void> result = Mono.fromRunnable(() -> votingScheduler.checkAndCloseExpiredVotings());
+
+        StepVerifier.create(result)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(votingOutboxService, times(1)).register(voting);
+        verify(votingOutboxService, times(1)).recordTally("burstId", new VoteTallyDTO(3, 1));
+    }
+
+    @Test
+    void checkAndCloseExpiredVotings_shouldTallyAllExpiredVotingsInOneCall() {
+        Voting first = new Voting();
+        first.setVotingId("first");
+        first.setSubject("subject");
+        first.setVotingSatus(true);
+        first.setCloseVotingDate(Instant.now().minusSeconds(10));
+        Voting second = new Voting();
+        second.setVotingId("second");
+        second.setSubject("subject");
+        second.setVotingSatus(true);
+        second.setCloseVotingDate(Instant.now().minusSeconds(10));
+
+        when(votingService.findAllVotings()).thenReturn(Flux.just(first, second));
+        when(voteDrainBarrier.drain(anyString())).thenReturn(Mono.empty());
+
+        votingScheduler.checkAndCloseExpiredVotings();
+
+        verify(resultService, times(1)).tallyVotes(argThat((Collection<String> ids) ->
+                ids.containsAll(List.of("first", "second")) && ids.size() == 2));
+        verify(resultService, never()).tallyVotes(anyString());
+        verify(domainEventBus, times(2)).publish(any(VotingClosedEvent.class));
+    }
+
+    @Test
+    void checkAndCloseExpiredVotings_shouldSkipVotingClosedByAnotherInstance() {
+        Voting voting = new Voting();
+        voting.setVotingId("raceId");
+        voting.setVotingSatus(true);
+        voting.setCloseVotingDate(Instant.now().minusSeconds(10));
+
+        when(votingService.findAllVotings()).thenReturn(Flux.just(voting));
+        when(votingService.closeVoting("raceId")).thenReturn(Mono.just(false));
+
+        votingScheduler.checkAndCloseExpiredVotings();
+
+        verify(voteDrainBarrier, never()).drain(anyString());
+        verify(votingOutboxService, never()).recordTally(anyString(), any(VoteTallyDTO.class));
+        verify(domainEventBus, never()).publish(any());
+    }
+
+    @Test
+    void checkAndCloseExpiredVotings_shouldTallyRemainingVotingsWhenOneDrainFails() {
+        Voting first = expiredVoting("first");
+        Voting failing = expiredVoting("failing");
+        Voting third = expiredVoting("third");
+
+        when(votingService.findAllVotings()).thenReturn(Flux.just(first, failing, third));
+        when(voteDrainBarrier.drain(anyString())).thenReturn(Mono.empty());
+        when(voteDrainBarrier.drain("failing")).thenReturn(Mono.error(new RuntimeException("flush error")));
+
+        votingScheduler.checkAndCloseExpiredVotings();
+
+        verify(resultService, times(1)).tallyVotes(argThat((Collection<String> ids) ->
+                ids.containsAll(List.of("first", "third")) && ids.size() == 2));
+        verify(votingOutboxService, times(1)).recordTally("first", new VoteTallyDTO(3, 1));
+        verify(votingOutboxService, times(1)).recordTally("third", new VoteTallyDTO(3, 1));
+        verify(votingOutboxService, never()).recordTally(eq("failing"), any(VoteTallyDTO.class));
+        verify(domainEventBus, times(2)).publish(any(VotingClosedEvent.class));
+        verify(domainEventBus, never()).publish(argThat(event -> event instanceof VotingClosedEvent closed
+                && closed.votingId().equals("failing")));
+    }
+
+    @Test
+    void checkAndCloseExpiredVotings_shouldKeepVotingOpenForNextRunWhenCloseFails() {
+        Voting first = expiredVoting("first");
+        Voting failing = expiredVoting("failing");
+
+        when(votingService.findAllVotings()).thenReturn(Flux.just(first, failing));
+        when(votingService.closeVoting("failing")).thenReturn(Mono.error(new RuntimeException("write error")));
+        when(voteDrainBarrier.drain(anyString())).thenReturn(Mono.empty());
+
+        votingScheduler.checkAndCloseExpiredVotings();
+
+        verify(votingOutboxService, times(1)).register(failing);
+        verify(voteDrainBarrier, never()).drain("failing");
+        verify(votingOutboxService, never()).recordTally(eq("failing"), any(VoteTallyDTO.class));
+        verify(resultService, times(1)).tallyVotes(argThat((Collection<String> ids) -> ids.equals(List.of("first"))));
+        verify(domainEventBus, times(1)).publish(any(VotingClosedEvent.class));
+    }
+
+    @Test
+    void checkAndCloseExpiredVotings_shouldLeaveTallyToRelayWhenBatchedTallyFails() {
+        Voting voting = expiredVoting("votingId");
+
+        when(votingService.findAllVotings()).thenReturn(Flux.just(voting));
+        when(voteDrainBarrier.drain("votingId")).thenReturn(Mono.empty());
+        when(resultService.tallyVotes(anyCollection())).thenReturn(Mono.error(new RuntimeException("aggregation error")));
+
+        votingScheduler.checkAndCloseExpiredVotings();
+
+        verify(votingService, times(1)).closeVoting("votingId");
+        verify(votingOutboxService, never()).recordTally(anyString(), any(VoteTallyDTO.class));
+        verify(domainEventBus, never()).publish(any());
+    }
+
+    private Voting expiredVoting(String votingId) {
+        Voting voting = new Voting();
+        voting.setVotingId(votingId);
+        voting.setSubject("subject");
+        voting.setVotingSatus(true);
+        voting.setCloseVotingDate(Instant.now().minusSeconds(10));
+        return voting;
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.hahn.votacao.infrastructure.scheduling;
+
+import br.com.hahn.votacao.domain.dto.VoteTallyDTO;
+import br.com.hahn.votacao.domain.model.VotingTally;
+import br.com.hahn.votacao.domain.service.VoteService;
+import br.com.hahn.votacao.domain.service.VotingTallyService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class VotingTallyReconciliationJobTest {
+
+    private VotingTallyService votingTallyService;
+    private VoteService voteService;
+    private SimpleMeterRegistry meterRegistry;
+    private VotingTallyReconciliationJob reconciliationJob;
+
+    @BeforeEach
+    void setUp() {
+        votingTallyService = mock(VotingTallyService.class);
+        voteService = mock(VoteService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        reconciliationJob = new VotingTallyReconciliationJob(votingTallyService, voteService, meterRegistry,
+                Duration.ofMinutes(5), 10);
+    }
+
+    @Test
+    void reconcileBatch_shouldCorrectDriftedTallyAndCountIt() {
+        VotingTally drifted = new VotingTally("v1", 3, 1, 4, Instant.now(), null);
+        VotingTally accurate = new VotingTally("v2", 2, 2, 4, Instant.now(), null);
+        when(votingTallyService.findPendingReconciliation(any(Instant.class), eq(10)))
+                .thenReturn(Flux.just(drifted, accurate));
+        when(voteService.countVotesByOption("v1")).thenReturn(Mono.just(new VoteTallyDTO(4, 1)));
+        when(voteService.countVotesByOption("v2")).thenReturn(Mono.just(new VoteTallyDTO(2, 2)));
+        when(votingTallyService.reconcile(any(VotingTally.class), any(VoteTallyDTO.class))).thenReturn(Mono.just(true));
+
+        StepVerifier.create(reconciliationJob.reconcileBatch())
+                .verifyComplete();
+
+        verify(votingTallyService).reconcile(drifted, new VoteTallyDTO(4, 1));
+        verify(votingTallyService).reconcile(accurate, new VoteTallyDTO(2, 2));
+        assertEquals(1.0, meterRegistry.counter("voting.tally.reconciliation.drift").count());
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.hahn.votacao.infrastructure.service;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class VoteDrainBarrierTest {
+
+    private static final TopicPartition PARTITION_0 = new TopicPartition("vote-topic", 0);
+
+    private VoteBatchConsumer voteBatchConsumer;
+    private VoteTopicOffsetTracker offsetTracker;
+    private ReactiveStringRedisTemplate redisTemplate;
+    private ReactiveValueOperations<String, String> valueOperations;
+    private VoteDrainBarrier voteDrainBarrier;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        voteBatchConsumer = mock(VoteBatchConsumer.class);
+        offsetTracker = mock(VoteTopicOffsetTracker.class);
+        redisTemplate = mock(ReactiveStringRedisTemplate.class);
+        valueOperations = mock(ReactiveValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        voteDrainBarrier = new VoteDrainBarrier(voteBatchConsumer, offsetTracker, redisTemplate,
+                Duration.ofMillis(500), Duration.ofMillis(10));
+    }
+
+    @Test
+    void drain_shouldCompleteWhenConsumerGroupCaughtUpAndNoOtherNodes() {
+        when(voteBatchConsumer.forceFlushForVotingReactive("votingId")).thenReturn(Mono.empty());
+        when(offsetTracker.endOffsets()).thenReturn(Mono.just(Map.of(PARTITION_0, 10L)));
+        when(offsetTracker.committedOffsets()).thenReturn(Mono.just(Map.of(PARTITION_0, 10L)));
+        when(redisTemplate.convertAndSend(eq("vote-drain-requests"), anyString())).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(voteDrainBarrier.drain("votingId"))
+                .verifyComplete();
+
+        verify(voteBatchConsumer, times(1)).forceFlushForVotingReactive("votingId");
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    void drain_shouldWaitForAckOfEveryNode() {
+        when(voteBatchConsumer.forceFlushForVotingReactive("votingId")).thenReturn(Mono.empty());
+        when(offsetTracker.endOffsets()).thenReturn(Mono.just(Map.of(PARTITION_0, 5L)));
+        when(offsetTracker.committedOffsets()).thenReturn(Mono.just(Map.of(PARTITION_0, 5L)));
+        when(redisTemplate.convertAndSend(eq("vote-drain-requests"), anyString())).thenReturn(Mono.just(2L));
+        when(valueOperations.get(anyString()))
+                .thenReturn(Mono.just("1"))
+                .thenReturn(Mono.just("2"));
+        when(redisTemplate.delete(anyString())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(voteDrainBarrier.drain("votingId"))
+                .verifyComplete();
+
+        verify(valueOperations, times(2)).get(anyString());
+        verify(redisTemplate, times(1)).delete(anyString());
+    }
+
+    @Test
+    void drain_shouldGiveUpAfterTimeoutWithoutError() {
+        when(voteBatchConsumer.forceFlushForVotingReactive("votingId")).thenReturn(Mono.empty());
+        when(offsetTracker.endOffsets()).thenReturn(Mono.just(Map.of(PARTITION_0, 10L)));
+        when(offsetTracker.committedOffsets()).thenReturn(Mono.just(Map.of(PARTITION_0, 3L)));
+
+        StepVerifier.create(voteDrainBarrier.drain("votingId"))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void drain_shouldPropagateLocalFlushError() {
+        when(voteBatchConsumer.forceFlushForVotingReactive("votingId"))
+                .thenReturn(Mono.error(new RuntimeException("flush error")));
+        when(offsetTracker.endOffsets()).thenReturn(Mono.just(Map.of()));
+
+        StepVerifier.create(voteDrainBarrier.drain("votingId"))
+                .expectError(RuntimeException.class)
+                .verify();
+    }
+
+    @Test
+    void hasReached_shouldIgnoreEmptyPartitionsAndCompareCommittedOffsets() {
+        TopicPartition partition1 = new TopicPartition("vote-topic", 1);
+
+        assertTrue(VoteDrainBarrier.hasReached(Map.of(PARTITION_0, 7L), Map.of(PARTITION_0, 7L, partition1, 0L)));
+        assertFalse(VoteDrainBarrier.hasReached(Map.of(PARTITION_0, 7L), Map.of(PARTITION_0, 7L, partition1, 2L)));
+    }
+}
@@ -1,22 +1,48 @@
 package br.com.hahn.validador.api.controller;
 
 
+import br.com.hahn.validador.domain.dto.request.CpfBatchValidationRequestDTO;
 import br.com.hahn.validador.domain.dto.request.CpfValidationRequestDTO;
+import br.com.hahn.validador.domain.dto.response.CpfBatchValidationResponseDTO;
+import br.com.hahn.validador.domain.dto.response.CpfValidationOutcomeDTO;
 import br.com.hahn.validador.domain.dto.response.CpfValidationResponseDTO;
 import br.com.hahn.validador.domain.service.CpfValidationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+
 @RestController
 @RequestMapping("/cpf")
 public class CpfValidationController {
 
+    private static final byte NEWLINE = '\n';
+
     private final CpfValidationService cpfValidationService;
+    private final ObjectMapper objectMapper;
+    private final int streamFlushSize;
+    private final Duration streamFlushInterval;
 
-    public CpfValidationController(CpfValidationService cpfValidationService) {
+    public CpfValidationController(CpfValidationService cpfValidationService, ObjectMapper objectMapper,
+                                   @Value("${validador.stream.flush-size:256}") int streamFlushSize,
+                                   @Value("${validador.stream.flush-interval:5ms}") Duration streamFlushInterval) {
         this.cpfValidationService = cpfValidationService;
+        this.objectMapper = objectMapper;
+        this.streamFlushSize = streamFlushSize;
+        this.streamFlushInterval = streamFlushInterval;
     }
 
     @PostMapping("/validate")
@@ -24,4 +50,40 @@ public class CpfValidationController {
     public Mono<CpfValidationResponseDTO> validateCpf(@Valid @RequestBody CpfValidationRequestDTO request) {
         return cpfValidationService.validateCpf(request.cpf());
     }
+
+    @PostMapping("/validate-batch")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<CpfBatchValidationResponseDTO> validateCpfs(@Valid @RequestBody CpfBatchValidationRequestDTO request) {
+        return cpfValidationService.validateCpfs(request.cpfs());
+    }
+
+    /**
+     * Validação em fluxo: uma linha JSON ({"cpf":"..."}) por CPF na entrada e
+     * um CpfValidationOutcomeDTO por linha na saída, na mesma ordem. A leitura
+     * da entrada acompanha o consumo da saída (back-pressure ponta a ponta).
+     *
+     * O codec NDJSON padrão faz flush a cada linha, o que limita a vazão;
+     * os resultados são gravados em blocos de até validador.stream.flush-size
+     * linhas ou validador.stream.flush-interval, o que ocorrer antes.
+     */
+    @PostMapping(value = "/validate-stream",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<DataBuffer> validateCpfStream(@RequestBody Flux<CpfValidationRequestDTO> requests) {
+        return cpfValidationService.validateCpfStream(
+                        requests.map(request -> request.cpf() != null ? request.cpf() : ""))
+                .bufferTimeout(streamFlushSize, streamFlushInterval, true)
+                .map(this::toNdjson);
+    }
+
+    private DataBuffer toNdjson(List<CpfValidationOutcomeDTO> outcomes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(outcomes.size() * 64);
+        try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+            writer.writeAll(outcomes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        out.write(NEWLINE);
+        return DefaultDataBufferFactory.sharedInstance.wrap(out.toByteArray());
+    }
 }
@@ -0,0 +1,14 @@
+package br.com.hahn.validador.domain.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CpfBatchValidationRequestDTO(
+        @NotEmpty(message = "Lista de CPFs não pode ser vazia")
+        @Size(max = CpfBatchValidationRequestDTO.MAX_CPFS, message = "Máximo de " + CpfBatchValidationRequestDTO.MAX_CPFS + " CPFs por requisição")
+        List<String> cpfs
+) {
+    public static final int MAX_CPFS = 1000;
+}
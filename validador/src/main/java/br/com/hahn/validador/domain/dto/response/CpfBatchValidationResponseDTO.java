@@ -0,0 +1,9 @@
+package br.com.hahn.validador.domain.dto.response;
+
+import java.util.List;
+
+/**
+ * Resultados da validação em lote, na mesma ordem dos CPFs recebidos.
+ */
+public record CpfBatchValidationResponseDTO(List<CpfValidationOutcomeDTO> results) {
+}
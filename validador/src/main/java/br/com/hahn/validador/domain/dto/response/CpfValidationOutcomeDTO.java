@@ -0,0 +1,20 @@
+package br.com.hahn.validador.domain.dto.response;
+
+import br.com.hahn.validador.domain.enums.CPFStatus;
+
+/**
+ * Resultado da validação de um CPF dentro de um lote.
+ *
+ * CPF inválido não falha o lote: o resultado traz a mensagem em error
+ * e cpfStatus nulo.
+ */
+public record CpfValidationOutcomeDTO(String cpf, CPFStatus cpfStatus, String error) {
+
+    public static CpfValidationOutcomeDTO valid(String cpf, CPFStatus cpfStatus) {
+        return new CpfValidationOutcomeDTO(cpf, cpfStatus, null);
+    }
+
+    public static CpfValidationOutcomeDTO invalid(String cpf, String error) {
+        return new CpfValidationOutcomeDTO(cpf, null, error);
+    }
+}
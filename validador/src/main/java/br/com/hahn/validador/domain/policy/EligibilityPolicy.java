@@ -0,0 +1,29 @@
+package br.com.hahn.validador.domain.policy;
+
+import br.com.hahn.validador.domain.enums.CPFStatus;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Decide a elegibilidade de um CPF já validado quanto ao formato.
+ *
+ * Implementações: RandomEligibilityPolicy (padrão),
+ * SimulatedEligibilityPolicy (profile simulation) e
+ * RegistryEligibilityPolicy (profile registry).
+ */
+public interface EligibilityPolicy {
+
+    /**
+     * @param cpf CPF com formato e dígitos verificadores válidos
+     * @return status de elegibilidade, ou InvalidCpfException se o CPF não for reconhecido
+     */
+    Mono<CPFStatus> evaluate(String cpf);
+
+    /**
+     * Detalhes da política para o health check; deve ser barato e sem efeitos colaterais.
+     */
+    default Map<String, Object> describe() {
+        return Map.of();
+    }
+}
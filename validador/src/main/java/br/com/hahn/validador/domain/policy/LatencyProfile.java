@@ -0,0 +1,15 @@
+package br.com.hahn.validador.domain.policy;
+
+/**
+ * Distribuição de latência injetada pela SimulatedEligibilityPolicy.
+ */
+public enum LatencyProfile {
+    /** Sem atraso. */
+    NONE,
+    /** Sempre latency.fixed. */
+    FIXED,
+    /** Normal com latency.mean e latency.std-dev, truncada em zero. */
+    NORMAL,
+    /** NORMAL com picos de latency.spike em latency.spike-probability das chamadas (p99). */
+    LONG_TAIL
+}
@@ -0,0 +1,52 @@
+package br.com.hahn.validador.domain.policy;
+
+import br.com.hahn.validador.domain.enums.CPFStatus;
+import br.com.hahn.validador.domain.exception.InvalidCpfException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Política padrão: 30% dos CPFs rejeitados, demais aptos ou inaptos 50/50.
+ *
+ * Usa ThreadLocalRandom em vez de um Random compartilhado, que disputa o
+ * seed via CAS entre todas as threads do event loop.
+ */
+@Component
+@Profile("!simulation & !registry")
+public class RandomEligibilityPolicy implements EligibilityPolicy {
+
+    private static final Logger randomEligibilityPolicyLogger = LoggerFactory.getLogger(RandomEligibilityPolicy.class);
+    private static final double REJECTION_RATIO = 0.3;
+
+    private final Supplier<RandomGenerator> random;
+
+    public RandomEligibilityPolicy() {
+        this(ThreadLocalRandom::current);
+    }
+
+    public RandomEligibilityPolicy(Supplier<RandomGenerator> random) {
+        this.random = random;
+    }
+
+    @Override
+    public Mono<CPFStatus> evaluate(String cpf) {
+        return Mono.fromCallable(() -> {
+            RandomGenerator generator = random.get();
+
+//            Simulação de probabilidade de CPF inválido: 30%
+            if (generator.nextDouble() < REJECTION_RATIO) {
+                randomEligibilityPolicyLogger.info("Rejeitando aleatoriamente");
+                throw new InvalidCpfException("Invalid CPF");
+            }
+
+            return generator.nextBoolean() ? CPFStatus.ABLE_TO_VOTE : CPFStatus.UNABLE_TO_VOTE;
+        });
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.hahn.validador.domain.policy;
+
+import br.com.hahn.validador.domain.enums.CPFStatus;
+import br.com.hahn.validador.infraestracture.registry.EligibilityRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Política que responde a partir do registro real de eleitores (profile registry).
+ *
+ * CPF cuja base está no registro: ABLE_TO_VOTE; demais: UNABLE_TO_VOTE.
+ * A consulta é feita no arquivo mapeado (EligibilityRegistry), sem I/O
+ * bloqueante nem alocação no caminho da requisição.
+ *
+ * TROCA A QUENTE:
+ * A cada validador.registry.reload-interval o arquivo em validador.registry.path
+ * é conferido (data de modificação, tamanho e identificador do arquivo). Se
+ * mudou, o novo arquivo é mapeado e validado fora do event loop e substitui o
+ * atual com uma única troca de referência: requisições em andamento terminam
+ * no registro antigo, as seguintes já usam o novo. Arquivo novo inválido é
+ * ignorado e o registro atual continua em uso. Publique o arquivo com rename
+ * atômico (EligibilityRegistry.write).
+ */
+@Component
+@Profile("registry")
+public class RegistryEligibilityPolicy implements EligibilityPolicy {
+
+    private static final Logger registryEligibilityPolicyLogger = LoggerFactory.getLogger(RegistryEligibilityPolicy.class);
+
+    private static final Mono<CPFStatus> ABLE = Mono.just(CPFStatus.ABLE_TO_VOTE);
+    private static final Mono<CPFStatus> UNABLE = Mono.just(CPFStatus.UNABLE_TO_VOTE);
+
+    private final Path path;
+    private final AtomicReference<LoadedRegistry> current = new AtomicReference<>();
+    private final Disposable reloadTask;
+
+    public RegistryEligibilityPolicy(@Value("${validador.registry.path}") Path path,
+                                     @Value("${validador.registry.reload-interval:30s}") Duration reloadInterval) throws IOException {
+        this.path = path;
+        current.set(load());
+        this.reloadTask = Flux.interval(reloadInterval, reloadInterval, Schedulers.boundedElastic())
+                .subscribe(tick -> reloadIfChanged());
+    }
+
+    @Override
+    public Mono<CPFStatus> evaluate(String cpf) {
+        return current.get().registry().contains(EligibilityRegistry.baseOf(cpf)) ? ABLE : UNABLE;
+    }
+
+    /**
+     * Mapeia o arquivo novamente se ele mudou desde a última carga.
+     *
+     * @return true se o registro foi trocado
+     */
+    public boolean reloadIfChanged() {
+        try {
+            if (fileVersion().equals(current.get().version())) {
+                return false;
+            }
+            LoadedRegistry loaded = load();
+            current.set(loaded);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            registryEligibilityPolicyLogger.error("Falha ao recarregar registro {}. Registro atual mantido", path, e);
+            return false;
+        }
+    }
+
+    @Override
+    public Map<String, Object> describe() {
+        EligibilityRegistry registry = registry();
+        return Map.of("registryPath", path.toString(),
+                "registryFormat", registry.format().name(),
+                "registryEntries", registry.count());
+    }
+
+    public EligibilityRegistry registry() {
+        return current.get().registry();
+    }
+
+    @PreDestroy
+    public void close() {
+        reloadTask.dispose();
+    }
+
+    private LoadedRegistry load() throws IOException {
+        FileVersion version = fileVersion();
+        EligibilityRegistry registry = EligibilityRegistry.open(path);
+        registryEligibilityPolicyLogger.info("Registro de elegibilidade carregado: {} ({}, {} CPFs)",
+                path, registry.format(), registry.count());
+        return new LoadedRegistry(registry, version);
+    }
+
+    private FileVersion fileVersion() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new FileVersion(attributes.lastModifiedTime().toMillis(), attributes.size(), attributes.fileKey());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record FileVersion(long lastModified, long size, Object fileKey) {
+    }
+
+    private record LoadedRegistry(EligibilityRegistry registry, FileVersion version) {
+    }
+}
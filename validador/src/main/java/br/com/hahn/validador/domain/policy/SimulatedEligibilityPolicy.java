@@ -0,0 +1,116 @@
+package br.com.hahn.validador.domain.policy;
+
+import br.com.hahn.validador.domain.enums.CPFStatus;
+import br.com.hahn.validador.domain.exception.InvalidCpfException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Política reprodutível para testes de carga (profile simulation).
+ *
+ * RESULTADOS:
+ * - validador.simulation.invalid-ratio: fração de CPFs rejeitados (404)
+ * - validador.simulation.able-ratio: fração dos demais aptos a votar
+ * - validador.simulation.deterministic=true: o resultado é função do hash
+ *   do CPF com o seed, então o mesmo CPF sempre recebe a mesma resposta
+ *   (necessário para medir caches do cliente). Com false, os resultados são
+ *   sorteados por chamada.
+ *
+ * ALEATORIEDADE:
+ * Cada thread usa um SplittableRandom derivado (split) de um gerador raiz
+ * com validador.simulation.seed: sem estado compartilhado entre as threads
+ * do event loop e com sequência reprodutível por thread.
+ *
+ * LATÊNCIA (validador.simulation.latency.*, ver LatencyProfile):
+ * Aplicada com Mono.delay, sem bloquear a thread do event loop.
+ */
+@Component
+@Profile("simulation")
+public class SimulatedEligibilityPolicy implements EligibilityPolicy {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double UNIT = 0x1.0p-53;
+
+    private final long seed;
+    private final double invalidRatio;
+    private final double ableRatio;
+    private final boolean deterministic;
+    private final SimulatedLatency latency;
+    private final SplittableRandom root;
+    private final ThreadLocal<SplittableRandom> threadRandom;
+
+    public SimulatedEligibilityPolicy(@Value("${validador.simulation.seed:42}") long seed,
+                                      @Value("${validador.simulation.invalid-ratio:0.3}") double invalidRatio,
+                                      @Value("${validador.simulation.able-ratio:0.5}") double ableRatio,
+                                      @Value("${validador.simulation.deterministic:true}") boolean deterministic,
+                                      @Value("${validador.simulation.latency.profile:NONE}") LatencyProfile latencyProfile,
+                                      @Value("${validador.simulation.latency.fixed:20ms}") Duration fixed,
+                                      @Value("${validador.simulation.latency.mean:20ms}") Duration mean,
+                                      @Value("${validador.simulation.latency.std-dev:5ms}") Duration stdDev,
+                                      @Value("${validador.simulation.latency.spike-probability:0.01}") double spikeProbability,
+                                      @Value("${validador.simulation.latency.spike:500ms}") Duration spike) {
+        this.seed = seed;
+        this.invalidRatio = invalidRatio;
+        this.ableRatio = ableRatio;
+        this.deterministic = deterministic;
+        this.latency = new SimulatedLatency(latencyProfile, fixed, mean, stdDev, spikeProbability, spike);
+        this.root = new SplittableRandom(seed);
+        this.threadRandom = ThreadLocal.withInitial(this::splitRoot);
+    }
+
+    @Override
+    public Mono<CPFStatus> evaluate(String cpf) {
+        SplittableRandom random = threadRandom.get();
+        Mono<CPFStatus> outcome = deterministic
+                ? outcome(hashToUnit(cpf, 0), hashToUnit(cpf, 1))
+                : outcome(random.nextDouble(), random.nextDouble());
+
+        Duration delay = latency.sample(random);
+        return delay.isZero() ? outcome : Mono.delay(delay).then(outcome);
+    }
+
+    @Override
+    public Map<String, Object> describe() {
+        return Map.of("simulationSeed", seed,
+                "simulationDeterministic", deterministic,
+                "simulationLatency", latency.profile().name());
+    }
+
+    private Mono<CPFStatus> outcome(double rejectionDraw, double eligibilityDraw) {
+        if (rejectionDraw < invalidRatio) {
+            return Mono.error(new InvalidCpfException("Invalid CPF"));
+        }
+        return Mono.just(eligibilityDraw < ableRatio ? CPFStatus.ABLE_TO_VOTE : CPFStatus.UNABLE_TO_VOTE);
+    }
+
+    /**
+     * Valor uniforme em [0, 1) derivado do CPF, do seed e do índice do sorteio.
+     * Os dígitos são acumulados em long (sem alocação) e misturados com o
+     * finalizador do SplitMix64.
+     */
+    double hashToUnit(String cpf, int draw) {
+        long value = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            value = value * 10 + (cpf.charAt(i) - '0');
+        }
+        return (mix64(value ^ (seed + GOLDEN_GAMMA * (draw + 1))) >>> 11) * UNIT;
+    }
+
+    private SplittableRandom splitRoot() {
+        synchronized (root) {
+            return root.split();
+        }
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.hahn.validador.domain.policy;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * Parâmetros de latência simulada.
+ *
+ * @param profile distribuição usada
+ * @param fixed atraso do perfil FIXED
+ * @param mean média dos perfis NORMAL e LONG_TAIL
+ * @param stdDev desvio padrão dos perfis NORMAL e LONG_TAIL
+ * @param spikeProbability fração das chamadas com pico no perfil LONG_TAIL
+ * @param spike atraso dos picos no perfil LONG_TAIL
+ */
+public record SimulatedLatency(LatencyProfile profile, Duration fixed, Duration mean, Duration stdDev,
+                               double spikeProbability, Duration spike) {
+
+    /**
+     * Sorteia o atraso de uma chamada.
+     *
+     * @param random gerador da thread corrente
+     * @return atraso, nunca negativo
+     */
+    public Duration sample(RandomGenerator random) {
+        return switch (profile) {
+            case NONE -> Duration.ZERO;
+            case FIXED -> fixed;
+            case NORMAL -> normal(random);
+            case LONG_TAIL -> random.nextDouble() < spikeProbability ? spike : normal(random);
+        };
+    }
+
+    private Duration normal(RandomGenerator random) {
+        long nanos = Math.round(mean.toNanos() + random.nextGaussian() * stdDev.toNanos());
+        return Duration.ofNanos(Math.max(0L, nanos));
+    }
+}
@@ -1,63 +1,137 @@
 package br.com.hahn.validador.domain.service;
 
 
+import br.com.hahn.validador.domain.dto.response.CpfBatchValidationResponseDTO;
+import br.com.hahn.validador.domain.dto.response.CpfValidationOutcomeDTO;
 import br.com.hahn.validador.domain.dto.response.CpfValidationResponseDTO;
-import br.com.hahn.validador.domain.enums.CPFStatus;
 import br.com.hahn.validador.domain.exception.InvalidCpfException;
+import br.com.hahn.validador.domain.policy.EligibilityPolicy;
+import br.com.hahn.validador.domain.validation.CpfValidator;
+import br.com.hahn.validador.infraestracture.metrics.CpfValidationMetrics;
+import br.com.hahn.validador.infraestracture.metrics.CpfValidationMetrics.Mode;
+import br.com.hahn.validador.infraestracture.metrics.CpfValidationMetrics.Outcome;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Random;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class CpfValidationService {
 
     private static final Logger cpfValidationServiceLogger = LoggerFactory.getLogger(CpfValidationService.class);
-    private final Random random = new Random();
+    private static final String INVALID_FORMAT_MESSAGE = "Invalid CPF format";
+
+    private final EligibilityPolicy eligibilityPolicy;
+    private final CpfValidationMetrics cpfValidationMetrics;
+    private final int streamConcurrency;
+
+    public CpfValidationService(EligibilityPolicy eligibilityPolicy, CpfValidationMetrics cpfValidationMetrics,
+                                @Value("${validador.stream.concurrency:256}") int streamConcurrency) {
+        this.eligibilityPolicy = eligibilityPolicy;
+        this.cpfValidationMetrics = cpfValidationMetrics;
+        this.streamConcurrency = streamConcurrency;
+    }
 
     public Mono<CpfValidationResponseDTO> validateCpf(String cpf){
         if (cpfValidationServiceLogger.isInfoEnabled()) {
             cpfValidationServiceLogger.info("Validando CPF: {}", maskCpf(cpf));
         }
 
-        return Mono.fromCallable(() -> {
-            if(!isValidCpfFormat(cpf)){
+        return Mono.defer(() -> {
+            cpfValidationMetrics.recordRequestSize(Mode.SINGLE, 1);
+            return outcomeOf(cpf, Mode.SINGLE);
+        }).flatMap(outcome -> {
+            if (outcome.error() != null) {
                 if (cpfValidationServiceLogger.isInfoEnabled()) {
-                    cpfValidationServiceLogger.info("Cpf com formato inválido: {}", maskCpf(cpf));
+                    cpfValidationServiceLogger.info("Cpf inválido: {} - {}", maskCpf(cpf), outcome.error());
                 }
-                throw new InvalidCpfException("Invalid CPF format");
+                return Mono.error(new InvalidCpfException(outcome.error()));
             }
 
-//            Simulação de probabilidade de CPF inválido: 30%
-            if(random.nextDouble() < 0.3){
-                if (cpfValidationServiceLogger.isInfoEnabled()) {
-                    cpfValidationServiceLogger.info("Rejeitando aleatoriamente: {}", maskCpf(cpf));
-                }
-                throw new InvalidCpfException("Invalid CPF");
+            if (cpfValidationServiceLogger.isInfoEnabled()) {
+                cpfValidationServiceLogger.info("Cpf successfuly validate: {} - Status: {}", maskCpf(cpf), outcome.cpfStatus());
             }
+            return Mono.just(new CpfValidationResponseDTO(outcome.cpfStatus()));
+        });
+    }
 
-            CPFStatus status = random.nextBoolean() ? CPFStatus.ABLE_TO_VOTE : CPFStatus.UNABLE_TO_VOTE;
+    /**
+     * Valida um lote de CPFs com resultado individual por CPF.
+     *
+     * CPFs inválidos viram resultado com erro em vez de falhar o lote;
+     * a ordem da resposta é a mesma da requisição. Até streamConcurrency
+     * CPFs são avaliados em paralelo: com latência por CPF (profile
+     * simulation) o lote leva o tempo do CPF mais lento, não a soma.
+     */
+    public Mono<CpfBatchValidationResponseDTO> validateCpfs(List<String> cpfs) {
+        cpfValidationServiceLogger.info("Validando lote de {} CPFs", cpfs.size());
+        cpfValidationMetrics.recordRequestSize(Mode.BATCH, cpfs.size());
 
-            if (cpfValidationServiceLogger.isInfoEnabled()) {
-                cpfValidationServiceLogger.info("Cpf successfuly validate: {} - Status: {}", maskCpf(cpf), status);
+        return Flux.fromIterable(cpfs)
+                .flatMapSequential(cpf -> outcomeOf(cpf, Mode.BATCH), streamConcurrency)
+                .collectList()
+                .map(CpfBatchValidationResponseDTO::new);
+    }
+
+    /**
+     * Valida um fluxo contínuo de CPFs (NDJSON), com um resultado por CPF.
+     *
+     * A ordem da saída é a mesma da entrada. No máximo streamConcurrency
+     * CPFs ficam em avaliação ao mesmo tempo, e novos CPFs só são lidos da
+     * entrada conforme o consumidor da saída pede resultados: um cliente
+     * lento segura a leitura do corpo da requisição em vez de acumular
+     * resultados em memória. Sem log por CPF; apenas início e fim do fluxo.
+     */
+    public Flux<CpfValidationOutcomeDTO> validateCpfStream(Flux<String> cpfs) {
+        return Flux.defer(() -> {
+            AtomicLong processed = new AtomicLong();
+            cpfValidationServiceLogger.info("Iniciando validação em fluxo de CPFs");
+
+            return cpfs.flatMapSequential(cpf -> outcomeOf(cpf, Mode.STREAM), streamConcurrency)
+                    .doOnNext(outcome -> processed.incrementAndGet())
+                    .doOnComplete(() -> cpfValidationServiceLogger.info("Validação em fluxo concluída: {} CPFs", processed.get()))
+                    .doOnCancel(() -> cpfValidationServiceLogger.info("Validação em fluxo cancelada após {} CPFs", processed.get()))
+                    .doFinally(signal -> cpfValidationMetrics.recordRequestSize(Mode.STREAM, processed.get()));
+        });
+    }
+
+    /**
+     * Resultado individual de um CPF, sem log: CPF inválido vira resultado com erro.
+     *
+     * Único ponto de avaliação dos três modos, e por isso o único ponto
+     * instrumentado (ver CpfValidationMetrics).
+     */
+    private Mono<CpfValidationOutcomeDTO> outcomeOf(String cpf, Mode mode) {
+        return Mono.defer(() -> {
+            CpfValidationMetrics.Evaluation evaluation = cpfValidationMetrics.start(mode);
+
+            if (!isValidCpfFormat(cpf)) {
+                evaluation.record(Outcome.INVALID_FORMAT);
+                evaluation.release();
+                return Mono.just(CpfValidationOutcomeDTO.invalid(cpf, INVALID_FORMAT_MESSAGE));
             }
 
-            return new CpfValidationResponseDTO(status);
+            return eligibilityPolicy.evaluate(cpf)
+                    .map(status -> {
+                        evaluation.record(CpfValidationMetrics.outcomeOf(status));
+                        return CpfValidationOutcomeDTO.valid(cpf, status);
+                    })
+                    .onErrorResume(InvalidCpfException.class, ex -> {
+                        evaluation.record(Outcome.REJECTED);
+                        return Mono.just(CpfValidationOutcomeDTO.invalid(cpf, ex.getMessage()));
+                    })
+                    .doOnError(error -> evaluation.record(Outcome.ERROR))
+                    .doFinally(signal -> evaluation.release());
         });
     }
 
     public boolean isValidCpfFormat(String cpf) {
-        if (cpf == null || cpf.length() != 11) {
-            return false;
-        }
-        // Verifica se todos os dígitos são iguais (CPF inválido)
-        if (cpf.chars().distinct().count() == 1) {
-            return false;
-        }
-
-        return cpf.matches("\\d{11}");
+        return CpfValidator.isValid(cpf);
     }
 
     public String maskCpf(String cpf) {
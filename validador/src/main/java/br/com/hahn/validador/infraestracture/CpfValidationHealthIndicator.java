@@ -2,60 +2,60 @@ package br.com.hahn.validador.infraestracture;
 
 
 
-import br.com.hahn.validador.domain.service.CpfValidationService;
+import br.com.hahn.validador.domain.policy.EligibilityPolicy;
+import br.com.hahn.validador.infraestracture.metrics.CpfValidationMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
-
+/**
+ * Health check do validador.
+ *
+ * Não executa validação: chamar validateCpf a cada probe consumia o gerador
+ * aleatório, gerava logs e distorcia as métricas de resultado. Reporta a
+ * política ativa (com os detalhes de EligibilityPolicy.describe) e os CPFs
+ * em avaliação, sem I/O, e pode ser consultado a cada segundo.
+ */
 @Component("cpfValidation")
 public class CpfValidationHealthIndicator implements ReactiveHealthIndicator {
 
     private static final Logger logger = LoggerFactory.getLogger(CpfValidationHealthIndicator.class);
-    private final CpfValidationService cpfValidationService;
+    private static final String SERVICE_NAME = "ms-valida-cpf";
+
+    private final EligibilityPolicy eligibilityPolicy;
+    private final CpfValidationMetrics cpfValidationMetrics;
 
-    public CpfValidationHealthIndicator(CpfValidationService cpfValidationService) {
-        this.cpfValidationService = cpfValidationService;
+    public CpfValidationHealthIndicator(EligibilityPolicy eligibilityPolicy, CpfValidationMetrics cpfValidationMetrics) {
+        this.eligibilityPolicy = eligibilityPolicy;
+        this.cpfValidationMetrics = cpfValidationMetrics;
     }
 
     @Override
     public Mono<Health> health() {
-        return checkCpfValidationService()
-                .map(isHealthy -> isHealthy
-                        ? Health.up()
-                        .withDetail("status", "CPF validation service is operational")
-                        .withDetail("service", "ms-valida-cpf")
-                        .withDetail("timestamp", System.currentTimeMillis())
-                        .build()
-                        : Health.down()
-                        .withDetail("status", "CPF validation service is not responding correctly")
-                        .withDetail("service", "ms-valida-cpf")
-                        .withDetail("timestamp", System.currentTimeMillis())
-                        .build())
+        return Mono.fromSupplier(this::check)
                 .onErrorResume(ex -> {
                     logger.error("Health check failed", ex);
                     return Mono.just(Health.down()
-                            .withDetail("error", ex.getMessage())
+                            .withDetail("error", String.valueOf(ex.getMessage()))
                             .withDetail("status", "CPF validation service health check failed")
-                            .withDetail("service", "ms-valida-cpf")
+                            .withDetail("service", SERVICE_NAME)
                             .withDetail("timestamp", System.currentTimeMillis())
                             .build());
                 });
     }
 
-    private Mono<Boolean> checkCpfValidationService() {
-        // Testa o serviço com um CPF de teste
-        String testCpf = "12345678901"; // CPF de teste
-
-        return cpfValidationService.validateCpf(testCpf)
-                .map(response -> true)
-                .onErrorReturn(false)
-                .timeout(Duration.ofSeconds(5))
-                .doOnNext(result -> logger.debug("Health check result: {}", result))
-                .onErrorReturn(false);
+    private Health check() {
+        return Health.up()
+                .withDetail("status", "CPF validation service is operational")
+                .withDetail("service", SERVICE_NAME)
+                .withDetail("policy", ClassUtils.getUserClass(eligibilityPolicy).getSimpleName())
+                .withDetails(eligibilityPolicy.describe())
+                .withDetail("inflight", cpfValidationMetrics.inflight())
+                .withDetail("timestamp", System.currentTimeMillis())
+                .build();
     }
 }
@@ -0,0 +1,137 @@
+package br.com.hahn.validador.infraestracture.metrics;
+
+import br.com.hahn.validador.domain.enums.CPFStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Métricas do serviço de validação de CPF.
+ *
+ * Separa o tempo gasto no validador do tempo de rede medido pelo cliente
+ * (cpf.validation.latency no ms-votacao). Medidores são registrados no
+ * construtor; o caminho de cada CPF só incrementa contadores já resolvidos.
+ *
+ * - cpf.validation.outcomes (mode, outcome): resultados por CPF
+ * - cpf.validation.duration (mode): tempo de avaliação por CPF, com buckets
+ *   de SLO (validador.metrics.slo) e percentis 50/95/99
+ * - cpf.validation.inflight: CPFs em avaliação
+ * - cpf.validation.request.size (mode): CPFs por requisição
+ */
+@Component
+public class CpfValidationMetrics {
+
+    public enum Mode { SINGLE, BATCH, STREAM }
+
+    public enum Outcome { ABLE_TO_VOTE, UNABLE_TO_VOTE, INVALID_FORMAT, REJECTED, ERROR }
+
+    private static final String METRIC_OUTCOMES = "cpf.validation.outcomes";
+    private static final String METRIC_DURATION = "cpf.validation.duration";
+    private static final String METRIC_INFLIGHT = "cpf.validation.inflight";
+    private static final String METRIC_REQUEST_SIZE = "cpf.validation.request.size";
+    private static final String TAG_MODE = "mode";
+    private static final String TAG_OUTCOME = "outcome";
+
+    private final Map<Mode, Map<Outcome, Counter>> outcomeCounters = new EnumMap<>(Mode.class);
+    private final Map<Mode, Timer> durationTimers = new EnumMap<>(Mode.class);
+    private final Map<Mode, DistributionSummary> requestSizes = new EnumMap<>(Mode.class);
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    public CpfValidationMetrics(MeterRegistry meterRegistry,
+                                @Value("${validador.metrics.slo:1ms,5ms,10ms,25ms,50ms,100ms,250ms,500ms,1s}") Duration[] slo) {
+        for (Mode mode : Mode.values()) {
+            String modeTag = tagValue(mode);
+
+            Map<Outcome, Counter> counters = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                counters.put(outcome, Counter.builder(METRIC_OUTCOMES)
+                        .tag(TAG_MODE, modeTag)
+                        .tag(TAG_OUTCOME, tagValue(outcome))
+                        .description("CPFs validados por resultado")
+                        .register(meterRegistry));
+            }
+            outcomeCounters.put(mode, counters);
+
+            durationTimers.put(mode, Timer.builder(METRIC_DURATION)
+                    .tag(TAG_MODE, modeTag)
+                    .description("Tempo de avaliação de um CPF no validador")
+                    .serviceLevelObjectives(slo)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+
+            requestSizes.put(mode, DistributionSummary.builder(METRIC_REQUEST_SIZE)
+                    .tag(TAG_MODE, modeTag)
+                    .description("CPFs por requisição")
+                    .register(meterRegistry));
+        }
+
+        Gauge.builder(METRIC_INFLIGHT, inflight, AtomicInteger::get)
+                .description("CPFs em avaliação")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Inicia a medição da avaliação de um CPF.
+     *
+     * @return medição a encerrar com record e release
+     */
+    public Evaluation start(Mode mode) {
+        inflight.incrementAndGet();
+        return new Evaluation(mode, System.nanoTime());
+    }
+
+    public void recordRequestSize(Mode mode, long cpfs) {
+        requestSizes.get(mode).record(cpfs);
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    public static Outcome outcomeOf(CPFStatus status) {
+        return status == CPFStatus.ABLE_TO_VOTE ? Outcome.ABLE_TO_VOTE : Outcome.UNABLE_TO_VOTE;
+    }
+
+    /**
+     * Medição de uma avaliação.
+     *
+     * record registra tempo e resultado no sinal do resultado, antes do
+     * processamento a jusante (em concatMap/flatMapSequential o próximo CPF
+     * pode ser assinado dentro do onComplete do anterior). release libera o
+     * gauge uma única vez, inclusive em cancelamento sem resultado.
+     */
+    public final class Evaluation {
+
+        private final Mode mode;
+        private final long startNanos;
+
+        private Evaluation(Mode mode, long startNanos) {
+            this.mode = mode;
+            this.startNanos = startNanos;
+        }
+
+        public void record(Outcome outcome) {
+            durationTimers.get(mode).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            outcomeCounters.get(mode).get(outcome).increment();
+        }
+
+        public void release() {
+            inflight.decrementAndGet();
+        }
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
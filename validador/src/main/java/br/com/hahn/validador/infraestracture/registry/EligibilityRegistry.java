@@ -0,0 +1,216 @@
+package br.com.hahn.validador.infraestracture.registry;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Registro de CPFs aptos lido de arquivo mapeado em memória.
+ *
+ * O arquivo guarda a base do CPF (9 primeiros dígitos; os verificadores são
+ * derivados dela) e é mapeado somente leitura: os dados ficam fora do heap,
+ * no page cache do sistema operacional, e a abertura não depende do tamanho
+ * do arquivo (as páginas são carregadas sob demanda).
+ *
+ * FORMATO (big-endian):
+ * - cabeçalho: magic "CPFR" (int), formato (int), quantidade de CPFs (long)
+ * - SORTED: bases ordenadas sem repetição, 4 bytes cada; busca binária
+ *   (~28 acessos para 150M CPFs, 600MB)
+ * - BITSET: bit (base) ligado se apto; consulta O(1) com um acesso
+ *   (até 10^9 bits = 125MB, truncado na maior base presente)
+ *
+ * Consultas usam leituras absolutas no buffer: sem alocação e seguras entre
+ * threads. Um arquivo novo deve ser publicado com rename atômico (ver write).
+ */
+public final class EligibilityRegistry {
+
+    public enum Format {
+        SORTED(1),
+        BITSET(2);
+
+        private final int code;
+
+        Format(int code) {
+            this.code = code;
+        }
+
+        static Format fromCode(int code) {
+            for (Format format : values()) {
+                if (format.code == code) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Formato de registro desconhecido: " + code);
+        }
+    }
+
+    static final int MAGIC = 0x43504652;
+    static final int HEADER_BYTES = 16;
+    static final int MAX_BASE = 999_999_999;
+
+    private final Path path;
+    private final Format format;
+    private final long count;
+    private final MappedByteBuffer buffer;
+    private final int entries;
+
+    private EligibilityRegistry(Path path, Format format, long count, MappedByteBuffer buffer) {
+        this.path = path;
+        this.format = format;
+        this.count = count;
+        this.buffer = buffer;
+        this.entries = (buffer.capacity() - HEADER_BYTES) / (format == Format.SORTED ? Integer.BYTES : Long.BYTES);
+    }
+
+    /**
+     * Mapeia arquivo de registro validando cabeçalho e tamanho.
+     *
+     * @param path arquivo de registro
+     * @return registro pronto para consulta
+     * @throws IOException se o arquivo não puder ser lido ou estiver corrompido
+     */
+    public static EligibilityRegistry open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Tamanho de registro inválido: " + size + " bytes em " + path);
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("Arquivo não é um registro de elegibilidade: " + path);
+            }
+
+            Format format = Format.fromCode(buffer.getInt(4));
+            long count = buffer.getLong(8);
+            long payload = size - HEADER_BYTES;
+            if (format == Format.SORTED ? payload != count * Integer.BYTES : payload % Long.BYTES != 0) {
+                throw new IOException("Registro truncado ou corrompido: " + path);
+            }
+
+            return new EligibilityRegistry(path, format, count, buffer);
+        }
+    }
+
+    /**
+     * @param base 9 primeiros dígitos do CPF
+     * @return true se a base está no registro
+     */
+    public boolean contains(int base) {
+        if (base < 0 || base > MAX_BASE) {
+            return false;
+        }
+        return format == Format.SORTED ? binarySearch(base) : bitIsSet(base);
+    }
+
+    /**
+     * Extrai a base (9 primeiros dígitos) de um CPF já validado, sem alocação.
+     *
+     * @param cpf CPF com 11 dígitos
+     * @return base numérica do CPF
+     */
+    public static int baseOf(String cpf) {
+        int base = 0;
+        for (int i = 0; i < 9; i++) {
+            base = base * 10 + (cpf.charAt(i) - '0');
+        }
+        return base;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public Format format() {
+        return format;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    private boolean binarySearch(int base) {
+        int low = 0;
+        int high = entries - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int value = buffer.getInt(HEADER_BYTES + mid * Integer.BYTES);
+            if (value < base) {
+                low = mid + 1;
+            } else if (value > base) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean bitIsSet(int base) {
+        int word = base >>> 6;
+        if (word >= entries) {
+            return false;
+        }
+        return (buffer.getLong(HEADER_BYTES + word * Long.BYTES) & (1L << base)) != 0;
+    }
+
+    /**
+     * Gera arquivo de registro e o publica com rename atômico, para que um
+     * validador em execução nunca mapeie um arquivo incompleto.
+     *
+     * @param path destino do registro
+     * @param sortedBases bases em ordem crescente, sem repetição
+     * @param format formato do arquivo
+     * @throws IOException se a escrita falhar
+     * @throws IllegalArgumentException se as bases não estiverem ordenadas ou fora do intervalo
+     */
+    public static void write(Path path, int[] sortedBases, Format format) throws IOException {
+        for (int i = 0; i < sortedBases.length; i++) {
+            if (sortedBases[i] < 0 || sortedBases[i] > MAX_BASE || (i > 0 && sortedBases[i] <= sortedBases[i - 1])) {
+                throw new IllegalArgumentException("Bases devem estar em ordem crescente, sem repetição, entre 0 e " + MAX_BASE);
+            }
+        }
+
+        Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        try (OutputStream file = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(format.code);
+            out.writeLong(sortedBases.length);
+            if (format == Format.SORTED) {
+                for (int base : sortedBases) {
+                    out.writeInt(base);
+                }
+            } else {
+                writeBitset(out, sortedBases);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void writeBitset(DataOutputStream out, int[] sortedBases) throws IOException {
+        if (sortedBases.length == 0) {
+            return;
+        }
+        int words = (sortedBases[sortedBases.length - 1] >>> 6) + 1;
+        int next = 0;
+        for (int word = 0; word < words; word++) {
+            long bits = 0;
+            while (next < sortedBases.length && (sortedBases[next] >>> 6) == word) {
+                bits |= 1L << sortedBases[next++];
+            }
+            out.writeLong(bits);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.hahn.validador.benchmark;
+
+import br.com.hahn.validador.domain.validation.CpfValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da validação de formato de CPF.
+ * <p>
+ * Compara a validação anterior (chars().distinct() + regex compilada a cada
+ * chamada, sem dígitos verificadores) com o CpfValidator. Com -prof gc, a
+ * métrica gc.alloc.rate.norm do CpfValidator deve ficar em ~0 B/op; a
+ * anterior aloca stream, HashSet e Pattern por chamada.
+ * <p>
+ * Execução: mvn -Pbenchmark test -Dbenchmark.args="CpfValidatorBenchmark -prof gc"
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CpfValidatorBenchmark {
+
+    @Param({"52998224725", "52998224724", "11111111111"})
+    private String cpf;
+
+    @Benchmark
+    public boolean singlePass() {
+        return CpfValidator.isValid(cpf);
+    }
+
+    @Benchmark
+    public boolean streamAndRegex() {
+        if (cpf == null || cpf.length() != 11) {
+            return false;
+        }
+        if (cpf.chars().distinct().count() == 1) {
+            return false;
+        }
+        return cpf.matches("\\d{11}");
+    }
+}
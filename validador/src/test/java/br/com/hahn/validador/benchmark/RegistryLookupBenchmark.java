@@ -0,0 +1,87 @@
+package br.com.hahn.validador.benchmark;
+
+import br.com.hahn.validador.infraestracture.registry.EligibilityRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de consulta ao registro de elegibilidade mapeado em memória.
+ * <p>
+ * Compara busca binária (SORTED) e bitset (BITSET) com registros de tamanhos
+ * diferentes; as bases consultadas são aleatórias, metade presente no registro.
+ * Com -prof gc, gc.alloc.rate.norm deve ficar em ~0 B/op.
+ * <p>
+ * Execução: mvn -Pbenchmark test -Dbenchmark.args="RegistryLookupBenchmark -prof gc"
+ *
+ * @author HahnGuil
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegistryLookupBenchmark {
+
+    private static final int PROBES = 1 << 16;
+
+    @Param({"1000000", "10000000"})
+    private int registrySize;
+
+    @Param({"SORTED", "BITSET"})
+    private EligibilityRegistry.Format format;
+
+    private Path file;
+    private EligibilityRegistry registry;
+    private int[] probes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        int stride = 999_999_999 / registrySize;
+        int[] bases = new int[registrySize];
+        for (int i = 0; i < registrySize; i++) {
+            bases[i] = i * stride;
+        }
+
+        file = Files.createTempFile("registry-benchmark", ".bin");
+        EligibilityRegistry.write(file, bases, format);
+        registry = EligibilityRegistry.open(file);
+
+        probes = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            int base = bases[random.nextInt(registrySize)];
+            probes[i] = random.nextBoolean() ? base : base + 1;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public boolean lookup() {
+        int base = probes[next++ & (PROBES - 1)];
+        return registry.contains(base);
+    }
+}
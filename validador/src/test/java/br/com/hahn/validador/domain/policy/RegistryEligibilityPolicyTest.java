@@ -0,0 +1,86 @@
+package br.com.hahn.validador.domain.policy;
+
+import br.com.hahn.validador.domain.enums.CPFStatus;
+import br.com.hahn.validador.infraestracture.registry.EligibilityRegistry;
+import br.com.hahn.validador.infraestracture.registry.EligibilityRegistry.Format;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RegistryEligibilityPolicyTest {
+
+    @TempDir
+    Path dir;
+
+    private RegistryEligibilityPolicy policy;
+
+    @AfterEach
+    void tearDown() {
+        if (policy != null) {
+            policy.close();
+        }
+    }
+
+    @Test
+    void evaluate_shouldAnswerFromRegistry() throws IOException {
+        Path file = dir.resolve("registry.bin");
+        EligibilityRegistry.write(file, new int[]{529_982_247}, Format.SORTED);
+        policy = new RegistryEligibilityPolicy(file, Duration.ofHours(1));
+
+        StepVerifier.create(policy.evaluate("52998224725"))
+                .expectNext(CPFStatus.ABLE_TO_VOTE)
+                .verifyComplete();
+        StepVerifier.create(policy.evaluate("11144477735"))
+                .expectNext(CPFStatus.UNABLE_TO_VOTE)
+                .verifyComplete();
+    }
+
+    @Test
+    void reloadIfChanged_shouldSwapToNewRegistryFile() throws IOException {
+        Path file = dir.resolve("registry.bin");
+        EligibilityRegistry.write(file, new int[]{529_982_247}, Format.SORTED);
+        policy = new RegistryEligibilityPolicy(file, Duration.ofHours(1));
+
+        assertThat(policy.reloadIfChanged()).isFalse();
+
+        EligibilityRegistry.write(file, new int[]{111_444_777, 529_982_247}, Format.BITSET);
+
+        assertThat(policy.reloadIfChanged()).isTrue();
+        assertThat(policy.registry().format()).isEqualTo(Format.BITSET);
+        StepVerifier.create(policy.evaluate("11144477735"))
+                .expectNext(CPFStatus.ABLE_TO_VOTE)
+                .verifyComplete();
+    }
+
+    @Test
+    void reloadIfChanged_shouldKeepCurrentRegistry_whenNewFileIsCorrupted() throws IOException {
+        Path file = dir.resolve("registry.bin");
+        EligibilityRegistry.write(file, new int[]{529_982_247}, Format.SORTED);
+        policy = new RegistryEligibilityPolicy(file, Duration.ofHours(1));
+
+        Path corrupted = Files.write(dir.resolve("corrupted.bin"),
+                new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+        Files.move(corrupted, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        assertThat(policy.reloadIfChanged()).isFalse();
+        StepVerifier.create(policy.evaluate("52998224725"))
+                .expectNext(CPFStatus.ABLE_TO_VOTE)
+                .verifyComplete();
+    }
+
+    @Test
+    void constructor_shouldFail_whenRegistryFileIsMissing() {
+        assertThatThrownBy(() -> new RegistryEligibilityPolicy(dir.resolve("missing.bin"), Duration.ofHours(1)))
+                .isInstanceOf(RuntimeException.class);
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.hahn.validador.domain.policy;
+
+import br.com.hahn.validador.domain.enums.CPFStatus;
+import br.com.hahn.validador.domain.exception.InvalidCpfException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SimulatedEligibilityPolicyTest {
+
+    private static final int SAMPLES = 20_000;
+
+    @Test
+    void evaluate_shouldAlwaysAnswerTheSameForTheSameCpf_whenDeterministic() {
+        SimulatedEligibilityPolicy policy = policy(true, LatencyProfile.NONE);
+        SimulatedEligibilityPolicy sameSeed = policy(true, LatencyProfile.NONE);
+
+        for (long base = 100_000_000L; base < 100_000_200L; base++) {
+            String cpf = Long.toString(base) + "00";
+            assertThat(outcome(policy, cpf)).isEqualTo(outcome(policy, cpf)).isEqualTo(outcome(sameSeed, cpf));
+        }
+    }
+
+    @Test
+    void evaluate_shouldFollowConfiguredRatios_whenDeterministic() {
+        SimulatedEligibilityPolicy policy = policy(true, LatencyProfile.NONE);
+        int invalid = 0;
+        int able = 0;
+
+        for (long i = 0; i < SAMPLES; i++) {
+            String outcome = outcome(policy, Long.toString(10_000_000_000L + i * 7919));
+            if (outcome.equals("INVALID")) {
+                invalid++;
+            } else if (outcome.equals(CPFStatus.ABLE_TO_VOTE.name())) {
+                able++;
+            }
+        }
+
+        assertThat(invalid / (double) SAMPLES).isCloseTo(0.2, within(0.02));
+        assertThat(able / (double) (SAMPLES - invalid)).isCloseTo(0.75, within(0.02));
+    }
+
+    @Test
+    void evaluate_shouldFollowConfiguredRatios_whenRandom() {
+        SimulatedEligibilityPolicy policy = policy(false, LatencyProfile.NONE);
+        int invalid = 0;
+
+        for (int i = 0; i < SAMPLES; i++) {
+            if (outcome(policy, "52998224725").equals("INVALID")) {
+                invalid++;
+            }
+        }
+
+        assertThat(invalid / (double) SAMPLES).isCloseTo(0.2, within(0.02));
+    }
+
+    @Test
+    void evaluate_shouldDelayWithoutBlocking_whenLatencyIsFixed() {
+        SimulatedEligibilityPolicy policy = policy(true, LatencyProfile.FIXED);
+        String cpf = firstAccepted(policy);
+
+        StepVerifier.withVirtualTime(() -> policy.evaluate(cpf))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(19))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void sample_shouldProduceSpikesAtConfiguredRate_whenLongTail() {
+        SimulatedLatency latency = new SimulatedLatency(LatencyProfile.LONG_TAIL, Duration.ZERO,
+                Duration.ofMillis(20), Duration.ofMillis(5), 0.01, Duration.ofMillis(500));
+        SplittableRandom random = new SplittableRandom(7);
+        int spikes = 0;
+
+        for (int i = 0; i < SAMPLES; i++) {
+            Duration sample = latency.sample(random);
+            assertThat(sample.isNegative()).isFalse();
+            if (sample.equals(Duration.ofMillis(500))) {
+                spikes++;
+            }
+        }
+
+        assertThat(spikes / (double) SAMPLES).isCloseTo(0.01, within(0.003));
+    }
+
+    @Test
+    void sample_shouldNeverBeNegative_whenNormalHasLargeDeviation() {
+        SimulatedLatency latency = new SimulatedLatency(LatencyProfile.NORMAL, Duration.ZERO,
+                Duration.ofMillis(1), Duration.ofMillis(10), 0, Duration.ZERO);
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(latency.sample(random).isNegative()).isFalse();
+        }
+    }
+
+    private static SimulatedEligibilityPolicy policy(boolean deterministic, LatencyProfile latencyProfile) {
+        return new SimulatedEligibilityPolicy(42, 0.2, 0.75, deterministic, latencyProfile, Duration.ofMillis(20),
+                Duration.ofMillis(20), Duration.ofMillis(5), 0.01, Duration.ofMillis(500));
+    }
+
+    private static String outcome(SimulatedEligibilityPolicy policy, String cpf) {
+        return policy.evaluate(cpf)
+                .map(CPFStatus::name)
+                .onErrorResume(InvalidCpfException.class, error -> Mono.just("INVALID"))
+                .block();
+    }
+
+    private static String firstAccepted(SimulatedEligibilityPolicy policy) {
+        for (long i = 0; ; i++) {
+            String cpf = Long.toString(10_000_000_000L + i);
+            if (policy.hashToUnit(cpf, 0) >= 0.2) {
+                return cpf;
+            }
+        }
+    }
+}
@@ -1,16 +1,26 @@
 package br.com.hahn.validador.domain.service;
 
 
+import br.com.hahn.validador.domain.dto.response.CpfBatchValidationResponseDTO;
+import br.com.hahn.validador.domain.dto.response.CpfValidationOutcomeDTO;
 import br.com.hahn.validador.domain.dto.response.CpfValidationResponseDTO;
 import br.com.hahn.validador.domain.enums.CPFStatus;
 import br.com.hahn.validador.domain.exception.InvalidCpfException;
+import br.com.hahn.validador.domain.policy.EligibilityPolicy;
+import br.com.hahn.validador.domain.policy.RandomEligibilityPolicy;
+import br.com.hahn.validador.infraestracture.metrics.CpfValidationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
-import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -19,16 +29,15 @@ class CpfValidationServiceTest {
 
     private CpfValidationService service;
     private Random mockRandom;
+    private SimpleMeterRegistry meterRegistry;
+    private CpfValidationMetrics metrics;
 
     @BeforeEach
-    void setUp() throws Exception {
-        service = new CpfValidationService();
+    void setUp() {
         mockRandom = Mockito.mock(Random.class);
-
-        // Injetar mockRandom via reflection
-        Field randomField = CpfValidationService.class.getDeclaredField("random");
-        randomField.setAccessible(true);
-        randomField.set(service, mockRandom);
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new CpfValidationMetrics(meterRegistry, new Duration[]{Duration.ofMillis(1)});
+        service = new CpfValidationService(new RandomEligibilityPolicy(() -> mockRandom), metrics, 4);
     }
 
     @Test
@@ -57,7 +66,7 @@ class CpfValidationServiceTest {
 
     @Test
     void validateCpf_shouldThrowInvalidCpfException_whenRandomRejectsCpf() {
-        String validCpf = "12345678901";
+        String validCpf = "52998224725";
         Mockito.when(mockRandom.nextDouble()).thenReturn(0.2); // < 0.3, rejeita
         Mono<CpfValidationResponseDTO> result = service.validateCpf(validCpf);
 
@@ -68,7 +77,7 @@ class CpfValidationServiceTest {
 
     @Test
     void validateCpf_shouldReturnAbleToVote_whenRandomReturnsTrue() {
-        String validCpf = "12345678901";
+        String validCpf = "52998224725";
         Mockito.when(mockRandom.nextDouble()).thenReturn(0.5); // > 0.3, aceita
         Mockito.when(mockRandom.nextBoolean()).thenReturn(true);
 
@@ -81,7 +90,7 @@ class CpfValidationServiceTest {
 
     @Test
     void validateCpf_shouldReturnUnableToVote_whenRandomReturnsFalse() {
-        String validCpf = "12345678901";
+        String validCpf = "52998224725";
         Mockito.when(mockRandom.nextDouble()).thenReturn(0.5); // > 0.3, aceita
         Mockito.when(mockRandom.nextBoolean()).thenReturn(false);
 
@@ -92,6 +101,120 @@ class CpfValidationServiceTest {
         assertThat(dto.cpfStatus()).isEqualTo(CPFStatus.UNABLE_TO_VOTE);
     }
 
+    @Test
+    void validateCpfs_shouldReturnOutcomePerCpfInRequestOrder() {
+        Mockito.when(mockRandom.nextDouble()).thenReturn(0.5);
+        Mockito.when(mockRandom.nextBoolean()).thenReturn(true, false);
+
+        CpfBatchValidationResponseDTO response = service.validateCpfs(List.of("52998224725", "52998224724", "98765432100")).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.results()).hasSize(3);
+        assertThat(response.results().get(0).cpf()).isEqualTo("52998224725");
+        assertThat(response.results().get(0).cpfStatus()).isEqualTo(CPFStatus.ABLE_TO_VOTE);
+        assertThat(response.results().get(1).cpfStatus()).isNull();
+        assertThat(response.results().get(1).error()).contains("Invalid CPF format");
+        assertThat(response.results().get(2).cpfStatus()).isEqualTo(CPFStatus.UNABLE_TO_VOTE);
+    }
+
+    @Test
+    void validateCpfStream_shouldKeepInputOrder_whenEvaluationsCompleteOutOfOrder() {
+        EligibilityPolicy slowFirst = cpf -> Mono.just(CPFStatus.ABLE_TO_VOTE)
+                .delayElement(Duration.ofMillis(cpf.equals("52998224725") ? 100 : 1));
+        CpfValidationService streamingService = new CpfValidationService(slowFirst, metrics, 4);
+
+        StepVerifier.create(streamingService.validateCpfStream(Flux.just("52998224725", "11111111111", "11144477735")))
+                .expectNext(CpfValidationOutcomeDTO.valid("52998224725", CPFStatus.ABLE_TO_VOTE))
+                .expectNext(CpfValidationOutcomeDTO.invalid("11111111111", "Invalid CPF format"))
+                .expectNext(CpfValidationOutcomeDTO.valid("11144477735", CPFStatus.ABLE_TO_VOTE))
+                .verifyComplete();
+    }
+
+    @Test
+    void validateCpfStream_shouldTurnPolicyRejectionIntoOutcome() {
+        Mockito.when(mockRandom.nextDouble()).thenReturn(0.1);
+
+        StepVerifier.create(service.validateCpfStream(Flux.just("52998224725")))
+                .expectNextMatches(outcome -> outcome.cpfStatus() == null && outcome.error() != null)
+                .verifyComplete();
+    }
+
+    @Test
+    void validateCpfStream_shouldReadInputOnlyAsResultsAreRequested() {
+        Mockito.when(mockRandom.nextDouble()).thenReturn(0.5);
+        Mockito.when(mockRandom.nextBoolean()).thenReturn(true);
+        AtomicLong requested = new AtomicLong();
+        Flux<String> input = Flux.range(0, 10_000)
+                .map(i -> "52998224725")
+                .doOnRequest(requested::addAndGet);
+
+        StepVerifier.create(service.validateCpfStream(input), 0)
+                .thenRequest(2)
+                .expectNextCount(2)
+                .then(() -> assertThat(requested.get()).isLessThanOrEqualTo(8))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void validateCpfs_shouldEvaluateDelayedCpfsConcurrently() {
+        EligibilityPolicy delayed = cpf -> Mono.just(CPFStatus.ABLE_TO_VOTE).delayElement(Duration.ofMillis(200));
+        CpfValidationService concurrentService = new CpfValidationService(delayed, metrics, 16);
+        List<String> cpfs = List.of("52998224725", "11144477735", "12345678909", "39053344705",
+                "98765432100", "52998224725", "11144477735", "12345678909");
+
+        long start = System.nanoTime();
+        CpfBatchValidationResponseDTO response = concurrentService.validateCpfs(cpfs).block();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(response).isNotNull();
+        assertThat(response.results()).extracting(CpfValidationOutcomeDTO::cpf).containsExactlyElementsOf(cpfs);
+        assertThat(elapsed).isLessThan(Duration.ofMillis(800));
+    }
+
+    @Test
+    void validateCpfs_shouldCountOutcomesAndRequestSize() {
+        Mockito.when(mockRandom.nextDouble()).thenReturn(0.5, 0.1);
+        Mockito.when(mockRandom.nextBoolean()).thenReturn(true);
+
+        service.validateCpfs(List.of("52998224725", "52998224724", "11144477735")).block();
+
+        assertThat(outcomeCount("batch", "able_to_vote")).isEqualTo(1.0);
+        assertThat(outcomeCount("batch", "invalid_format")).isEqualTo(1.0);
+        assertThat(outcomeCount("batch", "rejected")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cpf.validation.duration").tag("mode", "batch").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("cpf.validation.request.size").tag("mode", "batch").summary().totalAmount()).isEqualTo(3.0);
+        assertThat(metrics.inflight()).isZero();
+    }
+
+    @Test
+    void validateCpf_shouldCountPolicyFailureAsError() {
+        EligibilityPolicy failing = cpf -> Mono.error(new IllegalStateException("registry unavailable"));
+        CpfValidationService failingService = new CpfValidationService(failing, metrics, 4);
+
+        StepVerifier.create(failingService.validateCpf("52998224725"))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertThat(outcomeCount("single", "error")).isEqualTo(1.0);
+        assertThat(metrics.inflight()).isZero();
+    }
+
+    @Test
+    void validateCpfStream_shouldRecordStreamSizeAndReleaseInflightOnCancel() {
+        EligibilityPolicy never = cpf -> Mono.never();
+        CpfValidationService slowService = new CpfValidationService(never, metrics, 4);
+
+        StepVerifier.create(slowService.validateCpfStream(Flux.just("52998224725", "11144477735")))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(20))
+                .thenCancel()
+                .verify();
+
+        assertThat(metrics.inflight()).isZero();
+        assertThat(meterRegistry.get("cpf.validation.request.size").tag("mode", "stream").summary().count()).isEqualTo(1);
+    }
+
     @Test
     void isValidCpfFormat_shouldReturnFalse_whenCpfIsNull(){
         // Teste indireto via validateCpf
@@ -127,5 +250,8 @@ class CpfValidationServiceTest {
                 .toString();
         assertThat(maskedShort).isEqualTo("***.***.***-**");
     }
-}
 
+    private double outcomeCount(String mode, String outcome) {
+        return meterRegistry.get("cpf.validation.outcomes").tags("mode", mode, "outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.hahn.validador.domain.validation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CpfValidatorTest {
+
+    @Test
+    void isValid_shouldAcceptCpfsWithCorrectCheckDigits() {
+        assertThat(CpfValidator.isValid("52998224725")).isTrue();
+        assertThat(CpfValidator.isValid("11144477735")).isTrue();
+        assertThat(CpfValidator.isValid("12345678909")).isTrue();
+        assertThat(CpfValidator.isValid("98765432100")).isTrue();
+    }
+
+    @Test
+    void isValid_shouldRejectWrongCheckDigits() {
+        assertThat(CpfValidator.isValid("52998224724")).isFalse();
+        assertThat(CpfValidator.isValid("52998224715")).isFalse();
+        assertThat(CpfValidator.isValid("12345678901")).isFalse();
+    }
+
+    @Test
+    void isValid_shouldRejectRepeatedDigits() {
+        for (char digit = '0'; digit <= '9'; digit++) {
+            assertThat(CpfValidator.isValid(String.valueOf(digit).repeat(11))).isFalse();
+        }
+    }
+
+    @Test
+    void isValid_shouldRejectMalformedInput() {
+        assertThat(CpfValidator.isValid(null)).isFalse();
+        assertThat(CpfValidator.isValid("")).isFalse();
+        assertThat(CpfValidator.isValid("5299822472")).isFalse();
+        assertThat(CpfValidator.isValid("529982247250")).isFalse();
+        assertThat(CpfValidator.isValid("529.982.247-25")).isFalse();
+        assertThat(CpfValidator.isValid("5299822472a")).isFalse();
+        assertThat(CpfValidator.isValid("529982247/5")).isFalse();
+    }
+}
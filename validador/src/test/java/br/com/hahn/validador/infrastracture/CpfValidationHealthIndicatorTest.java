@@ -2,10 +2,10 @@ package br.com.hahn.validador.infrastracture;
 
 
 
-import br.com.hahn.validador.domain.dto.response.CpfValidationResponseDTO;
-import br.com.hahn.validador.domain.enums.CPFStatus;
-import br.com.hahn.validador.domain.service.CpfValidationService;
+import br.com.hahn.validador.domain.policy.EligibilityPolicy;
 import br.com.hahn.validador.infraestracture.CpfValidationHealthIndicator;
+import br.com.hahn.validador.infraestracture.metrics.CpfValidationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -14,24 +14,29 @@ import org.springframework.boot.actuate.health.Status;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 
 class CpfValidationHealthIndicatorTest {
 
-    private CpfValidationService cpfValidationService;
+    private EligibilityPolicy eligibilityPolicy;
+    private CpfValidationMetrics cpfValidationMetrics;
     private CpfValidationHealthIndicator healthIndicator;
 
     @BeforeEach
     void setUp() {
-        cpfValidationService = Mockito.mock(CpfValidationService.class);
-        healthIndicator = new CpfValidationHealthIndicator(cpfValidationService);
+        eligibilityPolicy = Mockito.mock(EligibilityPolicy.class);
+        cpfValidationMetrics = new CpfValidationMetrics(new SimpleMeterRegistry(), new Duration[]{Duration.ofMillis(1)});
+        healthIndicator = new CpfValidationHealthIndicator(eligibilityPolicy, cpfValidationMetrics);
     }
 
     @Test
-    void healthShouldReturnUpWhenServiceIsHealthy() {
-        Mockito.when(cpfValidationService.validateCpf(anyString()))
-                .thenReturn(Mono.just(new CpfValidationResponseDTO(CPFStatus.ABLE_TO_VOTE)));
+    void healthShouldReturnUpWithPolicyDetails() {
+        Mockito.when(eligibilityPolicy.describe()).thenReturn(Map.of("registryEntries", 10L));
+        cpfValidationMetrics.start(CpfValidationMetrics.Mode.SINGLE);
 
         Mono<Health> healthMono = healthIndicator.health();
 
@@ -40,60 +45,41 @@ class CpfValidationHealthIndicatorTest {
                     assertThat(health.getStatus()).isEqualTo(Status.UP);
                     assertThat(health.getDetails()).containsEntry("status", "CPF validation service is operational");
                     assertThat(health.getDetails()).containsEntry("service", "ms-valida-cpf");
+                    assertThat(health.getDetails()).containsEntry("registryEntries", 10L);
+                    assertThat(health.getDetails()).containsEntry("inflight", 1);
+                    assertThat(health.getDetails()).containsKey("policy");
                     assertThat(health.getDetails().get("timestamp")).isInstanceOf(Long.class);
                 })
                 .verifyComplete();
     }
 
     @Test
-    void healthShouldReturnDownWhenServiceIsNotHealthy() {
-        Mockito.when(cpfValidationService.validateCpf(anyString()))
-                .thenReturn(Mono.error(new RuntimeException("Service error")));
+    void healthShouldNotEvaluateAnyCpf() {
+        Mockito.when(eligibilityPolicy.describe()).thenReturn(Map.of());
 
-        Mono<Health> healthMono = healthIndicator.health();
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(healthIndicator.health())
+                    .expectNextMatches(health -> health.getStatus() == Status.UP)
+                    .verifyComplete();
+        }
 
-        StepVerifier.create(healthMono)
-                .assertNext(health -> {
-                    assertThat(health.getStatus()).isEqualTo(Status.DOWN);
-                    assertThat(health.getDetails()).containsEntry("status", "CPF validation service is not responding correctly");
-                    assertThat(health.getDetails()).containsEntry("service", "ms-valida-cpf");
-                    assertThat(health.getDetails().get("timestamp")).isInstanceOf(Long.class);
-                })
-                .verifyComplete();
+        Mockito.verify(eligibilityPolicy, Mockito.never()).evaluate(anyString());
     }
 
     @Test
-    void healthShouldReturnDownWhenServiceReturnsFalse() {
-        Mockito.when(cpfValidationService.validateCpf(anyString()))
-                .thenReturn(Mono.error(new IllegalArgumentException("Invalid CPF")));
+    void healthShouldReturnDownWhenPolicyCannotDescribeItself() {
+        Mockito.when(eligibilityPolicy.describe()).thenThrow(new IllegalStateException("registry closed"));
 
         Mono<Health> healthMono = healthIndicator.health();
 
         StepVerifier.create(healthMono)
                 .assertNext(health -> {
                     assertThat(health.getStatus()).isEqualTo(Status.DOWN);
-                    assertThat(health.getDetails()).containsEntry("status", "CPF validation service is not responding correctly");
-                    assertThat(health.getDetails()).containsEntry("service", "ms-valida-cpf");
-                    assertThat(health.getDetails().get("timestamp")).isInstanceOf(Long.class);
-                })
-                .verifyComplete();
-    }
-
-    @Test
-    void healthShouldReturnDownOnTimeout() {
-        Mockito.when(cpfValidationService.validateCpf(anyString()))
-                .thenReturn(Mono.never());
-
-        Mono<Health> healthMono = healthIndicator.health();
-
-        StepVerifier.create(healthMono)
-                .assertNext(health -> {
-                    assertThat(health.getStatus()).isEqualTo(Status.DOWN);
-                    assertThat(health.getDetails()).containsEntry("status", "CPF validation service is not responding correctly");
+                    assertThat(health.getDetails()).containsEntry("status", "CPF validation service health check failed");
+                    assertThat(health.getDetails()).containsEntry("error", "registry closed");
                     assertThat(health.getDetails()).containsEntry("service", "ms-valida-cpf");
                     assertThat(health.getDetails().get("timestamp")).isInstanceOf(Long.class);
                 })
                 .verifyComplete();
     }
 }
-
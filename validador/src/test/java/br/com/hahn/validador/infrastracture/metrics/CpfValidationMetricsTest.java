@@ -0,0 +1,72 @@
+package br.com.hahn.validador.infrastracture.metrics;
+
+import br.com.hahn.validador.infraestracture.metrics.CpfValidationMetrics;
+import br.com.hahn.validador.infraestracture.metrics.CpfValidationMetrics.Mode;
+import br.com.hahn.validador.infraestracture.metrics.CpfValidationMetrics.Outcome;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CpfValidationMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CpfValidationMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new CpfValidationMetrics(meterRegistry, new Duration[]{Duration.ofMillis(1), Duration.ofMillis(10)});
+    }
+
+    @Test
+    void shouldRegisterEveryModeAndOutcomeUpFront() {
+        assertThat(meterRegistry.find("cpf.validation.outcomes").counters())
+                .hasSize(Mode.values().length * Outcome.values().length);
+        assertThat(meterRegistry.find("cpf.validation.duration").timers()).hasSize(Mode.values().length);
+        assertThat(meterRegistry.get("cpf.validation.inflight").gauge().value()).isZero();
+    }
+
+    @Test
+    void evaluation_shouldRecordOutcomeDurationAndInflight() {
+        CpfValidationMetrics.Evaluation evaluation = metrics.start(Mode.STREAM);
+
+        assertThat(metrics.inflight()).isEqualTo(1);
+
+        evaluation.record(Outcome.ABLE_TO_VOTE);
+        evaluation.release();
+
+        assertThat(metrics.inflight()).isZero();
+        assertThat(meterRegistry.get("cpf.validation.outcomes")
+                .tags("mode", "stream", "outcome", "able_to_vote").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cpf.validation.duration").tag("mode", "stream").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void duration_shouldExposeSloBuckets() {
+        Timer timer = meterRegistry.get("cpf.validation.duration").tag("mode", "single").timer();
+        timer.record(5, TimeUnit.MILLISECONDS);
+
+        CountAtBucket[] buckets = timer.takeSnapshot().histogramCounts();
+
+        assertThat(Arrays.stream(buckets).map(bucket -> bucket.bucket(TimeUnit.MILLISECONDS)))
+                .containsExactly(1.0, 10.0);
+        assertThat(buckets[0].count()).isZero();
+        assertThat(buckets[1].count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void requestSize_shouldRecordCpfsPerRequest() {
+        metrics.recordRequestSize(Mode.BATCH, 64);
+
+        assertThat(meterRegistry.get("cpf.validation.request.size").tag("mode", "batch").summary().totalAmount())
+                .isEqualTo(64.0);
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.hahn.validador.infrastracture.registry;
+
+import br.com.hahn.validador.infraestracture.registry.EligibilityRegistry;
+import br.com.hahn.validador.infraestracture.registry.EligibilityRegistry.Format;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EligibilityRegistryTest {
+
+    private static final int[] BASES = {0, 63, 64, 111_444_777, 529_982_247, 999_999_999};
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void contains_shouldFindOnlyRegisteredBases() throws IOException {
+        for (Format format : Format.values()) {
+            Path file = dir.resolve(format + ".bin");
+            EligibilityRegistry.write(file, BASES, format);
+
+            EligibilityRegistry registry = EligibilityRegistry.open(file);
+
+            assertThat(registry.format()).isEqualTo(format);
+            assertThat(registry.count()).isEqualTo(BASES.length);
+            for (int base : BASES) {
+                assertThat(registry.contains(base)).as("%s contém %d", format, base).isTrue();
+            }
+            assertThat(registry.contains(1)).isFalse();
+            assertThat(registry.contains(65)).isFalse();
+            assertThat(registry.contains(529_982_246)).isFalse();
+            assertThat(registry.contains(999_999_998)).isFalse();
+            assertThat(registry.contains(-1)).isFalse();
+        }
+    }
+
+    @Test
+    void contains_shouldAnswerFalse_whenRegistryIsEmpty() throws IOException {
+        for (Format format : Format.values()) {
+            Path file = dir.resolve("empty-" + format + ".bin");
+            EligibilityRegistry.write(file, new int[0], format);
+
+            assertThat(EligibilityRegistry.open(file).contains(529_982_247)).isFalse();
+        }
+    }
+
+    @Test
+    void bitset_shouldBeTruncatedAtHighestBase() throws IOException {
+        Path file = dir.resolve("small.bin");
+        EligibilityRegistry.write(file, new int[]{10, 1_000}, Format.BITSET);
+
+        assertThat(Files.size(file)).isEqualTo(16 + (1_000 / 64 + 1) * 8L);
+        assertThat(EligibilityRegistry.open(file).contains(999_999_999)).isFalse();
+    }
+
+    @Test
+    void baseOf_shouldReadFirstNineDigits() {
+        assertThat(EligibilityRegistry.baseOf("52998224725")).isEqualTo(529_982_247);
+        assertThat(EligibilityRegistry.baseOf("00000000191")).isEqualTo(1);
+    }
+
+    @Test
+    void write_shouldRejectUnsortedBases() {
+        assertThatThrownBy(() -> EligibilityRegistry.write(dir.resolve("bad.bin"), new int[]{5, 3}, Format.SORTED))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void open_shouldRejectFileWithoutHeader() throws IOException {
+        Path file = dir.resolve("garbage.bin");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20});
+
+        assertThatThrownBy(() -> EligibilityRegistry.open(file)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void open_shouldRejectTruncatedSortedFile() throws IOException {
+        Path file = dir.resolve("registry.bin");
+        EligibilityRegistry.write(file, BASES, Format.SORTED);
+        byte[] bytes = Files.readAllBytes(file);
+        Path truncated = dir.resolve("truncated.bin");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 4));
+
+        assertThatThrownBy(() -> EligibilityRegistry.open(truncated)).isInstanceOf(IOException.class);
+    }
+}